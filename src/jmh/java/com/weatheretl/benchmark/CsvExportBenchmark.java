@@ -0,0 +1,77 @@
+package com.weatheretl.benchmark;
+
+import com.opencsv.bean.StatefulBeanToCsv;
+import com.opencsv.bean.StatefulBeanToCsvBuilder;
+import com.weatheretl.model.output.WeatherRecord;
+import com.weatheretl.service.WeatherCsvWriter;
+import com.weatheretl.service.WeatherTransformer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.FileWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the streaming {@link WeatherCsvWriter} with the opencsv {@code StatefulBeanToCsv}
+ * export it replaced, writing the same records to a temporary file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CsvExportBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private List<WeatherRecord> records;
+    private Path target;
+
+    @Setup
+    public void setUp() throws Exception {
+        List<WeatherRecord> year = new WeatherTransformer().transformWeatherData(SyntheticWeatherData.response(365));
+        records = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            records.add(year.get(i % year.size()));
+        }
+        target = Files.createTempFile("weather-export", ".csv");
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(target);
+    }
+
+    @Benchmark
+    public long streamingWriter() throws Exception {
+        try (WeatherCsvWriter writer = WeatherCsvWriter.open(target)) {
+            for (WeatherRecord record : records) {
+                writer.write(record);
+            }
+            return writer.getRowsWritten();
+        }
+    }
+
+    @Benchmark
+    public long opencsvBeanWriter() throws Exception {
+        try (FileWriter writer = new FileWriter(target.toFile())) {
+            StatefulBeanToCsv<WeatherRecord> beanToCsv = new StatefulBeanToCsvBuilder<WeatherRecord>(writer)
+                    .withSeparator(',')
+                    .withQuotechar('"')
+                    .withEscapechar('\\')
+                    .build();
+            beanToCsv.write(records);
+        }
+        return Files.size(target);
+    }
+}
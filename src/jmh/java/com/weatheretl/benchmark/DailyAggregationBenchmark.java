@@ -0,0 +1,149 @@
+package com.weatheretl.benchmark;
+
+import com.weatheretl.model.api.HourlyColumns;
+import com.weatheretl.model.api.HourlyVariable;
+import com.weatheretl.model.api.WeatherApiModels.DailyData;
+import com.weatheretl.service.DailyAggregates;
+import com.weatheretl.util.DayBuckets;
+import com.weatheretl.util.WeatherConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.weatheretl.model.api.HourlyVariable.APPARENT_TEMPERATURE;
+import static com.weatheretl.model.api.HourlyVariable.DEW_POINT_2M;
+import static com.weatheretl.model.api.HourlyVariable.RAIN;
+import static com.weatheretl.model.api.HourlyVariable.RELATIVE_HUMIDITY_2M;
+import static com.weatheretl.model.api.HourlyVariable.SHOWERS;
+import static com.weatheretl.model.api.HourlyVariable.SNOWFALL;
+import static com.weatheretl.model.api.HourlyVariable.SOIL_TEMPERATURE_0CM;
+import static com.weatheretl.model.api.HourlyVariable.SOIL_TEMPERATURE_6CM;
+import static com.weatheretl.model.api.HourlyVariable.TEMPERATURE_120M;
+import static com.weatheretl.model.api.HourlyVariable.TEMPERATURE_2M;
+import static com.weatheretl.model.api.HourlyVariable.TEMPERATURE_80M;
+import static com.weatheretl.model.api.HourlyVariable.VISIBILITY;
+import static com.weatheretl.model.api.HourlyVariable.WIND_SPEED_10M;
+import static com.weatheretl.model.api.HourlyVariable.WIND_SPEED_80M;
+
+/**
+ * Compares the fused {@link DailyAggregates} sweep with the per-field path it replaced:
+ * one pass over the day per 24h metric (wind speed and temperatures twice) plus one
+ * full-series daylight scan per daylight metric.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DailyAggregationBenchmark {
+
+    private static final HourlyVariable[] DAY_AVERAGES = {
+            TEMPERATURE_2M, RELATIVE_HUMIDITY_2M, DEW_POINT_2M, APPARENT_TEMPERATURE, TEMPERATURE_80M,
+            TEMPERATURE_120M, WIND_SPEED_10M, WIND_SPEED_80M, VISIBILITY,
+            WIND_SPEED_10M, WIND_SPEED_80M, TEMPERATURE_2M, APPARENT_TEMPERATURE, TEMPERATURE_80M,
+            TEMPERATURE_120M, SOIL_TEMPERATURE_0CM, SOIL_TEMPERATURE_6CM
+    };
+    private static final HourlyVariable[] DAY_SUMS = {RAIN, SHOWERS, SNOWFALL, RAIN, SHOWERS, SNOWFALL};
+    private static final HourlyVariable[] DAYLIGHT_AVERAGES = {
+            TEMPERATURE_2M, RELATIVE_HUMIDITY_2M, DEW_POINT_2M, APPARENT_TEMPERATURE, TEMPERATURE_80M,
+            TEMPERATURE_120M, WIND_SPEED_10M, WIND_SPEED_80M, VISIBILITY
+    };
+    private static final HourlyVariable[] DAYLIGHT_SUMS = {RAIN, SHOWERS, SNOWFALL};
+
+    @Param({"7", "365"})
+    private int days;
+
+    private HourlyColumns hourly;
+    private DayBuckets buckets;
+    private long[] sunrise;
+    private long[] sunset;
+
+    @Setup
+    public void setUp() {
+        hourly = HourlyColumns.from(SyntheticWeatherData.hourly(days));
+        buckets = DayBuckets.of(hourly.getTime());
+        DailyData daily = SyntheticWeatherData.daily(days);
+        sunrise = daily.getSunrise().stream().mapToLong(Long::longValue).toArray();
+        sunset = daily.getSunset().stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @Benchmark
+    public void fusedKernel(Blackhole blackhole) {
+        for (int bucket = 0; bucket < buckets.size(); bucket++) {
+            blackhole.consume(DailyAggregates.compute(hourly, buckets, bucket, sunrise[bucket], sunset[bucket]));
+        }
+    }
+
+    @Benchmark
+    public void perFieldPasses(Blackhole blackhole) {
+        long[] time = hourly.getTime();
+        for (int bucket = 0; bucket < buckets.size(); bucket++) {
+            for (HourlyVariable variable : DAY_AVERAGES) {
+                blackhole.consume(dayAverage(hourly.get(variable), bucket));
+            }
+            for (HourlyVariable variable : DAY_SUMS) {
+                blackhole.consume(daySum(hourly.get(variable), bucket));
+            }
+            for (HourlyVariable variable : DAYLIGHT_AVERAGES) {
+                blackhole.consume(daylightAverage(hourly.get(variable), time, sunrise[bucket], sunset[bucket]));
+            }
+            for (HourlyVariable variable : DAYLIGHT_SUMS) {
+                blackhole.consume(daylightSum(hourly.get(variable), time, sunrise[bucket], sunset[bucket]));
+            }
+        }
+    }
+
+    private Double dayAverage(double[] values, int bucket) {
+        double sum = 0.0;
+        int count = 0;
+        for (int i = buckets.start(bucket); i < buckets.end(bucket); i++) {
+            if (!Double.isNaN(values[i])) {
+                sum += values[i];
+                count++;
+            }
+        }
+        return count > 0 ? WeatherConverter.round(sum / count, 2) : null;
+    }
+
+    private Double daySum(double[] values, int bucket) {
+        double sum = 0.0;
+        for (int i = buckets.start(bucket); i < buckets.end(bucket); i++) {
+            if (!Double.isNaN(values[i])) {
+                sum += values[i];
+            }
+        }
+        return WeatherConverter.round(sum, 2);
+    }
+
+    private static Double daylightAverage(double[] values, long[] time, long sunrise, long sunset) {
+        double sum = 0.0;
+        int count = 0;
+        for (int i = 0; i < time.length; i++) {
+            if (time[i] >= sunrise && time[i] <= sunset && !Double.isNaN(values[i])) {
+                sum += values[i];
+                count++;
+            }
+        }
+        return count > 0 ? WeatherConverter.round(sum / count, 2) : null;
+    }
+
+    private static Double daylightSum(double[] values, long[] time, long sunrise, long sunset) {
+        double sum = 0.0;
+        boolean daylight = false;
+        for (int i = 0; i < time.length; i++) {
+            if (time[i] >= sunrise && time[i] <= sunset) {
+                daylight = true;
+                if (!Double.isNaN(values[i])) {
+                    sum += values[i];
+                }
+            }
+        }
+        return daylight ? WeatherConverter.round(sum, 2) : null;
+    }
+}
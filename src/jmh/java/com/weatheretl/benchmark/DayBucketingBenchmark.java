@@ -0,0 +1,78 @@
+package com.weatheretl.benchmark;
+
+import com.weatheretl.model.api.WeatherApiModels.HourlyData;
+import com.weatheretl.util.DayBuckets;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the former per-day rescan of the hourly series (O(days x hours))
+ * with the single-pass {@link DayBuckets} grouping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DayBucketingBenchmark {
+
+    @Param({"16", "90", "365"})
+    private int days;
+
+    private List<Long> timestamps;
+    private List<LocalDate> dates;
+
+    @Setup
+    public void setUp() {
+        HourlyData hourly = SyntheticWeatherData.hourly(days);
+        timestamps = hourly.getTime();
+        dates = new ArrayList<>(days);
+        for (int day = 0; day < days; day++) {
+            dates.add(LocalDate.ofEpochDay(DayBuckets.epochDayOf(SyntheticWeatherData.START_EPOCH_SECOND) + day));
+        }
+    }
+
+    @Benchmark
+    public void perDayRescan(Blackhole blackhole) {
+        for (LocalDate date : dates) {
+            blackhole.consume(hourlyIndicesForDay(timestamps, date));
+        }
+    }
+
+    @Benchmark
+    public void singlePassBuckets(Blackhole blackhole) {
+        DayBuckets buckets = DayBuckets.of(timestamps);
+        for (LocalDate date : dates) {
+            int bucket = buckets.indexOf(date);
+            blackhole.consume(buckets.end(bucket) - buckets.start(bucket));
+        }
+    }
+
+    private static List<Integer> hourlyIndicesForDay(List<Long> timestamps, LocalDate targetDate) {
+        List<Integer> indices = new ArrayList<>();
+        for (int i = 0; i < timestamps.size(); i++) {
+            Long timestamp = timestamps.get(i);
+            if (timestamp != null) {
+                LocalDate date = Instant.ofEpochSecond(timestamp)
+                        .atZone(ZoneOffset.UTC)
+                        .toLocalDate();
+                if (date.equals(targetDate)) {
+                    indices.add(i);
+                }
+            }
+        }
+        return indices;
+    }
+}
@@ -0,0 +1,83 @@
+package com.weatheretl.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.weatheretl.config.WeatherEtlConfig;
+import com.weatheretl.service.CsvExportService;
+import com.weatheretl.service.WeatherEtlService;
+import com.weatheretl.service.WeatherEtlService.EtlResult;
+import com.weatheretl.service.WeatherTransformer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Parses, transforms and exports a directory of archived responses with 1..N file workers.
+ * Compare the scores across {@code workers} to see the speedup up to the core count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonDirectoryIngestBenchmark {
+
+    private static final int FILES = 32;
+    private static final int DAYS_PER_FILE = 365;
+
+    @Param({"1", "2", "4", "8"})
+    private int workers;
+
+    private Path inputDir;
+    private Path outputDir;
+    private List<Path> jsonFiles;
+    private WeatherEtlService etlService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        inputDir = Files.createTempDirectory("weather-json");
+        outputDir = Files.createTempDirectory("weather-csv");
+        ObjectMapper objectMapper = new ObjectMapper();
+        jsonFiles = new ArrayList<>(FILES);
+        for (int i = 0; i < FILES; i++) {
+            Path file = inputDir.resolve("archive-" + i + ".json");
+            objectMapper.writeValue(file.toFile(), SyntheticWeatherData.response(DAYS_PER_FILE));
+            jsonFiles.add(file);
+        }
+        WeatherEtlConfig config = new WeatherEtlConfig();
+        etlService = new WeatherEtlService(null, new WeatherTransformer(), new CsvExportService(config),
+                null, null, config);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        deleteRecursively(inputDir);
+        deleteRecursively(outputDir);
+    }
+
+    @Benchmark
+    public EtlResult ingestDirectory() {
+        return etlService.processJsonFiles(jsonFiles, true, false, outputDir.toString(), null, workers);
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
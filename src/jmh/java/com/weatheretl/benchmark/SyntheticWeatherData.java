@@ -0,0 +1,93 @@
+package com.weatheretl.benchmark;
+
+import com.weatheretl.model.api.WeatherApiModels.DailyData;
+import com.weatheretl.model.api.WeatherApiModels.HourlyData;
+import com.weatheretl.model.api.WeatherApiModels.WeatherApiResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+final class SyntheticWeatherData {
+    static final long START_EPOCH_SECOND = 1704067200L; // 2024-01-01T00:00:00Z
+
+    private SyntheticWeatherData() {
+    }
+
+    static WeatherApiResponse response(int days) {
+        return WeatherApiResponse.builder()
+                .latitude(55.0344)
+                .longitude(82.9434)
+                .generationTimeMs(1.0)
+                .timezone("GMT")
+                .hourly(hourly(days))
+                .daily(daily(days))
+                .build();
+    }
+
+    static HourlyData hourly(int days) {
+        int hours = days * 24;
+        Random random = new Random(42);
+        List<Long> time = new ArrayList<>(hours);
+        for (int i = 0; i < hours; i++) {
+            time.add(START_EPOCH_SECOND + i * 3600L);
+        }
+        return HourlyData.builder()
+                .time(time)
+                .temperature2m(doubles(random, hours, 10.0, 80.0))
+                .relativeHumidity2m(ints(random, hours, 20, 100))
+                .dewPoint2m(doubles(random, hours, 0.0, 60.0))
+                .apparentTemperature(doubles(random, hours, 5.0, 85.0))
+                .temperature80m(doubles(random, hours, 10.0, 80.0))
+                .temperature120m(doubles(random, hours, 10.0, 80.0))
+                .windSpeed10m(doubles(random, hours, 0.0, 30.0))
+                .windSpeed80m(doubles(random, hours, 0.0, 40.0))
+                .windDirection10m(ints(random, hours, 0, 360))
+                .windDirection80m(ints(random, hours, 0, 360))
+                .visibility(doubles(random, hours, 1000.0, 80000.0))
+                .evapotranspiration(doubles(random, hours, 0.0, 0.02))
+                .weatherCode(ints(random, hours, 0, 99))
+                .soilTemperature0cm(doubles(random, hours, 20.0, 70.0))
+                .soilTemperature6cm(doubles(random, hours, 20.0, 70.0))
+                .rain(doubles(random, hours, 0.0, 0.1))
+                .showers(doubles(random, hours, 0.0, 0.05))
+                .snowfall(doubles(random, hours, 0.0, 0.02))
+                .build();
+    }
+
+    static DailyData daily(int days) {
+        List<Long> time = new ArrayList<>(days);
+        List<Long> sunrise = new ArrayList<>(days);
+        List<Long> sunset = new ArrayList<>(days);
+        List<Integer> daylightDuration = new ArrayList<>(days);
+        for (int day = 0; day < days; day++) {
+            long midnight = START_EPOCH_SECOND + day * 86_400L;
+            time.add(midnight);
+            sunrise.add(midnight + 7 * 3600L + 1800L);
+            sunset.add(midnight + 17 * 3600L + 900L);
+            daylightDuration.add(35_100);
+        }
+        return DailyData.builder()
+                .time(time)
+                .sunrise(sunrise)
+                .sunset(sunset)
+                .daylightDuration(daylightDuration)
+                .build();
+    }
+
+    private static List<Double> doubles(Random random, int size, double min, double max) {
+        List<Double> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(min + random.nextDouble() * (max - min));
+        }
+        return values;
+    }
+
+    private static List<Integer> ints(Random random, int size, int min, int max) {
+        List<Integer> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(min + random.nextInt(max - min));
+        }
+        return values;
+    }
+}
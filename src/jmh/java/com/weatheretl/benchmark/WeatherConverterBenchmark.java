@@ -0,0 +1,74 @@
+package com.weatheretl.benchmark;
+
+import com.weatheretl.model.api.HourlyColumns;
+import com.weatheretl.model.api.HourlyVariable;
+import com.weatheretl.model.api.WeatherApiModels.DailyData;
+import com.weatheretl.model.api.WeatherApiModels.HourlyData;
+import com.weatheretl.util.WeatherConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link WeatherConverter#round} and the daylight lookups, one call per day of the series:
+ * the boxed list scan and the binary search {@code DailyAggregates} uses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class WeatherConverterBenchmark {
+
+    @Param({"7", "365"})
+    private int days;
+
+    private List<Long> timeList;
+    private List<Double> temperatureList;
+    private long[] time;
+    private double[] temperature;
+    private long[] sunrise;
+    private long[] sunset;
+
+    @Setup
+    public void setUp() {
+        HourlyData hourly = SyntheticWeatherData.hourly(days);
+        timeList = hourly.getTime();
+        temperatureList = hourly.getTemperature2m();
+        HourlyColumns columns = HourlyColumns.from(hourly);
+        time = columns.getTime();
+        temperature = columns.get(HourlyVariable.TEMPERATURE_2M);
+        DailyData daily = SyntheticWeatherData.daily(days);
+        sunrise = daily.getSunrise().stream().mapToLong(Long::longValue).toArray();
+        sunset = daily.getSunset().stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @Benchmark
+    public void round(Blackhole blackhole) {
+        for (double value : temperature) {
+            blackhole.consume(WeatherConverter.round(value, 2));
+        }
+    }
+
+    @Benchmark
+    public void daylightAverageBoxedScan(Blackhole blackhole) {
+        for (int day = 0; day < sunrise.length; day++) {
+            blackhole.consume(WeatherConverter.calculateDaylightAverage(
+                    temperatureList, timeList, sunrise[day], sunset[day]));
+        }
+    }
+
+    @Benchmark
+    public void findDaylightWindow(Blackhole blackhole) {
+        for (int day = 0; day < sunrise.length; day++) {
+            blackhole.consume(WeatherConverter.findDaylightWindow(time, sunrise[day], sunset[day]));
+        }
+    }
+}
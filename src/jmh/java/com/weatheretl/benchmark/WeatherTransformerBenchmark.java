@@ -0,0 +1,58 @@
+package com.weatheretl.benchmark;
+
+import com.weatheretl.model.api.HourlyColumns;
+import com.weatheretl.model.api.WeatherApiModels.ColumnarWeatherResponse;
+import com.weatheretl.model.api.WeatherApiModels.WeatherApiResponse;
+import com.weatheretl.model.output.WeatherRecord;
+import com.weatheretl.service.WeatherTransformer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link WeatherTransformer} on a week, a year and ten years of hourly data: the boxed
+ * {@code transformWeatherData} entry point, which converts rows to columns first, and the
+ * columnar entry point that the API client and the response store now feed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class WeatherTransformerBenchmark {
+
+    @Param({"7", "365", "3650"})
+    private int days;
+
+    private WeatherTransformer transformer;
+    private WeatherApiResponse response;
+    private ColumnarWeatherResponse columnarResponse;
+
+    @Setup
+    public void setUp() {
+        transformer = new WeatherTransformer();
+        response = SyntheticWeatherData.response(days);
+        columnarResponse = ColumnarWeatherResponse.builder()
+                .latitude(response.getLatitude())
+                .longitude(response.getLongitude())
+                .hourly(HourlyColumns.from(response.getHourly()))
+                .daily(response.getDaily())
+                .build();
+    }
+
+    @Benchmark
+    public List<WeatherRecord> transformWeatherData() {
+        return transformer.transformWeatherData(response);
+    }
+
+    @Benchmark
+    public List<WeatherRecord> transformColumnarData() {
+        return transformer.transformColumnarData(columnarResponse);
+    }
+}
@@ -1,8 +1,11 @@
 package com.weatheretl;
 
+import com.weatheretl.cli.CliStartup;
+import com.weatheretl.config.WeatherEtlRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.retry.annotation.EnableRetry;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -12,9 +15,14 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @EnableRetry
 @EnableAsync
 @EnableScheduling
+@ImportRuntimeHints(WeatherEtlRuntimeHints.class)
 public class WeatherEtlApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(WeatherEtlApplication.class, args);
+        SpringApplication application = new SpringApplication(WeatherEtlApplication.class);
+        if (CliStartup.isCliInvocation(args)) {
+            CliStartup.configure(application, args);
+        }
+        application.run(args);
     }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.weatheretl.cli;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lean start-up for CLI invocations: no embedded web server, lazy beans, and no database
+ * bootstrap (DataSource, Hibernate, Flyway, Liquibase) when the run writes CSV only.
+ */
+public final class CliStartup {
+
+    static final List<String> DATABASE_AUTO_CONFIGURATIONS = List.of(
+            "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration",
+            "org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration",
+            "org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration",
+            "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration",
+            "org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration",
+            "org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration",
+            "org.springframework.boot.autoconfigure.liquibase.LiquibaseAutoConfiguration");
+
+    private CliStartup() {
+    }
+
+    /**
+     * Any argument switches the application to CLI mode, the same rule {@link WeatherEtlCli} applies.
+     */
+    public static boolean isCliInvocation(String[] args) {
+        return args != null && args.length > 0;
+    }
+
+    public static void configure(SpringApplication application, String[] args) {
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setLazyInitialization(true);
+        application.setDefaultProperties(defaultProperties(args));
+    }
+
+    static Map<String, Object> defaultProperties(String[] args) {
+        Map<String, Object> properties = new HashMap<>();
+        if (!needsDatabase(args)) {
+            properties.put("spring.autoconfigure.exclude", String.join(",", DATABASE_AUTO_CONFIGURATIONS));
+        }
+        return properties;
+    }
+
+    /**
+     * Help and {@code --output=csv} run without a database; every other output keeps the
+     * database bootstrap, including the migrations.
+     */
+    static boolean needsDatabase(String[] args) {
+        List<String> arguments = List.of(args);
+        if (arguments.contains("--help") || arguments.contains("-h")) {
+            return false;
+        }
+        return arguments.stream()
+                .filter(arg -> arg.startsWith("--output="))
+                .findFirst()
+                .map(arg -> !arg.substring("--output=".length()).equalsIgnoreCase("csv"))
+                .orElse(true);
+    }
+}
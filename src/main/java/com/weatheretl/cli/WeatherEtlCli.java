@@ -1,9 +1,12 @@
 package com.weatheretl.cli;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.weatheretl.model.api.WeatherApiModels.WeatherApiResponse;
+import com.weatheretl.config.WeatherEtlConfig.LoadMode;
+import com.weatheretl.model.api.WeatherApiModels.ColumnarWeatherResponse;
 import com.weatheretl.service.WeatherEtlService;
 import com.weatheretl.service.WeatherEtlService.EtlResult;
+import com.weatheretl.util.DateRange;
+import com.weatheretl.util.FileGlobs;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +14,9 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -60,7 +66,7 @@ public class WeatherEtlCli implements CommandLineRunner {
         String source = getArgumentValue(arguments, "--source");
         String output = getArgumentValue(arguments, "--output");
         if (source == null) {
-            throw new IllegalArgumentException("Source parameter is required. Use --source=api or --source=json");
+            throw new IllegalArgumentException("Source parameter is required. Use --source=api, --source=json or --source=store");
         }
         if (output == null) {
             throw new IllegalArgumentException("Output parameter is required. Use --output=csv, --output=database, or --output=all");
@@ -68,7 +74,8 @@ public class WeatherEtlCli implements CommandLineRunner {
         EtlResult result = switch (source.toLowerCase()) {
             case "api" -> processApiSource(arguments, output);
             case "json" -> processJsonSource(arguments, output);
-            default -> throw new IllegalArgumentException("Invalid source: " + source + ". Use 'api' or 'json'");
+            case "store" -> processStoreSource(arguments, output);
+            default -> throw new IllegalArgumentException("Invalid source: " + source + ". Use 'api', 'json' or 'store'");
         };
         printResult(result);
         if (!testMode) {
@@ -77,10 +84,84 @@ public class WeatherEtlCli implements CommandLineRunner {
     }
 
     private EtlResult processApiSource(List<String> arguments, String output) {
+        DateRange period = parsePeriod(arguments, "API");
+        LocalDate startDate = period.start();
+        LocalDate endDate = period.end();
+        String csvPath = getArgumentValue(arguments, "--csv-path");
+        LoadMode loadMode = parseLoadMode(arguments);
+        if (arguments.contains("--incremental")) {
+            if (!output.equalsIgnoreCase("database")) {
+                throw new IllegalArgumentException("--incremental is only supported with --output=database");
+            }
+            return weatherEtlService.executeIncrementalToDatabase(startDate, endDate, loadMode);
+        }
+        return switch (output.toLowerCase()) {
+            case "csv" -> weatherEtlService.executeApiToCsv(startDate, endDate, csvPath);
+            case "database" -> loadMode != null
+                    ? weatherEtlService.executeApiToDatabase(startDate, endDate, loadMode)
+                    : weatherEtlService.executeApiToDatabase(startDate, endDate);
+            case "all" -> loadMode != null
+                    ? weatherEtlService.executeApiToCsvAndDatabase(startDate, endDate, csvPath, loadMode)
+                    : weatherEtlService.executeApiToCsvAndDatabase(startDate, endDate, csvPath);
+            default ->
+                    throw new IllegalArgumentException("Invalid output: " + output + ". Use 'csv', 'database', or 'all'");
+        };
+    }
+
+    private EtlResult processStoreSource(List<String> arguments, String output) {
+        DateRange period = parsePeriod(arguments, "store");
+        boolean saveToCsv = isCsvOutput(output);
+        boolean saveToDatabase = !output.equalsIgnoreCase("csv");
+        return weatherEtlService.executeReplay(period.start(), period.end(), saveToCsv, saveToDatabase,
+                getArgumentValue(arguments, "--csv-path"), parseLoadMode(arguments));
+    }
+
+    private EtlResult processJsonSource(List<String> arguments, String output) throws Exception {
+        String jsonPath = getArgumentValue(arguments, "--json-path");
+        String jsonDir = getArgumentValue(arguments, "--json-dir");
+        if (jsonPath == null && jsonDir == null) {
+            throw new IllegalArgumentException("JSON path is required for JSON source. Use --json-path or --json-dir");
+        }
+        if (jsonDir != null || FileGlobs.isGlob(jsonPath)) {
+            return processJsonFiles(arguments, output, jsonDir != null ? Paths.get(jsonDir, "*.json").toString() : jsonPath);
+        }
+        File jsonFile = new File(jsonPath);
+        if (!jsonFile.exists()) {
+            throw new IllegalArgumentException("JSON file not found: " + jsonPath);
+        }
+        boolean streaming = isStreamingJsonMode(arguments);
+        ColumnarWeatherResponse apiResponse = streaming
+                ? null
+                : objectMapper.readValue(jsonFile, ColumnarWeatherResponse.class);
+        String csvPath = getArgumentValue(arguments, "--csv-path");
+        LoadMode loadMode = parseLoadMode(arguments);
+        boolean saveToCsv = isCsvOutput(output);
+        boolean saveToDatabase = !output.equalsIgnoreCase("csv");
+        if (streaming) {
+            return weatherEtlService.processJsonFile(jsonFile.toPath(), saveToCsv, saveToDatabase, csvPath, loadMode);
+        }
+        return loadMode != null
+                ? weatherEtlService.processJsonData(apiResponse, saveToCsv, saveToDatabase, csvPath, loadMode)
+                : weatherEtlService.processJsonData(apiResponse, saveToCsv, saveToDatabase, csvPath);
+    }
+
+    private EtlResult processJsonFiles(List<String> arguments, String output, String pattern) throws IOException {
+        List<Path> jsonFiles = FileGlobs.expand(pattern);
+        if (jsonFiles.isEmpty()) {
+            throw new IllegalArgumentException("No JSON files matched: " + pattern);
+        }
+        boolean saveToCsv = isCsvOutput(output);
+        boolean saveToDatabase = !output.equalsIgnoreCase("csv");
+        return weatherEtlService.processJsonFiles(jsonFiles, saveToCsv, saveToDatabase,
+                getArgumentValue(arguments, "--csv-path"), parseLoadMode(arguments), parseWorkers(arguments));
+    }
+
+    private DateRange parsePeriod(List<String> arguments, String source) {
         String startDateStr = getArgumentValue(arguments, "--start-date");
         String endDateStr = getArgumentValue(arguments, "--end-date");
         if (startDateStr == null || endDateStr == null) {
-            throw new IllegalArgumentException("Start date and end date are required for API source. Use --start-date and --end-date");
+            throw new IllegalArgumentException("Start date and end date are required for " + source
+                    + " source. Use --start-date and --end-date");
         }
         LocalDate startDate;
         LocalDate endDate;
@@ -93,34 +174,55 @@ public class WeatherEtlCli implements CommandLineRunner {
         if (startDate.isAfter(endDate)) {
             throw new IllegalArgumentException("Start date must be before or equal to end date");
         }
-        String csvPath = getArgumentValue(arguments, "--csv-path");
+        return new DateRange(startDate, endDate);
+    }
+
+    private boolean isCsvOutput(String output) {
         return switch (output.toLowerCase()) {
-            case "csv" -> weatherEtlService.executeApiToCsv(startDate, endDate, csvPath);
-            case "database" -> weatherEtlService.executeApiToDatabase(startDate, endDate);
-            case "all" -> weatherEtlService.executeApiToCsvAndDatabase(startDate, endDate, csvPath);
+            case "csv", "all" -> true;
+            case "database" -> false;
             default ->
                     throw new IllegalArgumentException("Invalid output: " + output + ". Use 'csv', 'database', or 'all'");
         };
     }
 
-    private EtlResult processJsonSource(List<String> arguments, String output) throws Exception {
-        String jsonPath = getArgumentValue(arguments, "--json-path");
-        if (jsonPath == null) {
-            throw new IllegalArgumentException("JSON path is required for JSON source. Use --json-path");
+    private int parseWorkers(List<String> arguments) {
+        String workers = getArgumentValue(arguments, "--workers");
+        if (workers == null) {
+            return Runtime.getRuntime().availableProcessors();
         }
-        File jsonFile = new File(jsonPath);
-        if (!jsonFile.exists()) {
-            throw new IllegalArgumentException("JSON file not found: " + jsonPath);
+        try {
+            int value = Integer.parseInt(workers);
+            if (value > 0) {
+                return value;
+            }
+        } catch (NumberFormatException ignored) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Invalid workers: " + workers + ". Use a positive number");
+    }
+
+    private boolean isStreamingJsonMode(List<String> arguments) {
+        String jsonMode = getArgumentValue(arguments, "--json-mode");
+        if (jsonMode == null || jsonMode.equalsIgnoreCase("buffered")) {
+            return false;
+        }
+        if (jsonMode.equalsIgnoreCase("streaming")) {
+            return true;
+        }
+        throw new IllegalArgumentException("Invalid JSON mode: " + jsonMode + ". Use 'buffered' or 'streaming'");
+    }
+
+    private LoadMode parseLoadMode(List<String> arguments) {
+        String loadMode = getArgumentValue(arguments, "--load-mode");
+        if (loadMode == null) {
+            return null;
+        }
+        try {
+            return LoadMode.valueOf(loadMode.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid load mode: " + loadMode + ". Use 'entity', 'batch', or 'copy'");
         }
-        WeatherApiResponse apiResponse = objectMapper.readValue(jsonFile, WeatherApiResponse.class);
-        String csvPath = getArgumentValue(arguments, "--csv-path");
-        return switch (output.toLowerCase()) {
-            case "csv" -> weatherEtlService.processJsonData(apiResponse, true, false, csvPath);
-            case "database" -> weatherEtlService.processJsonData(apiResponse, false, true, csvPath);
-            case "all" -> weatherEtlService.processJsonData(apiResponse, true, true, csvPath);
-            default ->
-                    throw new IllegalArgumentException("Invalid output: " + output + ". Use 'csv', 'database', or 'all'");
-        };
     }
 
     private String getArgumentValue(List<String> arguments, String argName) {
@@ -139,11 +241,24 @@ public class WeatherEtlCli implements CommandLineRunner {
         if (result.isSuccess()) {
             System.out.println("✅ SUCCESS");
             System.out.println("Records processed: " + result.getRecordsTransformed());
+            if (result.getFilesProcessed() > 0) {
+                System.out.println("Files processed: " + result.getFilesProcessed());
+            }
+            if (result.getDaysSkipped() > 0) {
+                System.out.println("Days already loaded: " + result.getDaysSkipped());
+            }
             System.out.println("CSV exported: " + (result.isCsvExported() ? "✅" : "❌"));
             System.out.println("Database saved: " + (result.isDatabaseSaved() ? "✅" : "❌"));
+            if (result.isDatabaseSaved()) {
+                System.out.println("Rows inserted/updated/unchanged: " + result.getRecordsInserted() + "/"
+                        + result.getRecordsUpdated() + "/" + result.getRecordsUnchanged());
+            }
         } else {
             System.out.println("❌ FAILED");
             System.out.println("Error: " + result.getErrorMessage());
+            if (result.getFilesFailed() > 0) {
+                System.out.println("Files failed: " + result.getFilesFailed() + " of " + result.getFilesProcessed());
+            }
         }
 
         if (result.getStartDate() != null && result.getEndDate() != null) {
@@ -175,16 +290,29 @@ public class WeatherEtlCli implements CommandLineRunner {
         System.out.println();
         System.out.println("OPTIONS:");
         System.out.println("  --source=<api|json>          Data source (required)");
+        System.out.println("  --source=store               Replay raw API responses kept on disk, without network");
         System.out.println("  --output=<csv|database|all>  Output destination (required)");
         System.out.println();
         System.out.println("FOR API SOURCE:");
         System.out.println("  --start-date=<yyyy-MM-dd>    Start date (required)");
         System.out.println("  --end-date=<yyyy-MM-dd>      End date (required)");
         System.out.println("  --csv-path=<path>            Custom CSV file path (optional)");
+        System.out.println("  --load-mode=<entity|batch|copy>  Database load strategy (optional)");
+        System.out.println("  --incremental                Fetch only days missing from the database (--output=database)");
+        System.out.println();
+        System.out.println("FOR STORE SOURCE:");
+        System.out.println("  --start-date=<yyyy-MM-dd>    Start date (required)");
+        System.out.println("  --end-date=<yyyy-MM-dd>      End date (required)");
+        System.out.println("  --csv-path=<path>            Custom CSV file path (optional)");
+        System.out.println("  --load-mode=<entity|batch|copy>  Database load strategy (optional)");
         System.out.println();
         System.out.println("FOR JSON SOURCE:");
-        System.out.println("  --json-path=<path>           Path to JSON file (required)");
+        System.out.println("  --json-path=<path|glob>      Path to JSON file or glob such as 'archive/**/*.json' (required)");
+        System.out.println("  --json-dir=<dir>             Process every *.json file in a directory (instead of --json-path)");
+        System.out.println("  --json-mode=<buffered|streaming>  Streaming keeps heap flat for huge files (optional)");
+        System.out.println("  --workers=<n>                Parallel file workers for --json-dir or globs (default: CPU cores)");
         System.out.println("  --csv-path=<path>            Custom CSV file path (optional)");
+        System.out.println("  --load-mode=<entity|batch|copy>  Database load strategy (optional)");
         System.out.println();
         System.out.println("EXAMPLES:");
         System.out.println("  # Extract from API and save to CSV");
@@ -221,6 +349,13 @@ public class WeatherEtlCli implements CommandLineRunner {
         System.out.println("    --output=database \\");
         System.out.println("    --json-path=/path/to/weather-data.json");
         System.out.println();
+        System.out.println("  # Process a directory of archived JSON files on 8 workers");
+        System.out.println("  java -jar weather-etl.jar \\");
+        System.out.println("    --source=json \\");
+        System.out.println("    --output=all \\");
+        System.out.println("    --json-dir=/archive/open-meteo \\");
+        System.out.println("    --workers=8");
+        System.out.println();
         System.out.println("DOCKER EXAMPLES:");
         System.out.println("  # Run in Docker container");
         System.out.println("  docker run --rm weather-etl:latest \\");
@@ -241,6 +376,9 @@ public class WeatherEtlCli implements CommandLineRunner {
         System.out.println("  • CSV files are created in ./output/ directory by default");
         System.out.println("  • Database connection settings are configured in application.yml");
         System.out.println("  • For large date ranges, consider using smaller batches");
+        System.out.println("  • Use --load-mode=copy for multi-million row backfills into PostgreSQL");
+        System.out.println("  • Use --json-mode=streaming for multi-gigabyte archived JSON responses");
+        System.out.println("  • With several JSON files, --csv-path is the directory for one CSV per input file");
         System.out.println("  • The application supports duplicate handling for database inserts");
         System.out.println();
         System.out.println("For web interface, run without arguments:");
@@ -0,0 +1,24 @@
+package com.weatheretl.config;
+
+import com.weatheretl.service.EtlConcurrencyLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Applies the ETL concurrency cap to the synchronous and reactive endpoints; background jobs
+ * take their permit in {@link com.weatheretl.service.EtlJobService} when a worker starts them.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class EtlConcurrencyConfig implements WebMvcConfigurer {
+
+    private final EtlConcurrencyLimiter limiter;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new EtlConcurrencyInterceptor(limiter))
+                .addPathPatterns("/api/v1/weather-etl/execute/**", "/api/v1/weather-etl/reactive/**");
+    }
+}
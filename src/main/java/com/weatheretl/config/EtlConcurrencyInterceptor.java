@@ -0,0 +1,60 @@
+package com.weatheretl.config;
+
+import com.weatheretl.service.EtlConcurrencyLimiter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.io.IOException;
+
+/**
+ * Holds an {@link EtlConcurrencyLimiter} permit for the whole ETL request. Requests that get
+ * no permit within {@code weather.execution.acquire-timeout} are answered with 503. Reactive
+ * endpoints keep the permit across the async dispatch and release it once the result is written.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class EtlConcurrencyInterceptor implements AsyncHandlerInterceptor {
+
+    static final String PERMIT_ATTRIBUTE = EtlConcurrencyInterceptor.class.getName() + ".PERMIT";
+
+    private final EtlConcurrencyLimiter limiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (!HttpMethod.POST.matches(request.getMethod()) || request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            return true;
+        }
+        boolean acquired;
+        try {
+            acquired = limiter.tryAcquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            log.warn("No ETL permit within {}, rejecting {}", limiter.getAcquireTimeout(), request.getRequestURI());
+            response.setHeader(HttpHeaders.RETRY_AFTER,
+                    String.valueOf(Math.max(1, limiter.getAcquireTimeout().toSeconds())));
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Too many concurrent ETL runs");
+            return false;
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            limiter.release();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.weatheretl.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.weatheretl.config.WeatherEtlConfig.CacheConfig;
+import com.weatheretl.service.WeatherResponseCache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+@EnableCaching
+public class ResponseCacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(WeatherEtlConfig config) {
+        CacheConfig cache = config.getApi().getCache();
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // Registered up front so Actuator binds the cache metrics at startup
+        cacheManager.registerCustomCache(WeatherResponseCache.CACHE_NAME, Caffeine.newBuilder()
+                .maximumSize(cache.getMaxEntries())
+                .expireAfter(new WeatherResponseCache.TtlPolicy(
+                        cache.getForecastTtl(), cache.getHistoricalTtl(), Clock.systemUTC()))
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+}
@@ -3,8 +3,11 @@ package com.weatheretl.config;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 @Data
 @Component
@@ -13,19 +16,96 @@ public class WeatherEtlConfig {
 
     private ApiConfig api = new ApiConfig();
     private DefaultLocationConfig defaultLocation = new DefaultLocationConfig();
+    private List<LocationConfig> locations = new ArrayList<>();
     private OutputConfig output = new OutputConfig();
+    private ExecutionConfig execution = new ExecutionConfig();
+    private IncrementalConfig incremental = new IncrementalConfig();
+    private JobsConfig jobs = new JobsConfig();
+    private ScheduleConfig schedule = new ScheduleConfig();
+
+    /**
+     * The configured locations, or the default location named "default" when none are listed.
+     */
+    public List<LocationConfig> resolveLocations() {
+        if (locations != null && !locations.isEmpty()) {
+            return locations;
+        }
+        LocationConfig location = new LocationConfig();
+        location.setName("default");
+        location.setLatitude(defaultLocation.getLatitude());
+        location.setLongitude(defaultLocation.getLongitude());
+        return List.of(location);
+    }
 
     @Data
     public static class ApiConfig {
         private String baseUrl = "https://api.open-meteo.com/v1/forecast";
         private Duration timeout = Duration.ofSeconds(30);
         private RetryConfig retry = new RetryConfig();
+        private int maxLocationsPerRequest = 50;
+        private ChunkConfig chunk = new ChunkConfig();
+        private CacheConfig cache = new CacheConfig();
+        private StoreConfig store = new StoreConfig();
+        private HttpConfig http = new HttpConfig();
+        private RateLimitConfig rateLimit = new RateLimitConfig();
+    }
+
+    @Data
+    public static class RateLimitConfig {
+        private boolean enabled = true;
+        private double requestsPerSecond = 10.0;
+        private int burst = 10;
+        private int initialConcurrency = 4;
+        private int minConcurrency = 1;
+        private int maxConcurrency = 16;
+        private double decreaseFactor = 0.5;
+    }
+
+    @Data
+    public static class HttpConfig {
+        private int maxConnections = 50;
+        private int pendingAcquireMaxCount = 500;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(45);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+        private Duration evictInBackground = Duration.ofSeconds(30);
+        private Duration connectTimeout = Duration.ofSeconds(5);
+        private boolean compression = true;
+        private boolean http2 = true;
+        private boolean metrics = true;
+    }
+
+    @Data
+    public static class StoreConfig {
+        private boolean enabled = false;
+        private String directory = "./data/responses";
+        private DataSize maxSize = DataSize.ofGigabytes(1);
+    }
+
+    @Data
+    public static class CacheConfig {
+        private boolean enabled = true;
+        private long maxEntries = 500;
+        private Duration forecastTtl = Duration.ofMinutes(15);
+        private Duration historicalTtl = Duration.ofHours(24);
+    }
+
+    @Data
+    public static class ChunkConfig {
+        private int days = 31;
+        private int parallelism = 4;
+        private int maxAttempts = 2;
     }
 
     @Data
     public static class RetryConfig {
         private int maxAttempts = 3;
         private Duration delay = Duration.ofSeconds(1);
+        private double multiplier = 2.0;
+        private Duration maxDelay = Duration.ofSeconds(30);
+        private double jitter = 0.2;
+        private boolean respectRetryAfter = true;
+        private Duration maxRetryAfter = Duration.ofMinutes(2);
     }
 
     @Data
@@ -34,9 +114,54 @@ public class WeatherEtlConfig {
         private double longitude = 82.9434;
     }
 
+    @Data
+    public static class LocationConfig {
+        private String name;
+        private double latitude;
+        private double longitude;
+        private Duration interval;
+    }
+
     @Data
     public static class OutputConfig {
         private String csvPath = "./output/weather_data.csv";
         private int batchSize = 1000;
+        private LoadMode loadMode = LoadMode.BATCH;
+    }
+
+    public enum LoadMode {
+        ENTITY,
+        BATCH,
+        COPY
+    }
+
+    @Data
+    public static class ExecutionConfig {
+        private int maxConcurrentJobs = 100;
+        private Duration acquireTimeout = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class JobsConfig {
+        private int workers = 2;
+        private int queueCapacity = 20;
+        private Duration retention = Duration.ofHours(1);
+    }
+
+    @Data
+    public static class ScheduleConfig {
+        private boolean enabled = false;
+        private Duration interval = Duration.ofHours(1);
+        private Duration jitter = Duration.ofMinutes(5);
+        private Duration tick = Duration.ofSeconds(30);
+        private int lookbackDays = 2;
+        private int catchUpDays = 30;
+        private int workers = 2;
+        private LoadMode loadMode;
+    }
+
+    @Data
+    public static class IncrementalConfig {
+        private int refreshRecentDays = 3;
     }
-}
\ No newline at end of file
+}
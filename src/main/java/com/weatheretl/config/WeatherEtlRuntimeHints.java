@@ -0,0 +1,39 @@
+package com.weatheretl.config;
+
+import com.weatheretl.model.api.HourlyColumns;
+import com.weatheretl.model.api.HourlyColumnsDeserializer;
+import com.weatheretl.model.api.HourlyColumnsSerializer;
+import com.weatheretl.model.api.WeatherApiModels.ColumnarWeatherResponse;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * Reflection and resource hints for the native CLI image that Spring AOT cannot infer on its own:
+ * Jackson binding of the Open-Meteo models, which are read through {@code WebClient} and
+ * {@code ObjectMapper} rather than controller signatures, the PostgreSQL driver loaded by class
+ * name, and the Liquibase changelogs.
+ */
+public class WeatherEtlRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final String POSTGRES_DRIVER = "org.postgresql.Driver";
+
+    private final BindingReflectionHintsRegistrar bindingHints = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // daily data is registered through the properties
+        bindingHints.registerReflectionHints(hints.reflection(), ColumnarWeatherResponse.class, HourlyColumns.class);
+        hints.reflection().registerType(HourlyColumnsDeserializer.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(HourlyColumnsSerializer.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        hints.reflection().registerType(TypeReference.of(POSTGRES_DRIVER), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.resources().registerPattern("org/postgresql/driverconfig.properties");
+        hints.resources().registerResourceBundle("org.postgresql.translation.messages");
+
+        hints.resources().registerPattern("db/changelog/*.yaml");
+        hints.resources().registerPattern("db/changelog/changeset/*.sql");
+    }
+}
@@ -1,26 +1,80 @@
 package com.weatheretl.config;
 
+import com.weatheretl.config.WeatherEtlConfig.HttpConfig;
 import com.weatheretl.service.WeatherApiClient;
+import io.netty.channel.ChannelOption;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
 @RequiredArgsConstructor
 public class WebClientConfig {
 
+    static final String POOL_NAME = "open-meteo";
+
+    private final WeatherEtlConfig config;
+
+    /**
+     * Shared connection pool for API requests, so concurrent fetches reuse warm TLS connections
+     * instead of opening one per request. With metrics enabled, the pool gauges are published
+     * to Actuator as {@code reactor.netty.connection.provider.*}.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider weatherConnectionProvider() {
+        HttpConfig http = config.getApi().getHttp();
+        return ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(http.getMaxConnections())
+                .pendingAcquireMaxCount(http.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(http.getPendingAcquireTimeout())
+                .maxIdleTime(http.getMaxIdleTime())
+                .maxLifeTime(http.getMaxLifeTime())
+                .evictInBackground(http.getEvictInBackground())
+                .metrics(http.isMetrics())
+                .build();
+    }
+
     @Bean
-    public WebClient webClient() {
+    public WebClient webClient(ConnectionProvider weatherConnectionProvider) {
         return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient(weatherConnectionProvider)))
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024)) // 10MB
                 .filter(logRequest())
                 .filter(logResponse())
                 .build();
     }
 
+    HttpClient httpClient(ConnectionProvider connectionProvider) {
+        HttpConfig http = config.getApi().getHttp();
+        HttpClient client = HttpClient.create(connectionProvider)
+                .keepAlive(true)
+                .compress(http.isCompression())
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) http.getConnectTimeout().toMillis());
+        if (http.isHttp2()) {
+            // h2 is negotiated through ALPN on TLS connections; plain http stays on HTTP/1.1
+            client = client.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+        if (http.isMetrics()) {
+            client = client.metrics(true, WebClientConfig::uriTag);
+        }
+        return client;
+    }
+
+    /**
+     * Drops the query string so request coordinates and dates do not create a metric series each.
+     */
+    static String uriTag(String uri) {
+        int query = uri.indexOf('?');
+        return query >= 0 ? uri.substring(0, query) : uri;
+    }
+
     private ExchangeFilterFunction logRequest() {
         return ExchangeFilterFunction.ofRequestProcessor(clientRequest -> {
             if (clientRequest.url().toString().contains("open-meteo")) {
@@ -43,4 +97,4 @@ public class WebClientConfig {
             return Mono.just(clientResponse);
         });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,147 @@
+package com.weatheretl.controller;
+
+import com.weatheretl.config.WeatherEtlConfig.LoadMode;
+import com.weatheretl.service.EtlJobService;
+import com.weatheretl.service.EtlJobService.EtlJobRequest;
+import com.weatheretl.service.EtlJobService.EtlJobStatus;
+import com.weatheretl.service.EtlJobService.JobRejectedException;
+import com.weatheretl.service.EtlJobService.JobType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Asynchronous counterpart of the {@code /execute/*} endpoints: a submit call returns
+ * {@code 202 Accepted} with the job id, and the run is followed through {@code GET /jobs/{id}}.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/weather-etl/jobs")
+@RequiredArgsConstructor
+public class EtlJobController {
+
+    private final EtlJobService etlJobService;
+
+    @PostMapping("/api-to-csv")
+    public ResponseEntity<EtlJobStatus> submitApiToCsv(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String csvPath) {
+
+        log.info("REST API request: Submit API to CSV job for period {} to {}", startDate, endDate);
+
+        return submit(EtlJobRequest.builder()
+                .type(JobType.API_TO_CSV)
+                .startDate(startDate)
+                .endDate(endDate)
+                .csvPath(csvPath)
+                .build());
+    }
+
+    @PostMapping("/api-to-database")
+    public ResponseEntity<EtlJobStatus> submitApiToDatabase(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String loadMode,
+            @RequestParam(defaultValue = "false") boolean incremental) {
+
+        log.info("REST API request: Submit API to Database job for period {} to {} (incremental: {})",
+                startDate, endDate, incremental);
+
+        LoadMode mode;
+        try {
+            mode = parseLoadMode(loadMode);
+        } catch (IllegalArgumentException e) {
+            return invalidLoadMode(loadMode);
+        }
+        return submit(EtlJobRequest.builder()
+                .type(JobType.API_TO_DATABASE)
+                .startDate(startDate)
+                .endDate(endDate)
+                .loadMode(mode)
+                .incremental(incremental)
+                .build());
+    }
+
+    @PostMapping("/api-to-all")
+    public ResponseEntity<EtlJobStatus> submitApiToCsvAndDatabase(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String csvPath,
+            @RequestParam(required = false) String loadMode) {
+
+        log.info("REST API request: Submit API to CSV + Database job for period {} to {}", startDate, endDate);
+
+        LoadMode mode;
+        try {
+            mode = parseLoadMode(loadMode);
+        } catch (IllegalArgumentException e) {
+            return invalidLoadMode(loadMode);
+        }
+        return submit(EtlJobRequest.builder()
+                .type(JobType.API_TO_ALL)
+                .startDate(startDate)
+                .endDate(endDate)
+                .csvPath(csvPath)
+                .loadMode(mode)
+                .build());
+    }
+
+    @GetMapping
+    public ResponseEntity<List<EtlJobStatus>> getJobs() {
+        return ResponseEntity.ok(etlJobService.getJobs());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<EtlJobStatus> getJob(@PathVariable String id) {
+        return etlJobService.getJob(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<EtlJobStatus> cancelJob(@PathVariable String id) {
+        log.info("REST API request: Cancel ETL job {}", id);
+
+        return etlJobService.cancel(id)
+                .map(status -> status.isCancelRequested()
+                        ? ResponseEntity.accepted().body(status)
+                        : ResponseEntity.status(HttpStatus.CONFLICT).body(status))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private ResponseEntity<EtlJobStatus> submit(EtlJobRequest request) {
+        try {
+            EtlJobStatus status = etlJobService.submit(request);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v1/weather-etl/jobs/" + status.getId()))
+                    .body(status);
+        } catch (JobRejectedException e) {
+            log.warn("Rejected ETL job for period {} to {}: {}",
+                    request.getStartDate(), request.getEndDate(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(EtlJobStatus.builder()
+                    .type(request.getType())
+                    .startDate(request.getStartDate())
+                    .endDate(request.getEndDate())
+                    .errorMessage(e.getMessage())
+                    .build());
+        }
+    }
+
+    private LoadMode parseLoadMode(String loadMode) {
+        return loadMode != null ? LoadMode.valueOf(loadMode.toUpperCase()) : null;
+    }
+
+    private ResponseEntity<EtlJobStatus> invalidLoadMode(String loadMode) {
+        return ResponseEntity.badRequest().body(EtlJobStatus.builder()
+                .errorMessage("Invalid load mode: " + loadMode + ". Use 'entity', 'batch', or 'copy'")
+                .build());
+    }
+}
@@ -1,5 +1,6 @@
 package com.weatheretl.controller;
 
+import com.weatheretl.config.WeatherEtlConfig.LoadMode;
 import com.weatheretl.service.WeatherEtlService;
 import com.weatheretl.service.WeatherEtlService.EtlResult;
 import com.weatheretl.service.WeatherEtlService.EtlStats;
@@ -9,6 +10,7 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
 
@@ -52,12 +54,29 @@ public class WeatherEtlController {
     @PostMapping("/execute/api-to-database")
     public ResponseEntity<EtlResult> executeApiToDatabase(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String loadMode,
+            @RequestParam(defaultValue = "false") boolean incremental) {
 
-        log.info("REST API request: Execute API to Database for period {} to {}", startDate, endDate);
+        log.info("REST API request: Execute API to Database for period {} to {} (incremental: {})",
+                startDate, endDate, incremental);
 
+        LoadMode mode;
         try {
-            EtlResult result = weatherEtlService.executeApiToDatabase(startDate, endDate);
+            mode = parseLoadMode(loadMode);
+        } catch (IllegalArgumentException e) {
+            return invalidLoadMode(startDate, endDate, loadMode);
+        }
+
+        try {
+            EtlResult result;
+            if (incremental) {
+                result = weatherEtlService.executeIncrementalToDatabase(startDate, endDate, mode);
+            } else {
+                result = mode != null
+                        ? weatherEtlService.executeApiToDatabase(startDate, endDate, mode)
+                        : weatherEtlService.executeApiToDatabase(startDate, endDate);
+            }
 
             if (result.isSuccess()) {
                 return ResponseEntity.ok(result);
@@ -81,12 +100,22 @@ public class WeatherEtlController {
     public ResponseEntity<EtlResult> executeApiToCsvAndDatabase(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
-            @RequestParam(required = false) String csvPath) {
+            @RequestParam(required = false) String csvPath,
+            @RequestParam(required = false) String loadMode) {
 
         log.info("REST API request: Execute API to CSV + Database for period {} to {}", startDate, endDate);
 
+        LoadMode mode;
+        try {
+            mode = parseLoadMode(loadMode);
+        } catch (IllegalArgumentException e) {
+            return invalidLoadMode(startDate, endDate, loadMode);
+        }
+
         try {
-            EtlResult result = weatherEtlService.executeApiToCsvAndDatabase(startDate, endDate, csvPath);
+            EtlResult result = mode != null
+                    ? weatherEtlService.executeApiToCsvAndDatabase(startDate, endDate, csvPath, mode)
+                    : weatherEtlService.executeApiToCsvAndDatabase(startDate, endDate, csvPath);
 
             if (result.isSuccess()) {
                 return ResponseEntity.ok(result);
@@ -106,6 +135,119 @@ public class WeatherEtlController {
         }
     }
 
+    @PostMapping("/execute/locations")
+    public ResponseEntity<EtlResult> executeApiForLocations(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "database") String output,
+            @RequestParam(required = false) String csvPath) {
+
+        log.info("REST API request: Execute API to {} for configured locations, period {} to {}",
+                output, startDate, endDate);
+
+        boolean saveToCsv = output.equalsIgnoreCase("csv") || output.equalsIgnoreCase("all");
+        boolean saveToDatabase = output.equalsIgnoreCase("database") || output.equalsIgnoreCase("all");
+        if (!saveToCsv && !saveToDatabase) {
+            return ResponseEntity.badRequest().body(EtlResult.builder()
+                    .startDate(startDate)
+                    .endDate(endDate)
+                    .success(false)
+                    .errorMessage("Invalid output: " + output + ". Use 'csv', 'database', or 'all'")
+                    .build());
+        }
+
+        try {
+            EtlResult result = weatherEtlService.executeApiForLocations(
+                    startDate, endDate, saveToCsv, saveToDatabase, csvPath);
+
+            if (result.isSuccess()) {
+                return ResponseEntity.ok(result);
+            } else {
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(result);
+            }
+
+        } catch (Exception e) {
+            log.error("Failed to execute API for configured locations", e);
+            EtlResult errorResult = EtlResult.builder()
+                    .startDate(startDate)
+                    .endDate(endDate)
+                    .success(false)
+                    .errorMessage("Internal server error: " + e.getMessage())
+                    .build();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResult);
+        }
+    }
+
+    @PostMapping("/reactive/api-to-csv")
+    public Mono<ResponseEntity<EtlResult>> executeApiToCsvReactive(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String csvPath) {
+
+        log.info("REST API request: Execute reactive API to CSV for period {} to {}", startDate, endDate);
+
+        return weatherEtlService.executeReactive(startDate, endDate, true, false, csvPath)
+                .map(this::toResponse);
+    }
+
+    @PostMapping("/reactive/api-to-database")
+    public Mono<ResponseEntity<EtlResult>> executeApiToDatabaseReactive(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String loadMode) {
+
+        log.info("REST API request: Execute reactive API to Database for period {} to {}", startDate, endDate);
+
+        LoadMode mode;
+        try {
+            mode = parseLoadMode(loadMode);
+        } catch (IllegalArgumentException e) {
+            return Mono.just(invalidLoadMode(startDate, endDate, loadMode));
+        }
+        return weatherEtlService.executeReactive(startDate, endDate, false, true, null, mode)
+                .map(this::toResponse);
+    }
+
+    @PostMapping("/reactive/api-to-all")
+    public Mono<ResponseEntity<EtlResult>> executeApiToCsvAndDatabaseReactive(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String csvPath,
+            @RequestParam(required = false) String loadMode) {
+
+        log.info("REST API request: Execute reactive API to CSV + Database for period {} to {}",
+                startDate, endDate);
+
+        LoadMode mode;
+        try {
+            mode = parseLoadMode(loadMode);
+        } catch (IllegalArgumentException e) {
+            return Mono.just(invalidLoadMode(startDate, endDate, loadMode));
+        }
+        return weatherEtlService.executeReactive(startDate, endDate, true, true, csvPath, mode)
+                .map(this::toResponse);
+    }
+
+    private LoadMode parseLoadMode(String loadMode) {
+        return loadMode != null ? LoadMode.valueOf(loadMode.toUpperCase()) : null;
+    }
+
+    private ResponseEntity<EtlResult> invalidLoadMode(LocalDate startDate, LocalDate endDate, String loadMode) {
+        return ResponseEntity.badRequest().body(EtlResult.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .success(false)
+                .errorMessage("Invalid load mode: " + loadMode + ". Use 'entity', 'batch', or 'copy'")
+                .build());
+    }
+
+    private ResponseEntity<EtlResult> toResponse(EtlResult result) {
+        if (result.isSuccess()) {
+            return ResponseEntity.ok(result);
+        }
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(result);
+    }
+
     @GetMapping("/stats")
     public ResponseEntity<EtlStats> getEtlStats() {
         log.info("REST API request: Get ETL statistics");
@@ -0,0 +1,162 @@
+package com.weatheretl.model.api;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.weatheretl.model.api.WeatherApiModels.HourlyData;
+import com.weatheretl.util.DayBuckets;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Columnar, unboxed view of the hourly block of an Open-Meteo response.
+ * Missing hourly values are stored as {@code NaN}, missing timestamps as
+ * {@link DayBuckets#MISSING_TIMESTAMP}. A series absent from the response is {@code null}.
+ */
+@JsonDeserialize(using = HourlyColumnsDeserializer.class)
+@JsonSerialize(using = HourlyColumnsSerializer.class)
+public final class HourlyColumns {
+    private static final HourlyVariable[] VARIABLES = HourlyVariable.values();
+
+    private final long[] time;
+    private final double[][] series;
+
+    public HourlyColumns(long[] time, double[][] series) {
+        if (series.length != VARIABLES.length) {
+            throw new IllegalArgumentException("Expected " + VARIABLES.length + " hourly series, got " + series.length);
+        }
+        this.time = time != null ? time : new long[0];
+        this.series = series;
+    }
+
+    /**
+     * Joins the hours of {@code parts} in order. A series missing from some parts is padded with
+     * {@code NaN}; a series missing from all of them stays absent.
+     */
+    public static HourlyColumns concat(List<HourlyColumns> parts) {
+        int size = 0;
+        for (HourlyColumns part : parts) {
+            size += part.size();
+        }
+        long[] time = new long[size];
+        double[][] series = new double[VARIABLES.length][];
+        int offset = 0;
+        for (HourlyColumns part : parts) {
+            System.arraycopy(part.time, 0, time, offset, part.size());
+            for (int v = 0; v < VARIABLES.length; v++) {
+                double[] values = part.series[v];
+                if (values == null) {
+                    continue;
+                }
+                if (series[v] == null) {
+                    series[v] = new double[size];
+                    Arrays.fill(series[v], Double.NaN);
+                }
+                System.arraycopy(values, 0, series[v], offset, Math.min(values.length, part.size()));
+            }
+            offset += part.size();
+        }
+        return new HourlyColumns(time, series);
+    }
+
+    public static HourlyColumns from(HourlyData hourlyData) {
+        double[][] series = new double[VARIABLES.length][];
+        for (HourlyVariable variable : VARIABLES) {
+            series[variable.ordinal()] = toDoubles(listOf(hourlyData, variable));
+        }
+        return new HourlyColumns(toLongs(hourlyData.getTime()), series);
+    }
+
+    public int size() {
+        return time.length;
+    }
+
+    public boolean isEmpty() {
+        return time.length == 0;
+    }
+
+    public long[] getTime() {
+        return time;
+    }
+
+    public long time(int index) {
+        return time[index];
+    }
+
+    public double[] get(HourlyVariable variable) {
+        return series[variable.ordinal()];
+    }
+
+    /**
+     * Copies the hours at {@code indexes}, in that order.
+     */
+    public HourlyColumns select(int[] indexes) {
+        long[] selectedTime = new long[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            selectedTime[i] = time[indexes[i]];
+        }
+        double[][] selected = new double[VARIABLES.length][];
+        for (int v = 0; v < VARIABLES.length; v++) {
+            if (series[v] == null) {
+                continue;
+            }
+            selected[v] = new double[indexes.length];
+            for (int i = 0; i < indexes.length; i++) {
+                selected[v][i] = value(VARIABLES[v], indexes[i]);
+            }
+        }
+        return new HourlyColumns(selectedTime, selected);
+    }
+
+    public double value(HourlyVariable variable, int index) {
+        double[] values = series[variable.ordinal()];
+        return values != null && index < values.length ? values[index] : Double.NaN;
+    }
+
+    private static List<? extends Number> listOf(HourlyData hourlyData, HourlyVariable variable) {
+        return switch (variable) {
+            case TEMPERATURE_2M -> hourlyData.getTemperature2m();
+            case RELATIVE_HUMIDITY_2M -> hourlyData.getRelativeHumidity2m();
+            case DEW_POINT_2M -> hourlyData.getDewPoint2m();
+            case APPARENT_TEMPERATURE -> hourlyData.getApparentTemperature();
+            case TEMPERATURE_80M -> hourlyData.getTemperature80m();
+            case TEMPERATURE_120M -> hourlyData.getTemperature120m();
+            case WIND_SPEED_10M -> hourlyData.getWindSpeed10m();
+            case WIND_SPEED_80M -> hourlyData.getWindSpeed80m();
+            case WIND_DIRECTION_10M -> hourlyData.getWindDirection10m();
+            case WIND_DIRECTION_80M -> hourlyData.getWindDirection80m();
+            case VISIBILITY -> hourlyData.getVisibility();
+            case EVAPOTRANSPIRATION -> hourlyData.getEvapotranspiration();
+            case WEATHER_CODE -> hourlyData.getWeatherCode();
+            case SOIL_TEMPERATURE_0CM -> hourlyData.getSoilTemperature0cm();
+            case SOIL_TEMPERATURE_6CM -> hourlyData.getSoilTemperature6cm();
+            case RAIN -> hourlyData.getRain();
+            case SHOWERS -> hourlyData.getShowers();
+            case SNOWFALL -> hourlyData.getSnowfall();
+        };
+    }
+
+    private static long[] toLongs(List<Long> values) {
+        if (values == null) {
+            return new long[0];
+        }
+        long[] result = new long[values.size()];
+        for (int i = 0; i < result.length; i++) {
+            Long value = values.get(i);
+            result[i] = value != null ? value : DayBuckets.MISSING_TIMESTAMP;
+        }
+        return result;
+    }
+
+    private static double[] toDoubles(List<? extends Number> values) {
+        if (values == null) {
+            return null;
+        }
+        double[] result = new double[values.size()];
+        for (int i = 0; i < result.length; i++) {
+            Number value = values.get(i);
+            result[i] = value != null ? value.doubleValue() : Double.NaN;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,99 @@
+package com.weatheretl.model.api;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.weatheretl.util.DayBuckets;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Reads the Open-Meteo {@code hourly} object straight into primitive arrays,
+ * without materialising a boxed value per hour.
+ */
+public class HourlyColumnsDeserializer extends StdDeserializer<HourlyColumns> {
+    private static final int INITIAL_CAPACITY = 256;
+
+    public HourlyColumnsDeserializer() {
+        super(HourlyColumns.class);
+    }
+
+    @Override
+    public HourlyColumns deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (!parser.isExpectedStartObjectToken()) {
+            return (HourlyColumns) context.handleUnexpectedToken(HourlyColumns.class, parser);
+        }
+        long[] time = new long[0];
+        double[][] series = new double[HourlyVariable.values().length][];
+        int capacityHint = INITIAL_CAPACITY;
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            if ("time".equals(field)) {
+                time = readLongArray(parser, context, field, capacityHint);
+                capacityHint = Math.max(time.length, 1);
+                continue;
+            }
+            HourlyVariable variable = HourlyVariable.fromApiName(field);
+            if (variable == null) {
+                parser.skipChildren();
+                continue;
+            }
+            series[variable.ordinal()] = readDoubleArray(parser, context, field, capacityHint);
+        }
+        return new HourlyColumns(time, series);
+    }
+
+    private long[] readLongArray(JsonParser parser, DeserializationContext context,
+                                String field, int capacity) throws IOException {
+        expectArray(parser, context, field);
+        long[] values = new long[capacity];
+        int size = 0;
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            if (token == JsonToken.VALUE_NULL) {
+                values[size++] = DayBuckets.MISSING_TIMESTAMP;
+            } else if (token == JsonToken.VALUE_NUMBER_INT) {
+                values[size++] = parser.getLongValue();
+            } else {
+                context.reportInputMismatch(HourlyColumns.class,
+                        "Expected unix timestamp in hourly time series, got %s", token);
+            }
+        }
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    private double[] readDoubleArray(JsonParser parser, DeserializationContext context,
+                                    String field, int capacity) throws IOException {
+        expectArray(parser, context, field);
+        double[] values = new double[capacity];
+        int size = 0;
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            if (token == JsonToken.VALUE_NULL) {
+                values[size++] = Double.NaN;
+            } else if (token.isNumeric()) {
+                values[size++] = parser.getDoubleValue();
+            } else {
+                context.reportInputMismatch(HourlyColumns.class,
+                        "Expected numeric value in hourly series '%s', got %s", field, token);
+            }
+        }
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    private void expectArray(JsonParser parser, DeserializationContext context, String field) throws IOException {
+        if (!parser.isExpectedStartArrayToken()) {
+            context.reportInputMismatch(HourlyColumns.class,
+                    "Expected array for hourly series '%s'", field);
+        }
+    }
+}
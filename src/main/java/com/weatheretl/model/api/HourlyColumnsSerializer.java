@@ -0,0 +1,50 @@
+package com.weatheretl.model.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.weatheretl.util.DayBuckets;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link HourlyColumns} back in the Open-Meteo {@code hourly} layout that
+ * {@link HourlyColumnsDeserializer} reads: {@code NaN} values and missing timestamps become {@code null}.
+ */
+public class HourlyColumnsSerializer extends StdSerializer<HourlyColumns> {
+
+    public HourlyColumnsSerializer() {
+        super(HourlyColumns.class);
+    }
+
+    @Override
+    public void serialize(HourlyColumns hourly, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("time");
+        for (long timestamp : hourly.getTime()) {
+            if (timestamp == DayBuckets.MISSING_TIMESTAMP) {
+                generator.writeNull();
+            } else {
+                generator.writeNumber(timestamp);
+            }
+        }
+        generator.writeEndArray();
+        for (HourlyVariable variable : HourlyVariable.values()) {
+            double[] values = hourly.get(variable);
+            if (values == null) {
+                continue;
+            }
+            generator.writeArrayFieldStart(variable.getApiName());
+            for (double value : values) {
+                if (Double.isNaN(value)) {
+                    generator.writeNull();
+                } else {
+                    generator.writeNumber(value);
+                }
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,47 @@
+package com.weatheretl.model.api;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public enum HourlyVariable {
+    TEMPERATURE_2M("temperature_2m"),
+    RELATIVE_HUMIDITY_2M("relative_humidity_2m"),
+    DEW_POINT_2M("dew_point_2m"),
+    APPARENT_TEMPERATURE("apparent_temperature"),
+    TEMPERATURE_80M("temperature_80m"),
+    TEMPERATURE_120M("temperature_120m"),
+    WIND_SPEED_10M("wind_speed_10m"),
+    WIND_SPEED_80M("wind_speed_80m"),
+    WIND_DIRECTION_10M("wind_direction_10m"),
+    WIND_DIRECTION_80M("wind_direction_80m"),
+    VISIBILITY("visibility"),
+    EVAPOTRANSPIRATION("evapotranspiration"),
+    WEATHER_CODE("weather_code"),
+    SOIL_TEMPERATURE_0CM("soil_temperature_0cm"),
+    SOIL_TEMPERATURE_6CM("soil_temperature_6cm"),
+    RAIN("rain"),
+    SHOWERS("showers"),
+    SNOWFALL("snowfall");
+
+    private static final Map<String, HourlyVariable> BY_API_NAME = new HashMap<>();
+
+    static {
+        for (HourlyVariable variable : values()) {
+            BY_API_NAME.put(variable.apiName, variable);
+        }
+    }
+
+    private final String apiName;
+
+    HourlyVariable(String apiName) {
+        this.apiName = apiName;
+    }
+
+    public String getApiName() {
+        return apiName;
+    }
+
+    public static HourlyVariable fromApiName(String apiName) {
+        return BY_API_NAME.get(apiName);
+    }
+}
@@ -1,8 +1,11 @@
 package com.weatheretl.model.api;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
@@ -153,6 +156,8 @@ public class WeatherApiModels {
 
     @Builder
     @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class DailyData {
         private List<Long> time;
         private List<Long> sunrise;
@@ -161,4 +166,27 @@ public class WeatherApiModels {
         @JsonProperty("daylight_duration")
         private List<Integer> daylightDuration;
     }
-}
\ No newline at end of file
+
+    @Builder
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class ColumnarWeatherResponse {
+        private double latitude;
+        private double longitude;
+
+        @JsonProperty("generationtime_ms")
+        private double generationTimeMs;
+
+        @JsonProperty("utc_offset_seconds")
+        private int utcOffsetSeconds;
+
+        private String timezone;
+        private double elevation;
+
+        private HourlyColumns hourly;
+
+        private DailyData daily;
+    }
+}
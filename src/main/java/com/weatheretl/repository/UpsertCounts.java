@@ -0,0 +1,33 @@
+package com.weatheretl.repository;
+
+/**
+ * Outcome of an upsert: rows inserted, rows updated, and rows left untouched because their
+ * content hash matched the stored one.
+ */
+public record UpsertCounts(int inserted, int updated, int unchanged) {
+
+    public static final UpsertCounts NONE = new UpsertCounts(0, 0, 0);
+    public static final UpsertCounts INSERTED = new UpsertCounts(1, 0, 0);
+    public static final UpsertCounts UPDATED = new UpsertCounts(0, 1, 0);
+    public static final UpsertCounts UNCHANGED = new UpsertCounts(0, 0, 1);
+
+    public UpsertCounts plus(UpsertCounts other) {
+        if (other == null) {
+            return this;
+        }
+        return new UpsertCounts(inserted + other.inserted, updated + other.updated, unchanged + other.unchanged);
+    }
+
+    public int written() {
+        return inserted + updated;
+    }
+
+    public int total() {
+        return inserted + updated + unchanged;
+    }
+
+    @Override
+    public String toString() {
+        return inserted + " inserted, " + updated + " updated, " + unchanged + " unchanged";
+    }
+}
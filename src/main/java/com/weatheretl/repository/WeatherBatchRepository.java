@@ -0,0 +1,143 @@
+package com.weatheretl.repository;
+
+import com.weatheretl.model.output.WeatherRecord;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class WeatherBatchRepository {
+
+    static final String UPSERT_SQL = buildUpsertSql();
+    static final int KEY_LOOKUP_SIZE = 1000;
+
+    private static final WeatherDataColumn[] COLUMNS = WeatherDataColumn.values();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Upserts the records in JDBC batches. Stored content hashes are read first so rows whose
+     * values did not change are not sent at all; the statement also skips the update when the
+     * hash matches, in case the row was rewritten in between.
+     */
+    public UpsertCounts upsertAll(List<WeatherRecord> records, int batchSize) {
+        if (records == null || records.isEmpty()) {
+            return UpsertCounts.NONE;
+        }
+        Map<RowKey, Long> stored = storedHashes(records);
+        List<WeatherRecord> changed = new ArrayList<>(records.size());
+        int inserted = 0;
+        int updated = 0;
+        for (WeatherRecord record : records) {
+            RowKey key = RowKey.of(record);
+            long hash = WeatherDataColumn.contentHash(record);
+            if (!stored.containsKey(key)) {
+                inserted++;
+            } else if (!Long.valueOf(hash).equals(stored.get(key))) {
+                updated++;
+            } else {
+                continue;
+            }
+            stored.put(key, hash);
+            changed.add(record);
+        }
+        UpsertCounts counts = new UpsertCounts(inserted, updated, records.size() - changed.size());
+        if (changed.isEmpty()) {
+            log.debug("All {} weather records are unchanged, nothing to upsert", records.size());
+            return counts;
+        }
+        int[][] batches = jdbcTemplate.batchUpdate(UPSERT_SQL, changed, Math.max(1, batchSize), this::bind);
+        log.debug("Upserted weather records in {} JDBC batches: {}", batches.length, counts);
+        return counts;
+    }
+
+    /**
+     * Reads the stored hashes of exactly the keys in {@code records}, looked up by the unique
+     * (date, latitude, longitude) key in groups of {@link #KEY_LOOKUP_SIZE}.
+     */
+    private Map<RowKey, Long> storedHashes(List<WeatherRecord> records) {
+        List<RowKey> keys = new ArrayList<>(new LinkedHashSet<>(records.stream().map(RowKey::of).toList()));
+        Map<RowKey, Long> hashes = new HashMap<>();
+        RowCallbackHandler collect = resultSet -> hashes.put(
+                new RowKey(resultSet.getDate(1).toLocalDate(), resultSet.getDouble(2), resultSet.getDouble(3)),
+                resultSet.getObject(4, Long.class));
+        for (int from = 0; from < keys.size(); from += KEY_LOOKUP_SIZE) {
+            List<RowKey> group = keys.subList(from, Math.min(keys.size(), from + KEY_LOOKUP_SIZE));
+            Object[] args = new Object[group.size() * 3];
+            int index = 0;
+            for (RowKey key : group) {
+                args[index++] = Date.valueOf(key.date());
+                args[index++] = key.latitude();
+                args[index++] = key.longitude();
+            }
+            jdbcTemplate.query(storedHashesSql(group.size()), collect, args);
+        }
+        return hashes;
+    }
+
+    static String storedHashesSql(int keys) {
+        return "SELECT date, latitude, longitude, " + WeatherDataColumn.CONTENT_HASH
+                + " FROM weather_data WHERE (date, latitude, longitude) IN (VALUES "
+                + String.join(", ", Collections.nCopies(keys, "(?::date, ?::float8, ?::float8)")) + ")";
+    }
+
+    private void bind(PreparedStatement statement, WeatherRecord record) throws SQLException {
+        int index = 1;
+        for (WeatherDataColumn column : COLUMNS) {
+            Object value = column.valueOf(record);
+            if (value == null) {
+                statement.setNull(index++, column.getSqlType());
+            } else {
+                statement.setObject(index++, value, column.getSqlType());
+            }
+        }
+        statement.setLong(index++, WeatherDataColumn.contentHash(record));
+        LocalDateTime createdAt = record.getCreatedAt() != null ? record.getCreatedAt() : LocalDateTime.now();
+        statement.setObject(index, Timestamp.valueOf(createdAt), Types.TIMESTAMP);
+    }
+
+    private static String buildUpsertSql() {
+        String columns = Arrays.stream(WeatherDataColumn.values())
+                .map(WeatherDataColumn::getColumnName)
+                .collect(Collectors.joining(", "));
+        String placeholders = Arrays.stream(WeatherDataColumn.values())
+                .map(column -> "?")
+                .collect(Collectors.joining(", "));
+        String updates = Arrays.stream(WeatherDataColumn.values())
+                .filter(column -> !column.isKey())
+                .map(column -> column.getColumnName() + " = EXCLUDED." + column.getColumnName())
+                .collect(Collectors.joining(", "));
+        String hash = WeatherDataColumn.CONTENT_HASH;
+        return "INSERT INTO weather_data (" + columns + ", " + hash + ", created_at, updated_at) "
+                + "VALUES (" + placeholders + ", ?, ?, CURRENT_TIMESTAMP) "
+                + "ON CONFLICT (date, latitude, longitude) DO UPDATE SET "
+                + updates + ", " + hash + " = EXCLUDED." + hash + ", updated_at = CURRENT_TIMESTAMP "
+                + "WHERE weather_data." + hash + " IS DISTINCT FROM EXCLUDED." + hash;
+    }
+
+    private record RowKey(LocalDate date, double latitude, double longitude) {
+        static RowKey of(WeatherRecord record) {
+            return new RowKey(record.getDate(), record.getLatitude(), record.getLongitude());
+        }
+    }
+}
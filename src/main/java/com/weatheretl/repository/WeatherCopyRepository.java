@@ -0,0 +1,159 @@
+package com.weatheretl.repository;
+
+import com.weatheretl.model.output.WeatherRecord;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk loader that streams records into a temporary staging table with COPY and merges
+ * them into weather_data with a single INSERT ... ON CONFLICT. Rows whose content hash
+ * matches the stored one are left untouched by the merge.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class WeatherCopyRepository {
+
+    static final String STAGING_TABLE = "weather_data_staging";
+    static final String CREATE_STAGING_SQL = buildCreateStagingSql();
+    static final String COPY_SQL = buildCopySql();
+    static final String MERGE_SQL = buildMergeSql();
+
+    private static final int COPY_BUFFER_SIZE = 1 << 16;
+    private static final WeatherDataColumn[] COLUMNS = WeatherDataColumn.values();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UpsertCounts copyUpsertAll(Iterable<WeatherRecord> records) {
+        UpsertCounts merged = jdbcTemplate.execute((ConnectionCallback<UpsertCounts>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS " + STAGING_TABLE);
+                statement.execute(CREATE_STAGING_SQL);
+                long copied = copyRecords(connection, records);
+                UpsertCounts counts;
+                try (ResultSet resultSet = statement.executeQuery(MERGE_SQL)) {
+                    resultSet.next();
+                    int inserted = resultSet.getInt(1);
+                    int updated = resultSet.getInt(2);
+                    counts = new UpsertCounts(inserted, updated, (int) copied - inserted - updated);
+                }
+                statement.execute("DROP TABLE " + STAGING_TABLE);
+                log.debug("Copied {} rows into {}, merged into weather_data: {}", copied, STAGING_TABLE, counts);
+                return counts;
+            }
+        });
+        return merged != null ? merged : UpsertCounts.NONE;
+    }
+
+    private long copyRecords(Connection connection, Iterable<WeatherRecord> records) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        long rows = 0;
+        StringBuilder line = new StringBuilder(512);
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new PGCopyOutputStream(pgConnection, COPY_SQL, COPY_BUFFER_SIZE), StandardCharsets.UTF_8),
+                COPY_BUFFER_SIZE)) {
+            for (WeatherRecord record : records) {
+                line.setLength(0);
+                line.append(rows).append(',');
+                for (WeatherDataColumn column : COLUMNS) {
+                    appendCsvValue(line, column, column.valueOf(record));
+                    line.append(',');
+                }
+                line.append(WeatherDataColumn.contentHash(record)).append(',');
+                LocalDateTime createdAt = record.getCreatedAt() != null ? record.getCreatedAt() : LocalDateTime.now();
+                line.append(createdAt).append('\n');
+                writer.append(line);
+                rows++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("COPY into " + STAGING_TABLE + " failed", e);
+        }
+        return rows;
+    }
+
+    static void appendCsvValue(StringBuilder line, WeatherDataColumn column, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (column.getSqlType() != Types.VARCHAR) {
+            line.append(value);
+            return;
+        }
+        line.append('"');
+        String text = value.toString();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+
+    private static String columnList() {
+        return Arrays.stream(WeatherDataColumn.values())
+                .map(WeatherDataColumn::getColumnName)
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String buildCreateStagingSql() {
+        String columns = Arrays.stream(WeatherDataColumn.values())
+                .map(column -> column.getColumnName() + " " + ddlType(column.getSqlType()))
+                .collect(Collectors.joining(", "));
+        return "CREATE TEMP TABLE " + STAGING_TABLE + " (seq BIGINT, " + columns + ", "
+                + WeatherDataColumn.CONTENT_HASH + " BIGINT, created_at TIMESTAMP)";
+    }
+
+    private static String buildCopySql() {
+        return "COPY " + STAGING_TABLE + " (seq, " + columnList() + ", " + WeatherDataColumn.CONTENT_HASH
+                + ", created_at) FROM STDIN WITH (FORMAT csv)";
+    }
+
+    private static String buildMergeSql() {
+        String updates = Arrays.stream(WeatherDataColumn.values())
+                .filter(column -> !column.isKey())
+                .map(column -> column.getColumnName() + " = EXCLUDED." + column.getColumnName())
+                .collect(Collectors.joining(", "));
+        String hash = WeatherDataColumn.CONTENT_HASH;
+        // DISTINCT ON keeps the last copy of a duplicated key, matching sequential upsert semantics;
+        // xmax is zero only for freshly inserted tuples, which separates inserts from updates
+        return "WITH merged AS (INSERT INTO weather_data (" + columnList() + ", " + hash + ", created_at, updated_at) "
+                + "SELECT DISTINCT ON (date, latitude, longitude) " + columnList() + ", " + hash
+                + ", COALESCE(created_at, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP FROM " + STAGING_TABLE
+                + " ORDER BY date, latitude, longitude, seq DESC "
+                + "ON CONFLICT (date, latitude, longitude) DO UPDATE SET "
+                + updates + ", " + hash + " = EXCLUDED." + hash + ", updated_at = CURRENT_TIMESTAMP "
+                + "WHERE weather_data." + hash + " IS DISTINCT FROM EXCLUDED." + hash + " "
+                + "RETURNING (xmax = 0) AS inserted) "
+                + "SELECT COUNT(*) FILTER (WHERE inserted), COUNT(*) FILTER (WHERE NOT inserted) FROM merged";
+    }
+
+    private static String ddlType(int sqlType) {
+        return switch (sqlType) {
+            case Types.DATE -> "DATE";
+            case Types.DOUBLE -> "DOUBLE PRECISION";
+            default -> "TEXT";
+        };
+    }
+}
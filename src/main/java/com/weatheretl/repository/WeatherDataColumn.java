@@ -0,0 +1,142 @@
+package com.weatheretl.repository;
+
+import com.weatheretl.model.output.WeatherRecord;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Value columns of weather_data in table order, each bound to its {@link WeatherRecord} accessor.
+ */
+public enum WeatherDataColumn {
+    DATE("date", Types.DATE, WeatherRecord::getDate),
+    LATITUDE("latitude", Types.DOUBLE, WeatherRecord::getLatitude),
+    LONGITUDE("longitude", Types.DOUBLE, WeatherRecord::getLongitude),
+
+    AVG_TEMPERATURE_2M_24H("avg_temperature_2m_24h", Types.DOUBLE, WeatherRecord::getAvgTemperature2m24h),
+    AVG_RELATIVE_HUMIDITY_2M_24H("avg_relative_humidity_2m_24h", Types.DOUBLE,
+            WeatherRecord::getAvgRelativeHumidity2m24h),
+    AVG_DEW_POINT_2M_24H("avg_dew_point_2m_24h", Types.DOUBLE, WeatherRecord::getAvgDewPoint2m24h),
+    AVG_APPARENT_TEMPERATURE_24H("avg_apparent_temperature_24h", Types.DOUBLE,
+            WeatherRecord::getAvgApparentTemperature24h),
+    AVG_TEMPERATURE_80M_24H("avg_temperature_80m_24h", Types.DOUBLE, WeatherRecord::getAvgTemperature80m24h),
+    AVG_TEMPERATURE_120M_24H("avg_temperature_120m_24h", Types.DOUBLE, WeatherRecord::getAvgTemperature120m24h),
+    AVG_WIND_SPEED_10M_24H("avg_wind_speed_10m_24h", Types.DOUBLE, WeatherRecord::getAvgWindSpeed10m24h),
+    AVG_WIND_SPEED_80M_24H("avg_wind_speed_80m_24h", Types.DOUBLE, WeatherRecord::getAvgWindSpeed80m24h),
+    AVG_VISIBILITY_24H("avg_visibility_24h", Types.DOUBLE, WeatherRecord::getAvgVisibility24h),
+    TOTAL_RAIN_24H("total_rain_24h", Types.DOUBLE, WeatherRecord::getTotalRain24h),
+    TOTAL_SHOWERS_24H("total_showers_24h", Types.DOUBLE, WeatherRecord::getTotalShowers24h),
+    TOTAL_SNOWFALL_24H("total_snowfall_24h", Types.DOUBLE, WeatherRecord::getTotalSnowfall24h),
+
+    AVG_TEMPERATURE_2M_DAYLIGHT("avg_temperature_2m_daylight", Types.DOUBLE,
+            WeatherRecord::getAvgTemperature2mDaylight),
+    AVG_RELATIVE_HUMIDITY_2M_DAYLIGHT("avg_relative_humidity_2m_daylight", Types.DOUBLE,
+            WeatherRecord::getAvgRelativeHumidity2mDaylight),
+    AVG_DEW_POINT_2M_DAYLIGHT("avg_dew_point_2m_daylight", Types.DOUBLE, WeatherRecord::getAvgDewPoint2mDaylight),
+    AVG_APPARENT_TEMPERATURE_DAYLIGHT("avg_apparent_temperature_daylight", Types.DOUBLE,
+            WeatherRecord::getAvgApparentTemperatureDaylight),
+    AVG_TEMPERATURE_80M_DAYLIGHT("avg_temperature_80m_daylight", Types.DOUBLE,
+            WeatherRecord::getAvgTemperature80mDaylight),
+    AVG_TEMPERATURE_120M_DAYLIGHT("avg_temperature_120m_daylight", Types.DOUBLE,
+            WeatherRecord::getAvgTemperature120mDaylight),
+    AVG_WIND_SPEED_10M_DAYLIGHT("avg_wind_speed_10m_daylight", Types.DOUBLE,
+            WeatherRecord::getAvgWindSpeed10mDaylight),
+    AVG_WIND_SPEED_80M_DAYLIGHT("avg_wind_speed_80m_daylight", Types.DOUBLE,
+            WeatherRecord::getAvgWindSpeed80mDaylight),
+    AVG_VISIBILITY_DAYLIGHT("avg_visibility_daylight", Types.DOUBLE, WeatherRecord::getAvgVisibilityDaylight),
+    TOTAL_RAIN_DAYLIGHT("total_rain_daylight", Types.DOUBLE, WeatherRecord::getTotalRainDaylight),
+    TOTAL_SHOWERS_DAYLIGHT("total_showers_daylight", Types.DOUBLE, WeatherRecord::getTotalShowersDaylight),
+    TOTAL_SNOWFALL_DAYLIGHT("total_snowfall_daylight", Types.DOUBLE, WeatherRecord::getTotalSnowfallDaylight),
+
+    WIND_SPEED_10M_M_PER_S("wind_speed_10m_m_per_s", Types.DOUBLE, WeatherRecord::getWindSpeed10mMPerS),
+    WIND_SPEED_80M_M_PER_S("wind_speed_80m_m_per_s", Types.DOUBLE, WeatherRecord::getWindSpeed80mMPerS),
+    TEMPERATURE_2M_CELSIUS("temperature_2m_celsius", Types.DOUBLE, WeatherRecord::getTemperature2mCelsius),
+    APPARENT_TEMPERATURE_CELSIUS("apparent_temperature_celsius", Types.DOUBLE,
+            WeatherRecord::getApparentTemperatureCelsius),
+    TEMPERATURE_80M_CELSIUS("temperature_80m_celsius", Types.DOUBLE, WeatherRecord::getTemperature80mCelsius),
+    TEMPERATURE_120M_CELSIUS("temperature_120m_celsius", Types.DOUBLE, WeatherRecord::getTemperature120mCelsius),
+    SOIL_TEMPERATURE_0CM_CELSIUS("soil_temperature_0cm_celsius", Types.DOUBLE,
+            WeatherRecord::getSoilTemperature0cmCelsius),
+    SOIL_TEMPERATURE_6CM_CELSIUS("soil_temperature_6cm_celsius", Types.DOUBLE,
+            WeatherRecord::getSoilTemperature6cmCelsius),
+    RAIN_MM("rain_mm", Types.DOUBLE, WeatherRecord::getRainMm),
+    SHOWERS_MM("showers_mm", Types.DOUBLE, WeatherRecord::getShowersMm),
+    SNOWFALL_MM("snowfall_mm", Types.DOUBLE, WeatherRecord::getSnowfallMm),
+
+    DAYLIGHT_HOURS("daylight_hours", Types.DOUBLE, WeatherRecord::getDaylightHours),
+    SUNSET_ISO("sunset_iso", Types.VARCHAR, WeatherRecord::getSunsetIso),
+    SUNRISE_ISO("sunrise_iso", Types.VARCHAR, WeatherRecord::getSunriseIso);
+
+    /**
+     * Column holding {@link #contentHash(WeatherRecord)} of the stored values.
+     */
+    public static final String CONTENT_HASH = "content_hash";
+
+    private static final WeatherDataColumn[] VALUE_COLUMNS = Arrays.stream(values())
+            .filter(column -> !column.isKey())
+            .toArray(WeatherDataColumn[]::new);
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final String columnName;
+    private final int sqlType;
+    private final Function<WeatherRecord, Object> accessor;
+
+    WeatherDataColumn(String columnName, int sqlType, Function<WeatherRecord, Object> accessor) {
+        this.columnName = columnName;
+        this.sqlType = sqlType;
+        this.accessor = accessor;
+    }
+
+    public String getColumnName() {
+        return columnName;
+    }
+
+    public int getSqlType() {
+        return sqlType;
+    }
+
+    public Object valueOf(WeatherRecord record) {
+        return accessor.apply(record);
+    }
+
+    public boolean isKey() {
+        return this == DATE || this == LATITUDE || this == LONGITUDE;
+    }
+
+    /**
+     * 64-bit FNV-1a hash over every non-key value, so a re-loaded day can be compared with the
+     * stored row without reading all of its columns. Nulls hash differently from zero.
+     */
+    public static long contentHash(WeatherRecord record) {
+        long hash = FNV_OFFSET_BASIS;
+        for (WeatherDataColumn column : VALUE_COLUMNS) {
+            Object value = column.valueOf(record);
+            if (value == null) {
+                hash = mixByte(hash, 0);
+            } else if (value instanceof Double number) {
+                hash = mixLong(mixByte(hash, 1), Double.doubleToLongBits(number));
+            } else {
+                String text = value.toString();
+                hash = mixLong(mixByte(hash, 2), text.length());
+                for (int i = 0; i < text.length(); i++) {
+                    char c = text.charAt(i);
+                    hash = mixByte(mixByte(hash, c >>> 8), c);
+                }
+            }
+        }
+        return hash;
+    }
+
+    private static long mixLong(long hash, long value) {
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            hash = mixByte(hash, (int) (value >>> shift));
+        }
+        return hash;
+    }
+
+    private static long mixByte(long hash, int value) {
+        return (hash ^ (value & 0xff)) * FNV_PRIME;
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface WeatherRepository extends JpaRepository<WeatherRecord, Long> {
@@ -28,6 +29,22 @@ public interface WeatherRepository extends JpaRepository<WeatherRecord, Long> {
 
     long countByDateBetween(LocalDate startDate, LocalDate endDate);
 
+    @Query("SELECT DISTINCT w.date FROM WeatherRecord w WHERE w.date BETWEEN :startDate AND :endDate"
+            + " AND w.latitude = :latitude AND w.longitude = :longitude")
+    Set<LocalDate> findDatesAt(@Param("startDate") LocalDate startDate,
+                               @Param("endDate") LocalDate endDate,
+                               @Param("latitude") Double latitude,
+                               @Param("longitude") Double longitude);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE weather_data SET content_hash = :contentHash"
+            + " WHERE date = :date AND latitude = :latitude AND longitude = :longitude", nativeQuery = true)
+    int updateContentHash(@Param("date") LocalDate date,
+                          @Param("latitude") Double latitude,
+                          @Param("longitude") Double longitude,
+                          @Param("contentHash") long contentHash);
+
     @Query("SELECT DISTINCT w.latitude, w.longitude FROM WeatherRecord w")
     List<Object[]> findDistinctLocations();
 
@@ -0,0 +1,222 @@
+package com.weatheretl.service;
+
+import com.weatheretl.config.WeatherEtlConfig;
+import com.weatheretl.config.WeatherEtlConfig.RateLimitConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Paces Open-Meteo requests with a token bucket and caps the requests in flight with an AIMD
+ * limit: each success raises the limit by {@code 1/limit} (about one slot per round of
+ * requests), each throttled response (429 or 503) multiplies it by {@code decrease-factor}.
+ * A {@code Retry-After} header pauses every request until it has passed.
+ */
+@Slf4j
+@Component
+public class ApiRateLimiter {
+
+    static final long SLOT_UNAVAILABLE = -1;
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final WeatherEtlConfig config;
+    private final LongSupplier nanoClock;
+    private final Deque<Sinks.Empty<Void>> waiters = new ArrayDeque<>();
+
+    private double tokens;
+    private long lastRefillNanos;
+    private double concurrencyLimit;
+    private int inFlight;
+    private long pausedUntilNanos;
+
+    @Autowired
+    public ApiRateLimiter(WeatherEtlConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    ApiRateLimiter(WeatherEtlConfig config, LongSupplier nanoClock) {
+        this.config = config;
+        this.nanoClock = nanoClock;
+        RateLimitConfig settings = config.getApi().getRateLimit();
+        this.tokens = Math.max(1, settings.getBurst());
+        this.lastRefillNanos = nanoClock.getAsLong();
+        this.concurrencyLimit = clampLimit(settings, settings.getInitialConcurrency());
+        this.pausedUntilNanos = lastRefillNanos;
+    }
+
+    /**
+     * Subscribes to {@code request} once a token and a concurrency slot are available, and feeds
+     * its outcome back into the limit. Each resubscription (for example by a retry) waits again.
+     */
+    public <T> Mono<T> execute(Mono<T> request) {
+        if (!config.getApi().getRateLimit().isEnabled()) {
+            return request;
+        }
+        return Mono.defer(() -> {
+            AtomicBoolean acquired = new AtomicBoolean();
+            return acquire(acquired)
+                    .then(request)
+                    .doOnSuccess(value -> onSuccess())
+                    .doOnError(this::onFailure)
+                    .doFinally(signal -> {
+                        if (acquired.getAndSet(false)) {
+                            release();
+                        }
+                    });
+        });
+    }
+
+    public synchronized double getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Takes a token and a slot when both are free and returns 0; otherwise returns the
+     * nanoseconds until the next token or pause end, or {@link #SLOT_UNAVAILABLE} when every
+     * slot is taken.
+     */
+    synchronized long tryAcquire(long now) {
+        RateLimitConfig settings = config.getApi().getRateLimit();
+        refill(settings, now);
+        if (now < pausedUntilNanos) {
+            return pausedUntilNanos - now;
+        }
+        if (inFlight >= (int) concurrencyLimit) {
+            return SLOT_UNAVAILABLE;
+        }
+        if (tokens < 1) {
+            return Math.max(1, (long) Math.ceil((1 - tokens) / settings.getRequestsPerSecond() * NANOS_PER_SECOND));
+        }
+        tokens -= 1;
+        inFlight++;
+        return 0;
+    }
+
+    synchronized void onSuccess() {
+        RateLimitConfig settings = config.getApi().getRateLimit();
+        concurrencyLimit = clampLimit(settings, concurrencyLimit + 1 / concurrencyLimit);
+    }
+
+    void onFailure(Throwable failure) {
+        if (!isThrottled(failure)) {
+            return;
+        }
+        Optional<Duration> retryAfter = retryAfter(failure);
+        synchronized (this) {
+            RateLimitConfig settings = config.getApi().getRateLimit();
+            concurrencyLimit = clampLimit(settings, concurrencyLimit * settings.getDecreaseFactor());
+            retryAfter.map(this::cappedRetryAfter).ifPresent(pause ->
+                    pausedUntilNanos = Math.max(pausedUntilNanos, nanoClock.getAsLong() + pause.toNanos()));
+            log.warn("API throttled the client ({}), concurrency limit lowered to {}{}", failure.getMessage(),
+                    String.format("%.2f", concurrencyLimit),
+                    retryAfter.map(pause -> ", pausing for " + cappedRetryAfter(pause).toMillis() + " ms").orElse(""));
+        }
+    }
+
+    public static boolean isThrottled(Throwable failure) {
+        return failure instanceof WebClientResponseException response
+                && (response.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()
+                || response.getStatusCode().value() == HttpStatus.SERVICE_UNAVAILABLE.value());
+    }
+
+    /**
+     * Reads {@code Retry-After} from an error response, given either in seconds or as an HTTP date.
+     */
+    public static Optional<Duration> retryAfter(Throwable failure) {
+        if (!(failure instanceof WebClientResponseException response) || response.getHeaders() == null) {
+            return Optional.empty();
+        }
+        String value = response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim()))));
+        } catch (NumberFormatException e) {
+            try {
+                Duration until = Duration.between(ZonedDateTime.now(),
+                        ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+                return Optional.of(until.isNegative() ? Duration.ZERO : until);
+            } catch (DateTimeParseException ignored) {
+                return Optional.empty();
+            }
+        }
+    }
+
+    private Mono<Void> acquire(AtomicBoolean acquired) {
+        return Mono.defer(() -> {
+            Sinks.Empty<Void> waiter = null;
+            long waitNanos;
+            synchronized (this) {
+                waitNanos = tryAcquire(nanoClock.getAsLong());
+                if (waitNanos == 0) {
+                    acquired.set(true);
+                    return Mono.empty();
+                }
+                if (waitNanos == SLOT_UNAVAILABLE) {
+                    waiter = Sinks.empty();
+                    waiters.add(waiter);
+                }
+            }
+            if (waiter != null) {
+                Sinks.Empty<Void> slot = waiter;
+                return slot.asMono()
+                        .doOnCancel(() -> removeWaiter(slot))
+                        .then(acquire(acquired));
+            }
+            return Mono.delay(Duration.ofNanos(waitNanos)).then(acquire(acquired));
+        });
+    }
+
+    private void release() {
+        Deque<Sinks.Empty<Void>> woken = new ArrayDeque<>();
+        synchronized (this) {
+            inFlight--;
+            int freeSlots = (int) concurrencyLimit - inFlight;
+            while (freeSlots-- > 0 && !waiters.isEmpty()) {
+                woken.add(waiters.poll());
+            }
+        }
+        woken.forEach(Sinks.Empty::tryEmitEmpty);
+    }
+
+    private synchronized void removeWaiter(Sinks.Empty<Void> waiter) {
+        waiters.remove(waiter);
+    }
+
+    private void refill(RateLimitConfig settings, long now) {
+        double refilled = (now - lastRefillNanos) / NANOS_PER_SECOND * settings.getRequestsPerSecond();
+        tokens = Math.min(Math.max(1, settings.getBurst()), tokens + refilled);
+        lastRefillNanos = now;
+    }
+
+    private Duration cappedRetryAfter(Duration retryAfter) {
+        Duration max = config.getApi().getRetry().getMaxRetryAfter();
+        return retryAfter.compareTo(max) > 0 ? max : retryAfter;
+    }
+
+    private static double clampLimit(RateLimitConfig settings, double limit) {
+        int min = Math.max(1, settings.getMinConcurrency());
+        return Math.max(min, Math.min(Math.max(min, settings.getMaxConcurrency()), limit));
+    }
+}
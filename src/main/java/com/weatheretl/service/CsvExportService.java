@@ -1,26 +1,28 @@
 package com.weatheretl.service;
 
-import com.opencsv.bean.StatefulBeanToCsv;
-import com.opencsv.bean.StatefulBeanToCsvBuilder;
-import com.opencsv.exceptions.CsvDataTypeMismatchException;
-import com.opencsv.exceptions.CsvRequiredFieldEmptyException;
 import com.weatheretl.config.WeatherEtlConfig;
 import com.weatheretl.model.output.WeatherRecord;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CsvExportService {
+    private static final long MAP_CHUNK_SIZE = 1L << 30;
+
     private final WeatherEtlConfig config;
 
     public void exportToCsv(List<WeatherRecord> records) throws CsvExportException {
@@ -32,7 +34,20 @@ public class CsvExportService {
             log.warn("No records to export to CSV");
             return;
         }
-        log.info("Exporting {} records to CSV file: {}", records.size(), filePath);
+        try (CsvWriteStream csv = openCsv(filePath)) {
+            for (WeatherRecord record : records) {
+                csv.write(record);
+            }
+            csv.finish();
+        }
+    }
+
+    /**
+     * Opens {@code filePath} for records written one at a time, for callers that feed other
+     * sinks from the same loop. Nothing is indexed until {@link CsvWriteStream#finish()}.
+     */
+    public CsvWriteStream openCsv(String filePath) throws CsvExportException {
+        log.info("Exporting records to CSV file: {}", filePath);
         try {
             Path path = Paths.get(filePath);
             Path parentDir = path.getParent();
@@ -40,21 +55,11 @@ public class CsvExportService {
                 Files.createDirectories(parentDir);
                 log.info("Created directory: {}", parentDir);
             }
-            try (FileWriter writer = new FileWriter(filePath)) {
-                StatefulBeanToCsv<WeatherRecord> beanToCsv = new StatefulBeanToCsvBuilder<WeatherRecord>(writer)
-                        .withSeparator(',')
-                        .withQuotechar('"')
-                        .withEscapechar('\\')
-                        .build();
-                beanToCsv.write(records);
-                log.info("Successfully exported {} records to CSV file: {}", records.size(), filePath);
-            }
-        } catch (IOException e) {
+            Files.deleteIfExists(CsvIndex.sidecarOf(path));
+            return new CsvWriteStream(path, WeatherCsvWriter.open(path));
+        } catch (IOException | InvalidPathException e) {
             log.error("Failed to write CSV file: {}", filePath, e);
             throw new CsvExportException("Failed to write CSV file: " + e.getMessage(), e);
-        } catch (CsvDataTypeMismatchException | CsvRequiredFieldEmptyException e) {
-            log.error("CSV data formatting error", e);
-            throw new CsvExportException("CSV data formatting error: " + e.getMessage(), e);
         }
     }
 
@@ -75,16 +80,43 @@ public class CsvExportService {
     public long getCsvFileSize(String filePath) {
         try {
             Path path = Paths.get(filePath);
-            if (Files.exists(path)) {
-                return Files.lines(path).count() - 1;
+            if (!Files.exists(path)) {
+                return 0;
             }
-            return 0;
+            return recordCount(path, CsvIndex.read(path));
         } catch (IOException e) {
             log.warn("Cannot read CSV file size: {}", filePath, e);
             return 0;
         }
     }
 
+    private long recordCount(Path path, Optional<CsvIndex> index) throws IOException {
+        if (index.isPresent()) {
+            return index.get().getRowCount();
+        }
+        log.debug("No CSV index for {}, counting lines", path);
+        return Math.max(0, countLines(path) - 1);
+    }
+
+    static long countLines(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long lines = 0;
+            byte last = '\n';
+            for (long position = 0; position < size; position += MAP_CHUNK_SIZE) {
+                MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(MAP_CHUNK_SIZE, size - position));
+                while (chunk.hasRemaining()) {
+                    last = chunk.get();
+                    if (last == '\n') {
+                        lines++;
+                    }
+                }
+            }
+            return last == '\n' ? lines : lines + 1;
+        }
+    }
+
     public boolean csvFileExists(String filePath) {
         return Files.exists(Paths.get(filePath));
     }
@@ -94,6 +126,7 @@ public class CsvExportService {
             Path path = Paths.get(filePath);
             if (Files.exists(path)) {
                 Files.delete(path);
+                Files.deleteIfExists(CsvIndex.sidecarOf(path));
                 log.info("Deleted CSV file: {}", filePath);
                 return true;
             }
@@ -113,11 +146,14 @@ public class CsvExportService {
                     .build();
         }
         try {
+            Optional<CsvIndex> index = CsvIndex.read(path);
             return CsvFileInfo.builder()
                     .exists(true)
                     .path(filePath)
                     .size(Files.size(path))
-                    .recordCount(getCsvFileSize(filePath))
+                    .recordCount(recordCount(path, index))
+                    .checksum(index.map(CsvIndex::getChecksumHex).orElse(null))
+                    .dateOffsets(index.map(CsvIndex::getDateOffsets).orElse(null))
                     .lastModified(Files.getLastModifiedTime(path).toInstant())
                     .build();
         } catch (IOException e) {
@@ -136,9 +172,68 @@ public class CsvExportService {
         private String path;
         private Long size;
         private Long recordCount;
+        private String checksum;
+        private java.util.Map<java.time.LocalDate, Long> dateOffsets;
         private java.time.Instant lastModified;
     }
 
+    public static class CsvWriteStream implements AutoCloseable {
+        private final Path path;
+        private final WeatherCsvWriter writer;
+        private boolean closed;
+
+        CsvWriteStream(Path path, WeatherCsvWriter writer) {
+            this.path = path;
+            this.writer = writer;
+        }
+
+        public void write(WeatherRecord record) throws CsvExportException {
+            try {
+                writer.write(record);
+            } catch (IOException e) {
+                throw new CsvExportException("Failed to write CSV file: " + e.getMessage(), e);
+            }
+        }
+
+        public long getRowsWritten() {
+            return writer.getRowsWritten();
+        }
+
+        /**
+         * Closes the file and writes its index sidecar; returns the number of rows written.
+         */
+        public long finish() throws CsvExportException {
+            try {
+                closed = true;
+                writer.close();
+                CsvIndex index = writer.index();
+                index.write(path);
+                log.info("Successfully exported {} records to CSV file: {} (crc32c {})",
+                        index.getRowCount(), path, index.getChecksumHex());
+                return index.getRowCount();
+            } catch (IOException e) {
+                log.error("Failed to write CSV file: {}", path, e);
+                throw new CsvExportException("Failed to write CSV file: " + e.getMessage(), e);
+            }
+        }
+
+        /**
+         * Closes a stream that was not finished, leaving the file without an index.
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.warn("Failed to close CSV file {}: {}", path, e.getMessage());
+            }
+        }
+    }
+
     public static class CsvExportException extends Exception {
         public CsvExportException(String message, Throwable cause) {
             super(message, cause);
@@ -0,0 +1,102 @@
+package com.weatheretl.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Sidecar metadata written next to an exported CSV file: data row count, exported byte size,
+ * CRC32C of the file content and the byte offset of the first row of every date.
+ * Lets file info be answered without scanning the CSV itself.
+ */
+@lombok.Data
+@lombok.Builder
+public class CsvIndex {
+
+    static final String SUFFIX = ".idx";
+
+    private static final String ROWS = "rows";
+    private static final String BYTES = "bytes";
+    private static final String CRC32C = "crc32c";
+
+    private final long rowCount;
+    private final long byteSize;
+    private final long checksum;
+    @lombok.Builder.Default
+    private final Map<LocalDate, Long> dateOffsets = Collections.emptyMap();
+
+    public static Path sidecarOf(Path csvPath) {
+        return csvPath.resolveSibling(csvPath.getFileName() + SUFFIX);
+    }
+
+    public void write(Path csvPath) throws IOException {
+        Path sidecar = sidecarOf(csvPath);
+        Path tmp = sidecar.resolveSibling(sidecar.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            writer.write(ROWS + "=" + rowCount + "\n");
+            writer.write(BYTES + "=" + byteSize + "\n");
+            writer.write(CRC32C + "=" + Long.toHexString(checksum) + "\n");
+            for (Map.Entry<LocalDate, Long> entry : dateOffsets.entrySet()) {
+                writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+            }
+        }
+        Files.move(tmp, sidecar, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads the sidecar of {@code csvPath}; empty when it is missing, unreadable or does not
+     * describe the current file size (the CSV was rewritten by something else).
+     */
+    public static Optional<CsvIndex> read(Path csvPath) {
+        Path sidecar = sidecarOf(csvPath);
+        if (!Files.exists(sidecar)) {
+            return Optional.empty();
+        }
+        try (BufferedReader reader = Files.newBufferedReader(sidecar, StandardCharsets.UTF_8)) {
+            Long rows = null;
+            Long bytes = null;
+            Long crc = null;
+            Map<LocalDate, Long> offsets = new LinkedHashMap<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int eq = line.indexOf('=');
+                if (eq < 0) {
+                    continue;
+                }
+                String key = line.substring(0, eq);
+                String value = line.substring(eq + 1);
+                switch (key) {
+                    case ROWS -> rows = Long.parseLong(value);
+                    case BYTES -> bytes = Long.parseLong(value);
+                    case CRC32C -> crc = Long.parseLong(value, 16);
+                    default -> offsets.put(LocalDate.parse(key), Long.parseLong(value));
+                }
+            }
+            if (rows == null || bytes == null || crc == null || bytes != Files.size(csvPath)) {
+                return Optional.empty();
+            }
+            return Optional.of(CsvIndex.builder()
+                    .rowCount(rows)
+                    .byteSize(bytes)
+                    .checksum(crc)
+                    .dateOffsets(offsets)
+                    .build());
+        } catch (IOException | NumberFormatException | DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    public String getChecksumHex() {
+        return String.format("%08x", checksum);
+    }
+}
@@ -0,0 +1,139 @@
+package com.weatheretl.service;
+
+import com.weatheretl.model.api.HourlyColumns;
+import com.weatheretl.model.api.HourlyVariable;
+import com.weatheretl.util.DayBuckets;
+import com.weatheretl.util.WeatherConverter;
+import com.weatheretl.util.WeatherConverter.DaylightWindow;
+
+/**
+ * Sum/count and daylight sum/count of every hourly variable for one day,
+ * collected in a single sweep over the hourly columns.
+ * <p>
+ * The daylight window is matched against the whole series rather than only the
+ * day's hours, since sunset can fall after UTC midnight. For time-ordered series its
+ * bounds come from a binary search and the sweep covers only the day plus that window;
+ * otherwise the sweep covers the day buckets that the day and the window fall into.
+ */
+public final class DailyAggregates {
+    private static final HourlyVariable[] VARIABLES = HourlyVariable.values();
+
+    private final boolean[] present = new boolean[VARIABLES.length];
+    private final boolean[] alignedWithTime = new boolean[VARIABLES.length];
+    private final double[] sums = new double[VARIABLES.length];
+    private final int[] counts = new int[VARIABLES.length];
+    private final double[] daylightSums = new double[VARIABLES.length];
+    private final int[] daylightCounts = new int[VARIABLES.length];
+    private int daylightHours;
+
+    private DailyAggregates() {
+    }
+
+    public static DailyAggregates compute(HourlyColumns hourly, DayBuckets dayBuckets, int bucket,
+                                          Long sunriseTimestamp, Long sunsetTimestamp) {
+        DailyAggregates aggregates = new DailyAggregates();
+        long[] time = hourly.getTime();
+        double[][] columns = new double[VARIABLES.length][];
+        for (HourlyVariable variable : VARIABLES) {
+            double[] values = hourly.get(variable);
+            columns[variable.ordinal()] = values;
+            aggregates.present[variable.ordinal()] = values != null;
+            aggregates.alignedWithTime[variable.ordinal()] = values != null && values.length == time.length;
+        }
+        boolean withDaylight = sunriseTimestamp != null && sunsetTimestamp != null;
+        long sunrise = withDaylight ? sunriseTimestamp : 0L;
+        long sunset = withDaylight ? sunsetTimestamp : -1L;
+
+        if (dayBuckets.isTimeOrdered()) {
+            int dayStart = dayBuckets.start(bucket);
+            int dayEnd = dayBuckets.end(bucket);
+            int from = dayStart;
+            int to = dayEnd;
+            if (withDaylight) {
+                DaylightWindow window = WeatherConverter.findDaylightWindow(time, sunrise, sunset);
+                if (!window.isEmpty()) {
+                    from = Math.min(from, window.from());
+                    to = Math.max(to, window.to());
+                }
+            }
+            for (int i = from; i < to; i++) {
+                boolean inDay = i >= dayStart && i < dayEnd;
+                boolean inDaylight = time[i] >= sunrise && time[i] <= sunset;
+                aggregates.accumulate(columns, i, inDay, inDaylight);
+            }
+        } else {
+            // Only the buckets the day and its daylight window fall into; sunset can be on the next UTC day
+            long firstDay = dayBuckets.epochDay(bucket);
+            long lastDay = firstDay;
+            if (withDaylight && sunset >= sunrise) {
+                firstDay = Math.max(Math.min(firstDay, DayBuckets.epochDayOf(sunrise)), dayBuckets.epochDay(0));
+                lastDay = Math.min(Math.max(lastDay, DayBuckets.epochDayOf(sunset)),
+                        dayBuckets.epochDay(dayBuckets.size() - 1));
+            }
+            for (long day = firstDay; day <= lastDay; day++) {
+                int other = dayBuckets.indexOf(day);
+                if (other < 0) {
+                    continue;
+                }
+                for (int position = dayBuckets.start(other); position < dayBuckets.end(other); position++) {
+                    int i = dayBuckets.hourIndex(position);
+                    boolean inDaylight = time[i] >= sunrise && time[i] <= sunset;
+                    aggregates.accumulate(columns, i, other == bucket, inDaylight);
+                }
+            }
+        }
+        return aggregates;
+    }
+
+    public Double average(HourlyVariable variable) {
+        int v = variable.ordinal();
+        if (!present[v] || counts[v] == 0) {
+            return null;
+        }
+        return WeatherConverter.round(sums[v] / counts[v], 2);
+    }
+
+    public Double sum(HourlyVariable variable) {
+        int v = variable.ordinal();
+        return present[v] ? WeatherConverter.round(sums[v], 2) : null;
+    }
+
+    public Double daylightAverage(HourlyVariable variable) {
+        int v = variable.ordinal();
+        if (!alignedWithTime[v] || daylightCounts[v] == 0) {
+            return null;
+        }
+        return WeatherConverter.round(daylightSums[v] / daylightCounts[v], 2);
+    }
+
+    public Double daylightSum(HourlyVariable variable) {
+        int v = variable.ordinal();
+        if (!alignedWithTime[v] || daylightHours == 0) {
+            return null;
+        }
+        return WeatherConverter.round(daylightSums[v], 2);
+    }
+
+    private void accumulate(double[][] columns, int index, boolean inDay, boolean inDaylight) {
+        if (!inDay && !inDaylight) {
+            return;
+        }
+        if (inDaylight) {
+            daylightHours++;
+        }
+        for (int v = 0; v < columns.length; v++) {
+            double[] values = columns[v];
+            if (values == null || index >= values.length || Double.isNaN(values[index])) {
+                continue;
+            }
+            if (inDay) {
+                sums[v] += values[index];
+                counts[v]++;
+            }
+            if (inDaylight) {
+                daylightSums[v] += values[index];
+                daylightCounts[v]++;
+            }
+        }
+    }
+}
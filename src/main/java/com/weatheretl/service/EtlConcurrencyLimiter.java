@@ -0,0 +1,54 @@
+package com.weatheretl.service;
+
+import com.weatheretl.config.WeatherEtlConfig;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the ETL runs executing at once across synchronous, reactive and background-job requests
+ * ({@code weather.execution.max-concurrent-jobs}). HTTP requests give up after
+ * {@code weather.execution.acquire-timeout}; background jobs go back to their queue instead.
+ */
+@Component
+public class EtlConcurrencyLimiter {
+
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+
+    public EtlConcurrencyLimiter(WeatherEtlConfig config) {
+        this.permits = new Semaphore(Math.max(1, config.getExecution().getMaxConcurrentJobs()), true);
+        this.acquireTimeout = config.getExecution().getAcquireTimeout();
+    }
+
+    /**
+     * Waits up to {@code acquire-timeout} for a permit.
+     *
+     * @return {@code false} when no permit became free in time
+     */
+    public boolean tryAcquire() throws InterruptedException {
+        return permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public boolean tryAcquire(Duration timeout) throws InterruptedException {
+        return permits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void acquire() throws InterruptedException {
+        permits.acquire();
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    public Duration getAcquireTimeout() {
+        return acquireTimeout;
+    }
+}
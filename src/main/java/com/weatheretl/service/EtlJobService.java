@@ -0,0 +1,347 @@
+package com.weatheretl.service;
+
+import com.weatheretl.config.WeatherEtlConfig;
+import com.weatheretl.config.WeatherEtlConfig.JobsConfig;
+import com.weatheretl.config.WeatherEtlConfig.LoadMode;
+import com.weatheretl.service.WeatherEtlService.EtlResult;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs ETL requests in the background on a fixed pool of workers, so a long backfill does not
+ * hold an HTTP connection open. Jobs beyond {@code weather.jobs.queue-capacity} waiting for a
+ * worker are rejected; finished jobs are kept for {@code weather.jobs.retention}. A job also needs
+ * an {@link EtlConcurrencyLimiter} permit, so jobs count toward the same cap as synchronous
+ * requests; a worker that cannot get one puts the job back in the queue and moves on.
+ */
+@Slf4j
+@Service
+public class EtlJobService {
+
+    private static final Duration PERMIT_POLL_INTERVAL = Duration.ofMillis(200);
+
+    private final WeatherEtlService weatherEtlService;
+    private final WeatherEtlConfig config;
+    private final EtlConcurrencyLimiter limiter;
+    private final Clock clock;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, EtlJob> jobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public EtlJobService(WeatherEtlService weatherEtlService, WeatherEtlConfig config,
+                         EtlConcurrencyLimiter limiter) {
+        this(weatherEtlService, config, limiter, Clock.systemUTC());
+    }
+
+    EtlJobService(WeatherEtlService weatherEtlService, WeatherEtlConfig config,
+                  EtlConcurrencyLimiter limiter, Clock clock) {
+        this.weatherEtlService = weatherEtlService;
+        this.config = config;
+        this.limiter = limiter;
+        this.clock = clock;
+        JobsConfig settings = config.getJobs();
+        int workers = Math.max(1, settings.getWorkers());
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, settings.getQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "etl-job-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Queues the request and returns its initial status right away.
+     *
+     * @throws JobRejectedException when every worker is busy and the queue is full
+     */
+    public EtlJobStatus submit(EtlJobRequest request) {
+        evictExpired();
+        EtlJob job = new EtlJob(UUID.randomUUID().toString(), request, clock.instant());
+        FutureTask<Void> task = new FutureTask<>(() -> run(job), null);
+        job.task = task;
+        jobs.put(job.id, job);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            throw new JobRejectedException("ETL job queue is full (" + executor.getQueue().size()
+                    + " jobs waiting, " + executor.getActiveCount() + " running)");
+        }
+        log.info("Queued ETL job {}: {} for period {} to {}", job.id, request.getType(),
+                request.getStartDate(), request.getEndDate());
+        return job.status();
+    }
+
+    public Optional<EtlJobStatus> getJob(String id) {
+        return Optional.ofNullable(jobs.get(id)).map(EtlJob::status);
+    }
+
+    public List<EtlJobStatus> getJobs() {
+        evictExpired();
+        return jobs.values().stream()
+                .map(EtlJob::status)
+                .sorted(Comparator.comparing(EtlJobStatus::getSubmittedAt).reversed())
+                .toList();
+    }
+
+    /**
+     * Cancels a queued job at once; a running job stops before its next chunk. Returns the job
+     * with {@code cancelRequested} unset when it had already finished.
+     */
+    public Optional<EtlJobStatus> cancel(String id) {
+        EtlJob job = jobs.get(id);
+        if (job == null) {
+            return Optional.empty();
+        }
+        synchronized (job) {
+            if (job.state.isFinished()) {
+                return Optional.of(job.status());
+            }
+            job.progress.cancel();
+            if (job.state == JobState.QUEUED) {
+                job.task.cancel(false);
+                executor.remove(job.task);
+                job.state = JobState.CANCELLED;
+                job.finishedAt = clock.instant();
+            }
+        }
+        log.info("Cancellation requested for ETL job {}", id);
+        return Optional.of(job.status());
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.values().forEach(job -> job.progress.cancel());
+        executor.shutdownNow();
+    }
+
+    private void run(EtlJob job) {
+        try {
+            while (true) {
+                if (job.state != JobState.QUEUED) {
+                    return;
+                }
+                if (limiter.tryAcquire(PERMIT_POLL_INTERVAL)) {
+                    break;
+                }
+                if (requeue(job)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            runWithPermit(job);
+        } finally {
+            limiter.release();
+        }
+    }
+
+    /**
+     * Puts a job that found no free permit at the back of the queue, so the worker can serve
+     * other jobs and {@link #cancel} can drop it from the queue. Returns {@code false} when the
+     * queue is full and the worker has to keep waiting itself.
+     */
+    private boolean requeue(EtlJob job) {
+        synchronized (job) {
+            if (job.state != JobState.QUEUED || executor.isShutdown()) {
+                return true;
+            }
+            FutureTask<Void> task = new FutureTask<>(() -> run(job), null);
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                return false;
+            }
+            job.task = task;
+            return true;
+        }
+    }
+
+    private void runWithPermit(EtlJob job) {
+        synchronized (job) {
+            if (job.state != JobState.QUEUED) {
+                return;
+            }
+            job.state = JobState.RUNNING;
+            job.startedAt = clock.instant();
+        }
+        log.info("Starting ETL job {}", job.id);
+        JobState finalState;
+        try {
+            EtlResult result = execute(job.request, job.progress);
+            job.result = result;
+            if (result.isSuccess()) {
+                finalState = JobState.SUCCEEDED;
+            } else {
+                finalState = job.progress.isCancelled() ? JobState.CANCELLED : JobState.FAILED;
+                job.errorMessage = result.getErrorMessage();
+            }
+        } catch (Exception e) {
+            log.error("ETL job {} failed", job.id, e);
+            finalState = JobState.FAILED;
+            job.errorMessage = "Unexpected error: " + e.getMessage();
+        }
+        synchronized (job) {
+            job.finishedAt = clock.instant();
+            job.state = finalState;
+        }
+        log.info("ETL job {} finished: {}", job.id, finalState);
+    }
+
+    private EtlResult execute(EtlJobRequest request, EtlProgress progress) {
+        LocalDate startDate = request.getStartDate();
+        LocalDate endDate = request.getEndDate();
+        return switch (request.getType()) {
+            case API_TO_CSV -> weatherEtlService.executeApiToCsv(startDate, endDate, request.getCsvPath(), progress);
+            case API_TO_DATABASE -> request.isIncremental()
+                    ? weatherEtlService.executeIncrementalToDatabase(startDate, endDate, request.getLoadMode(),
+                    progress)
+                    : weatherEtlService.executeApiToDatabase(startDate, endDate, request.getLoadMode(), progress);
+            case API_TO_ALL -> weatherEtlService.executeApiToCsvAndDatabase(startDate, endDate,
+                    request.getCsvPath(), request.getLoadMode(), progress);
+        };
+    }
+
+    private void evictExpired() {
+        Instant cutoff = clock.instant().minus(config.getJobs().getRetention());
+        jobs.values().removeIf(job -> {
+            Instant finishedAt = job.finishedAt;
+            return job.state.isFinished() && finishedAt != null && finishedAt.isBefore(cutoff);
+        });
+    }
+
+    private final class EtlJob {
+        private final String id;
+        private final EtlJobRequest request;
+        private final EtlProgress progress = new EtlProgress();
+        private final Instant submittedAt;
+        private volatile FutureTask<Void> task;
+        private volatile JobState state = JobState.QUEUED;
+        private volatile Instant startedAt;
+        private volatile Instant finishedAt;
+        private volatile EtlResult result;
+        private volatile String errorMessage;
+
+        private EtlJob(String id, EtlJobRequest request, Instant submittedAt) {
+            this.id = id;
+            this.request = request;
+            this.submittedAt = submittedAt;
+        }
+
+        private EtlJobStatus status() {
+            Instant started = startedAt;
+            Instant finished = finishedAt;
+            double seconds = started == null ? 0
+                    : Duration.between(started, finished != null ? finished : clock.instant()).toMillis() / 1000d;
+            return EtlJobStatus.builder()
+                    .id(id)
+                    .type(request.getType())
+                    .state(state)
+                    .startDate(request.getStartDate())
+                    .endDate(request.getEndDate())
+                    .submittedAt(submittedAt)
+                    .startedAt(started)
+                    .finishedAt(finished)
+                    .cancelRequested(progress.isCancelled())
+                    .daysTotal(progress.getDaysTotal())
+                    .daysFetched(progress.getDaysFetched())
+                    .daysTransformed(progress.getDaysTransformed())
+                    .daysLoaded(progress.getDaysLoaded())
+                    .recordsTransformed(progress.getRecordsTransformed())
+                    .recordsLoaded(progress.getRecordsLoaded())
+                    .daysPerSecond(seconds > 0 ? progress.getDaysLoaded() / seconds : 0)
+                    .recordsPerSecond(seconds > 0 ? progress.getRecordsLoaded() / seconds : 0)
+                    .errorMessage(errorMessage)
+                    .result(result)
+                    .build();
+        }
+    }
+
+    public enum JobType {
+        API_TO_CSV,
+        API_TO_DATABASE,
+        API_TO_ALL
+    }
+
+    public enum JobState {
+        QUEUED,
+        RUNNING,
+        SUCCEEDED,
+        FAILED,
+        CANCELLED;
+
+        public boolean isFinished() {
+            return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+        }
+    }
+
+    @lombok.Data
+    @lombok.Builder
+    public static class EtlJobRequest {
+        private JobType type;
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private String csvPath;
+        private LoadMode loadMode;
+        private boolean incremental;
+    }
+
+    @lombok.Data
+    @lombok.Builder
+    public static class EtlJobStatus {
+        private String id;
+        private JobType type;
+        private JobState state;
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private Instant submittedAt;
+        private Instant startedAt;
+        private Instant finishedAt;
+        private boolean cancelRequested;
+        private int daysTotal;
+        private int daysFetched;
+        private int daysTransformed;
+        private int daysLoaded;
+        private int recordsTransformed;
+        private int recordsLoaded;
+        private double daysPerSecond;
+        private double recordsPerSecond;
+        private String errorMessage;
+        private EtlResult result;
+    }
+
+    public static class JobRejectedException extends RuntimeException {
+        public JobRejectedException(String message) {
+            super(message);
+        }
+    }
+}
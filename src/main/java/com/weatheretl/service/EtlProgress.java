@@ -0,0 +1,72 @@
+package com.weatheretl.service;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Live counters of one ETL run, updated from the chunk threads while it is running and read by
+ * the job status endpoint. A day counts as loaded once its records reached every requested output.
+ */
+public class EtlProgress {
+
+    private final AtomicInteger daysTotal = new AtomicInteger();
+    private final AtomicInteger daysFetched = new AtomicInteger();
+    private final AtomicInteger daysTransformed = new AtomicInteger();
+    private final AtomicInteger daysLoaded = new AtomicInteger();
+    private final AtomicInteger recordsTransformed = new AtomicInteger();
+    private final AtomicInteger recordsLoaded = new AtomicInteger();
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+
+    public void start(long days) {
+        daysTotal.set((int) days);
+    }
+
+    public void fetched(long days) {
+        daysFetched.addAndGet((int) days);
+    }
+
+    public void transformed(long days, int records) {
+        daysTransformed.addAndGet((int) days);
+        recordsTransformed.addAndGet(records);
+    }
+
+    public void loaded(long days, int records) {
+        daysLoaded.addAndGet((int) days);
+        recordsLoaded.addAndGet(records);
+    }
+
+    /**
+     * Asks the run to stop issuing new chunks; chunks already in flight finish normally.
+     */
+    public void cancel() {
+        cancelled.set(true);
+    }
+
+    public boolean isCancelled() {
+        return cancelled.get();
+    }
+
+    public int getDaysTotal() {
+        return daysTotal.get();
+    }
+
+    public int getDaysFetched() {
+        return daysFetched.get();
+    }
+
+    public int getDaysTransformed() {
+        return daysTransformed.get();
+    }
+
+    public int getDaysLoaded() {
+        return daysLoaded.get();
+    }
+
+    public int getRecordsTransformed() {
+        return recordsTransformed.get();
+    }
+
+    public int getRecordsLoaded() {
+        return recordsLoaded.get();
+    }
+}
@@ -0,0 +1,234 @@
+package com.weatheretl.service;
+
+import com.weatheretl.config.WeatherEtlConfig;
+import com.weatheretl.config.WeatherEtlConfig.LocationConfig;
+import com.weatheretl.config.WeatherEtlConfig.ScheduleConfig;
+import com.weatheretl.service.WeatherEtlService.EtlResult;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs incremental ingestion for every configured location on its own cadence, so periodic
+ * loads do not pay the application startup cost of a cron-driven CLI run. Each run is delayed by
+ * a random jitter, and a location is never loaded twice at the same time. Windows missed while a
+ * run was slow or the service was down are covered by the next run: its period reaches back to
+ * the last successful run, and the first run after startup reaches back
+ * {@code weather.schedule.catch-up-days}. Every run holds an {@link EtlConcurrencyLimiter} permit;
+ * when none is free the remaining due locations wait for the next tick.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "weather.schedule", name = "enabled", havingValue = "true")
+public class IngestionScheduler {
+
+    private final WeatherEtlService weatherEtlService;
+    private final WeatherEtlConfig config;
+    private final EtlConcurrencyLimiter limiter;
+    private final Clock clock;
+    private final Executor executor;
+    private final List<LocationSchedule> schedules;
+    private ScheduledExecutorService ticker;
+
+    @Autowired
+    public IngestionScheduler(WeatherEtlService weatherEtlService, WeatherEtlConfig config,
+                              EtlConcurrencyLimiter limiter) {
+        this(weatherEtlService, config, limiter, Clock.systemUTC(),
+                newWorkerPool(config.getSchedule().getWorkers()));
+    }
+
+    IngestionScheduler(WeatherEtlService weatherEtlService, WeatherEtlConfig config, EtlConcurrencyLimiter limiter,
+                       Clock clock, Executor executor) {
+        this.weatherEtlService = weatherEtlService;
+        this.config = config;
+        this.limiter = limiter;
+        this.clock = clock;
+        this.executor = executor;
+        this.schedules = new ArrayList<>();
+        Instant now = clock.instant();
+        for (LocationConfig location : config.resolveLocations()) {
+            schedules.add(new LocationSchedule(location, now));
+        }
+    }
+
+    /**
+     * Starts ticking once the application is ready, so a CLI invocation never triggers scheduled runs.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (ticker != null) {
+            return;
+        }
+        ScheduleConfig settings = config.getSchedule();
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "etl-schedule-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long tickMillis = Math.max(1, settings.getTick().toMillis());
+        ticker.scheduleWithFixedDelay(this::tick, 0, tickMillis, TimeUnit.MILLISECONDS);
+        log.info("Scheduled ingestion started for {} locations, default interval {}, jitter up to {}",
+                schedules.size(), settings.getInterval(), settings.getJitter());
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+        if (executor instanceof ExecutorService workers) {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Dispatches every location that is due and not already running, as long as ETL permits
+     * are free; locations left over stay due for the next tick.
+     */
+    void tick() {
+        Instant now = clock.instant();
+        for (LocationSchedule schedule : schedules) {
+            if (now.isBefore(schedule.nextRunAt)) {
+                continue;
+            }
+            if (!schedule.running.compareAndSet(false, true)) {
+                log.debug("Skipping scheduled run for {}: previous run still in progress", schedule.name);
+                continue;
+            }
+            if (!acquirePermit()) {
+                schedule.running.set(false);
+                log.debug("Skipping scheduled runs until the next tick: no free ETL permit");
+                return;
+            }
+            schedule.dueAt = nextRunAt(schedule.dueAt, now, schedule.interval);
+            schedule.nextRunAt = schedule.dueAt.plus(jitter());
+            try {
+                executor.execute(() -> run(schedule));
+            } catch (RejectedExecutionException e) {
+                limiter.release();
+                schedule.running.set(false);
+                log.warn("Scheduled run for {} rejected: {}", schedule.name, e.getMessage());
+            }
+        }
+    }
+
+    private boolean acquirePermit() {
+        try {
+            return limiter.tryAcquire(Duration.ZERO);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void run(LocationSchedule schedule) {
+        ScheduleConfig settings = config.getSchedule();
+        try {
+            LocalDate today = LocalDate.now(clock);
+            LocalDate startDate = windowStart(schedule.lastSuccess, today, settings.getLookbackDays(),
+                    settings.getCatchUpDays());
+            log.info("Scheduled incremental run for {}: {} to {}", schedule.name, startDate, today);
+            EtlResult result = weatherEtlService.executeIncrementalToDatabase(schedule.location, startDate, today,
+                    settings.getLoadMode(), new EtlProgress());
+            if (result.isSuccess()) {
+                schedule.lastSuccess = today;
+                log.info("Scheduled run for {} completed: {} records, {} days already loaded",
+                        schedule.name, result.getRecordsTransformed(), result.getDaysSkipped());
+            } else {
+                log.warn("Scheduled run for {} failed: {}", schedule.name, result.getErrorMessage());
+            }
+        } catch (Exception e) {
+            log.error("Scheduled run for {} failed", schedule.name, e);
+        } finally {
+            limiter.release();
+            schedule.running.set(false);
+        }
+    }
+
+    /**
+     * Advances the previous due time (before jitter) by whole intervals; windows that passed
+     * meanwhile collapse into a single run instead of firing back to back.
+     */
+    static Instant nextRunAt(Instant due, Instant now, Duration interval) {
+        if (interval.isZero() || interval.isNegative()) {
+            return now;
+        }
+        Instant next = due.plus(interval);
+        if (next.isAfter(now)) {
+            return next;
+        }
+        long missed = Duration.between(next, now).toMillis() / interval.toMillis() + 1;
+        return next.plus(interval.multipliedBy(missed));
+    }
+
+    /**
+     * First day of the period to load: the recent look-back window, extended back to the last
+     * successful run, and never further than the catch-up limit.
+     */
+    static LocalDate windowStart(LocalDate lastSuccess, LocalDate today, int lookbackDays, int catchUpDays) {
+        LocalDate earliest = today.minusDays(Math.max(lookbackDays, catchUpDays));
+        if (lastSuccess == null) {
+            return earliest;
+        }
+        LocalDate start = today.minusDays(lookbackDays);
+        if (lastSuccess.isBefore(start)) {
+            start = lastSuccess;
+        }
+        return start.isBefore(earliest) ? earliest : start;
+    }
+
+    private Duration jitter() {
+        long maxMillis = config.getSchedule().getJitter().toMillis();
+        return maxMillis > 0 ? Duration.ofMillis(ThreadLocalRandom.current().nextLong(maxMillis + 1)) : Duration.ZERO;
+    }
+
+    private static ExecutorService newWorkerPool(int workers) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, workers), runnable -> {
+            Thread thread = new Thread(runnable, "etl-schedule-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private final class LocationSchedule {
+        private final LocationConfig location;
+        private final String name;
+        private final Duration interval;
+        private final AtomicBoolean running = new AtomicBoolean();
+        private volatile Instant dueAt;
+        private volatile Instant nextRunAt;
+        private volatile LocalDate lastSuccess;
+
+        private LocationSchedule(LocationConfig location, Instant dueAt) {
+            this.location = location;
+            this.name = location.getName() != null
+                    ? location.getName() : location.getLatitude() + "," + location.getLongitude();
+            this.interval = location.getInterval() != null
+                    ? location.getInterval() : config.getSchedule().getInterval();
+            this.dueAt = dueAt;
+            this.nextRunAt = dueAt.plus(jitter());
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.weatheretl.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.weatheretl.config.WeatherEtlConfig;
+import com.weatheretl.model.api.HourlyColumns;
+import com.weatheretl.model.api.WeatherApiModels.ColumnarWeatherResponse;
+import com.weatheretl.model.api.WeatherApiModels.DailyData;
+import com.weatheretl.util.DateRange;
+import com.weatheretl.util.DayBuckets;
+import com.weatheretl.util.MappedFileInputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps raw Open-Meteo responses on local disk, one gzip-compressed JSON file per location and
+ * UTC day ({@code <directory>/<lat>_<lon>/<yyyy-MM-dd>.json.gz}), so records can be rebuilt
+ * without network traffic. The store is bounded by {@code max-size}: when it grows past the limit
+ * the least recently used day files are deleted. File modification times carry the LRU order
+ * across restarts.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RawResponseStore {
+
+    private static final String SUFFIX = ".json.gz";
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final WeatherEtlConfig config;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Path, Long> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+    private boolean indexed;
+
+    public boolean isEnabled() {
+        return config.getApi().getStore().isEnabled();
+    }
+
+    /**
+     * Splits the response into UTC days of its hourly series and writes one file per day,
+     * replacing what was stored for those days before. Hours without a timestamp are dropped.
+     */
+    public void save(double latitude, double longitude, ColumnarWeatherResponse response) {
+        if (!isEnabled() || response == null || response.getHourly() == null) {
+            return;
+        }
+        HourlyColumns hourly = response.getHourly();
+        DayBuckets days = DayBuckets.of(hourly.getTime());
+        Map<LocalDate, List<Integer>> dailyByDay = indexByDay(
+                response.getDaily() != null ? response.getDaily().getTime() : null);
+        Path locationDir = locationDirectory(latitude, longitude);
+        try {
+            Files.createDirectories(locationDir);
+            for (int bucket = 0; bucket < days.size(); bucket++) {
+                int[] hours = new int[days.end(bucket) - days.start(bucket)];
+                for (int i = 0; i < hours.length; i++) {
+                    hours[i] = days.hourIndex(days.start(bucket) + i);
+                }
+                List<Integer> dailyIndexes = dailyByDay.get(days.date(bucket));
+                ColumnarWeatherResponse slice = withData(response, hourly.select(hours),
+                        dailyIndexes != null ? sliceDaily(response.getDaily(), dailyIndexes) : null);
+                write(locationDir.resolve(days.date(bucket) + SUFFIX), slice);
+            }
+            log.debug("Stored {} days of raw responses for {}, {}", days.size(), latitude, longitude);
+        } catch (IOException e) {
+            throw new RawStoreException("Failed to store raw response for " + latitude + ", " + longitude, e);
+        }
+    }
+
+    public List<LocalDate> missingDays(double latitude, double longitude, DateRange period) {
+        Path locationDir = locationDirectory(latitude, longitude);
+        List<LocalDate> missing = new ArrayList<>();
+        for (LocalDate day = period.start(); !day.isAfter(period.end()); day = day.plusDays(1)) {
+            if (!Files.isRegularFile(locationDir.resolve(day + SUFFIX))) {
+                missing.add(day);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Merges the stored days of {@code period} back into one response; days that are not
+     * stored are skipped. Returns {@code null} when none of the days are stored.
+     */
+    public ColumnarWeatherResponse load(double latitude, double longitude, DateRange period) {
+        Path locationDir = locationDirectory(latitude, longitude);
+        List<ColumnarWeatherResponse> stored = new ArrayList<>();
+        try {
+            for (LocalDate day = period.start(); !day.isAfter(period.end()); day = day.plusDays(1)) {
+                Path file = locationDir.resolve(day + SUFFIX);
+                if (Files.isRegularFile(file)) {
+                    stored.add(read(file));
+                }
+            }
+        } catch (IOException e) {
+            throw new RawStoreException("Failed to read stored responses for " + period, e);
+        }
+        if (stored.isEmpty()) {
+            return null;
+        }
+        List<HourlyColumns> hourly = new ArrayList<>(stored.size());
+        DailyData daily = new DailyData(new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        for (ColumnarWeatherResponse day : stored) {
+            if (day.getHourly() != null) {
+                hourly.add(day.getHourly());
+            }
+            appendDaily(daily, day.getDaily());
+        }
+        return withData(stored.get(0), HourlyColumns.concat(hourly), daily);
+    }
+
+    public synchronized long getStoredBytes() {
+        ensureIndexed();
+        return totalBytes;
+    }
+
+    private ColumnarWeatherResponse read(Path file) throws IOException {
+        ColumnarWeatherResponse response;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             InputStream in = new GZIPInputStream(new MappedFileInputStream(channel, 0), GZIP_BUFFER_SIZE)) {
+            response = objectMapper.readValue(in, ColumnarWeatherResponse.class);
+        }
+        touch(file);
+        return response;
+    }
+
+    private void write(Path file, ColumnarWeatherResponse slice) throws IOException {
+        // Unique per write, so concurrent saves of the same day never share a temp file
+        Path tmp = Files.createTempFile(file.getParent(), file.getFileName() + ".", ".tmp");
+        try {
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(tmp), GZIP_BUFFER_SIZE)) {
+                out.write(objectMapper.writeValueAsBytes(slice));
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        recordWrite(file, Files.size(file));
+    }
+
+    private synchronized void touch(Path file) throws IOException {
+        ensureIndexed();
+        if (entries.get(file) != null) {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        }
+    }
+
+    private synchronized void recordWrite(Path file, long size) {
+        ensureIndexed();
+        Long previous = entries.put(file, size);
+        totalBytes += size - (previous != null ? previous : 0L);
+        long maxBytes = config.getApi().getStore().getMaxSize().toBytes();
+        Iterator<Map.Entry<Path, Long>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<Path, Long> entry = eldest.next();
+            if (entry.getKey().equals(file)) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(entry.getKey());
+                totalBytes -= entry.getValue();
+                eldest.remove();
+                log.debug("Evicted stored response {}", entry.getKey());
+            } catch (IOException e) {
+                log.warn("Failed to evict stored response {}: {}", entry.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    private void ensureIndexed() {
+        if (indexed) {
+            return;
+        }
+        Path root = directory();
+        if (Files.isDirectory(root)) {
+            try (Stream<Path> files = Files.walk(root, 2)) {
+                files.filter(file -> file.getFileName().toString().endsWith(SUFFIX))
+                        .sorted(Comparator.comparing(RawResponseStore::lastModified))
+                        .forEach(file -> {
+                            long size = file.toFile().length();
+                            entries.put(file, size);
+                            totalBytes += size;
+                        });
+            } catch (IOException e) {
+                throw new RawStoreException("Failed to index response store " + root, e);
+            }
+        }
+        indexed = true;
+    }
+
+    private Path directory() {
+        return Paths.get(config.getApi().getStore().getDirectory());
+    }
+
+    private Path locationDirectory(double latitude, double longitude) {
+        return directory().resolve(String.format(Locale.ROOT, "%.4f_%.4f", latitude, longitude));
+    }
+
+    private static long lastModified(Path file) {
+        return file.toFile().lastModified();
+    }
+
+    private static Map<LocalDate, List<Integer>> indexByDay(List<Long> times) {
+        Map<LocalDate, List<Integer>> byDay = new TreeMap<>();
+        if (times == null) {
+            return byDay;
+        }
+        for (int i = 0; i < times.size(); i++) {
+            Long time = times.get(i);
+            if (time != null) {
+                LocalDate day = LocalDate.ofEpochDay(DayBuckets.epochDayOf(time));
+                byDay.computeIfAbsent(day, key -> new ArrayList<>(1)).add(i);
+            }
+        }
+        return byDay;
+    }
+
+    private static ColumnarWeatherResponse withData(ColumnarWeatherResponse header, HourlyColumns hourly,
+                                                    DailyData daily) {
+        return ColumnarWeatherResponse.builder()
+                .latitude(header.getLatitude())
+                .longitude(header.getLongitude())
+                .generationTimeMs(header.getGenerationTimeMs())
+                .utcOffsetSeconds(header.getUtcOffsetSeconds())
+                .timezone(header.getTimezone())
+                .elevation(header.getElevation())
+                .hourly(hourly)
+                .daily(daily)
+                .build();
+    }
+
+    private static DailyData sliceDaily(DailyData daily, List<Integer> indexes) {
+        return new DailyData(slice(daily.getTime(), indexes), slice(daily.getSunrise(), indexes),
+                slice(daily.getSunset(), indexes), slice(daily.getDaylightDuration(), indexes));
+    }
+
+    private static <T> List<T> slice(List<T> values, List<Integer> indexes) {
+        if (values == null) {
+            return null;
+        }
+        List<T> slice = new ArrayList<>(indexes.size());
+        for (int index : indexes) {
+            slice.add(index < values.size() ? values.get(index) : null);
+        }
+        return slice;
+    }
+
+    private static void appendDaily(DailyData target, DailyData source) {
+        if (source == null || source.getTime() == null) {
+            return;
+        }
+        int days = source.getTime().size();
+        target.getTime().addAll(source.getTime());
+        appendPadded(target.getSunrise(), source.getSunrise(), days);
+        appendPadded(target.getSunset(), source.getSunset(), days);
+        appendPadded(target.getDaylightDuration(), source.getDaylightDuration(), days);
+    }
+
+    private static <T> void appendPadded(List<T> target, List<T> source, int size) {
+        for (int i = 0; i < size; i++) {
+            target.add(source != null && i < source.size() ? source.get(i) : null);
+        }
+    }
+
+    public static class RawStoreException extends RuntimeException {
+        public RawStoreException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
@@ -0,0 +1,380 @@
+package com.weatheretl.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.weatheretl.model.api.HourlyColumns;
+import com.weatheretl.model.api.HourlyVariable;
+import com.weatheretl.model.output.WeatherRecord;
+import com.weatheretl.util.DayBuckets;
+import com.weatheretl.util.MappedFileInputStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Streams daily {@link WeatherRecord}s out of an archived Open-Meteo JSON file with a flat heap.
+ * <p>
+ * The file is memory-mapped and scanned once with a {@link JsonParser} to find where every
+ * hourly array starts; the small daily block is read as it passes. One parser per hourly array
+ * then advances in lockstep, feeding a rolling window of primitive columns. A day is emitted
+ * as soon as the following day is complete, so daylight windows crossing UTC midnight still
+ * see the hours after it. Hourly timestamps must be ascending.
+ */
+@Slf4j
+public final class StreamingJsonReader implements Iterator<WeatherRecord>, Closeable {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final HourlyVariable[] VARIABLES = HourlyVariable.values();
+    private static final int INITIAL_WINDOW_HOURS = 96;
+
+    private final FileChannel channel;
+    private final WeatherTransformer transformer;
+    private final List<JsonParser> parsers = new ArrayList<>();
+    private final JsonParser[] seriesCursors = new JsonParser[VARIABLES.length];
+    private final ArrayDeque<WeatherRecord> ready = new ArrayDeque<>();
+
+    private double latitude;
+    private double longitude;
+    private long timeOffset = -1;
+    private final long[] seriesOffsets = new long[VARIABLES.length];
+    private JsonParser timeCursor;
+
+    private boolean hasDaily;
+    private final Map<Long, Integer> dailyIndex = new HashMap<>();
+    private final List<Long> sunrise = new ArrayList<>();
+    private final List<Long> sunset = new ArrayList<>();
+    private final List<Long> daylightDuration = new ArrayList<>();
+
+    private long[] windowTime = new long[INITIAL_WINDOW_HOURS];
+    private final double[][] windowSeries = new double[VARIABLES.length][];
+    private int windowSize;
+    private long lastTimestamp = Long.MIN_VALUE;
+    private long nextDayToEmit = Long.MIN_VALUE;
+    private boolean exhausted;
+    private long hoursRead;
+
+    private StreamingJsonReader(FileChannel channel, WeatherTransformer transformer) {
+        this.channel = channel;
+        this.transformer = transformer;
+        Arrays.fill(seriesOffsets, -1);
+    }
+
+    public static StreamingJsonReader open(Path path, WeatherTransformer transformer) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        StreamingJsonReader reader = new StreamingJsonReader(channel, transformer);
+        try {
+            reader.scan();
+            reader.openCursors();
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+        return reader;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    public long getHoursRead() {
+        return hoursRead;
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (ready.isEmpty() && !exhausted) {
+                readHour();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to stream hourly data", e);
+        }
+        return !ready.isEmpty();
+    }
+
+    @Override
+    public WeatherRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return ready.poll();
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (JsonParser parser : parsers) {
+            parser.close();
+        }
+        channel.close();
+    }
+
+    private void scan() throws IOException {
+        JsonParser parser = createParser(0);
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Expected JSON object at the start of the weather response");
+        }
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "latitude" -> latitude = token.isNumeric() ? parser.getDoubleValue() : 0.0;
+                case "longitude" -> longitude = token.isNumeric() ? parser.getDoubleValue() : 0.0;
+                case "hourly" -> scanHourly(parser, token);
+                case "daily" -> readDaily(parser, token);
+                default -> parser.skipChildren();
+            }
+        }
+        parser.close();
+        parsers.remove(parser);
+    }
+
+    private void scanHourly(JsonParser parser, JsonToken token) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.START_ARRAY) {
+                long offset = parser.currentTokenLocation().getByteOffset();
+                if ("time".equals(field)) {
+                    timeOffset = offset;
+                } else {
+                    HourlyVariable variable = HourlyVariable.fromApiName(field);
+                    if (variable != null) {
+                        seriesOffsets[variable.ordinal()] = offset;
+                    }
+                }
+            }
+            parser.skipChildren();
+        }
+    }
+
+    private void readDaily(JsonParser parser, JsonToken token) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        List<Long> time = new ArrayList<>();
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "time" -> readLongs(parser, value, time);
+                case "sunrise" -> readLongs(parser, value, sunrise);
+                case "sunset" -> readLongs(parser, value, sunset);
+                case "daylight_duration" -> readLongs(parser, value, daylightDuration);
+                default -> parser.skipChildren();
+            }
+        }
+        // Matches WeatherTransformer: daily attributes are indexed by position among non-null dates
+        int dayIndex = 0;
+        for (Long timestamp : time) {
+            if (timestamp != null) {
+                dailyIndex.putIfAbsent(DayBuckets.epochDayOf(timestamp), dayIndex++);
+            }
+        }
+        hasDaily = !dailyIndex.isEmpty();
+    }
+
+    private void readLongs(JsonParser parser, JsonToken token, List<Long> target) throws IOException {
+        if (token != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        for (JsonToken value = parser.nextToken(); value != JsonToken.END_ARRAY; value = parser.nextToken()) {
+            target.add(value.isNumeric() ? parser.getLongValue() : null);
+        }
+    }
+
+    private void openCursors() throws IOException {
+        if (timeOffset < 0) {
+            log.warn("Missing hourly data in JSON file");
+            exhausted = true;
+            return;
+        }
+        timeCursor = openCursor(timeOffset);
+        for (HourlyVariable variable : VARIABLES) {
+            if (seriesOffsets[variable.ordinal()] >= 0) {
+                seriesCursors[variable.ordinal()] = openCursor(seriesOffsets[variable.ordinal()]);
+                windowSeries[variable.ordinal()] = new double[windowTime.length];
+            }
+        }
+    }
+
+    private JsonParser openCursor(long offset) throws IOException {
+        JsonParser parser = createParser(offset);
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new IOException("Expected hourly array at byte offset " + offset);
+        }
+        return parser;
+    }
+
+    private JsonParser createParser(long offset) throws IOException {
+        JsonParser parser = JSON_FACTORY.createParser(new MappedFileInputStream(channel, offset));
+        parsers.add(parser);
+        return parser;
+    }
+
+    private void readHour() throws IOException {
+        JsonToken token = timeCursor.nextToken();
+        if (token == null || token == JsonToken.END_ARRAY) {
+            exhausted = true;
+            emitDaysBefore(Long.MAX_VALUE);
+            return;
+        }
+        long timestamp = token.isNumeric() ? timeCursor.getLongValue() : DayBuckets.MISSING_TIMESTAMP;
+        if (timestamp == DayBuckets.MISSING_TIMESTAMP) {
+            skipHour();
+            return;
+        }
+        if (timestamp < lastTimestamp) {
+            throw new IllegalStateException("Hourly timestamps must be ascending for streaming ingestion, got "
+                    + timestamp + " after " + lastTimestamp);
+        }
+        lastTimestamp = timestamp;
+        long day = DayBuckets.epochDayOf(timestamp);
+        if (nextDayToEmit == Long.MIN_VALUE) {
+            nextDayToEmit = day;
+        }
+        // A day is final once the hours of the following day are all in the window
+        emitDaysBefore(day - 1);
+        appendHour(timestamp);
+    }
+
+    private void appendHour(long timestamp) throws IOException {
+        if (windowSize == windowTime.length) {
+            growWindow();
+        }
+        windowTime[windowSize] = timestamp;
+        for (int v = 0; v < VARIABLES.length; v++) {
+            if (seriesCursors[v] != null) {
+                windowSeries[v][windowSize] = nextValue(v);
+            }
+        }
+        windowSize++;
+        hoursRead++;
+    }
+
+    private void skipHour() throws IOException {
+        for (int v = 0; v < VARIABLES.length; v++) {
+            if (seriesCursors[v] != null) {
+                nextValue(v);
+            }
+        }
+    }
+
+    private double nextValue(int v) throws IOException {
+        JsonParser cursor = seriesCursors[v];
+        if (cursor.isClosed()) {
+            return Double.NaN;
+        }
+        JsonToken token = cursor.nextToken();
+        if (token == null || token == JsonToken.END_ARRAY) {
+            cursor.close();
+            return Double.NaN;
+        }
+        if (token.isNumeric()) {
+            return cursor.getDoubleValue();
+        }
+        if (token != JsonToken.VALUE_NULL) {
+            throw new IOException("Expected numeric value in hourly series '"
+                    + VARIABLES[v].getApiName() + "', got " + token);
+        }
+        return Double.NaN;
+    }
+
+    private void growWindow() {
+        windowTime = Arrays.copyOf(windowTime, windowTime.length * 2);
+        for (int v = 0; v < VARIABLES.length; v++) {
+            if (windowSeries[v] != null) {
+                windowSeries[v] = Arrays.copyOf(windowSeries[v], windowTime.length);
+            }
+        }
+    }
+
+    private void emitDaysBefore(long dayLimit) {
+        if (windowSize == 0) {
+            return;
+        }
+        HourlyColumns hourly = null;
+        DayBuckets dayBuckets = null;
+        while (nextDayToEmit < dayLimit && nextDayToEmit <= DayBuckets.epochDayOf(windowTime[windowSize - 1])) {
+            if (hourly == null) {
+                hourly = snapshotWindow();
+                dayBuckets = DayBuckets.of(hourly.getTime());
+            }
+            int bucket = dayBuckets.indexOf(LocalDate.ofEpochDay(nextDayToEmit));
+            if (bucket >= 0) {
+                emitDay(hourly, dayBuckets, bucket);
+            }
+            nextDayToEmit++;
+        }
+        if (hourly != null) {
+            trimWindow(nextDayToEmit - 1);
+        }
+    }
+
+    private void emitDay(HourlyColumns hourly, DayBuckets dayBuckets, int bucket) {
+        if (!hasDaily) {
+            ready.add(transformer.transformDay(latitude, longitude, hourly, dayBuckets, bucket, null, null, null));
+            return;
+        }
+        Integer dayIndex = dailyIndex.get(dayBuckets.epochDay(bucket));
+        if (dayIndex == null) {
+            return;
+        }
+        Long daylight = valueAt(daylightDuration, dayIndex);
+        ready.add(transformer.transformDay(latitude, longitude, hourly, dayBuckets, bucket,
+                valueAt(sunrise, dayIndex), valueAt(sunset, dayIndex),
+                daylight != null ? daylight.intValue() : null));
+    }
+
+    private HourlyColumns snapshotWindow() {
+        double[][] series = new double[VARIABLES.length][];
+        for (int v = 0; v < VARIABLES.length; v++) {
+            if (windowSeries[v] != null) {
+                series[v] = Arrays.copyOf(windowSeries[v], windowSize);
+            }
+        }
+        return new HourlyColumns(Arrays.copyOf(windowTime, windowSize), series);
+    }
+
+    private void trimWindow(long firstDayToKeep) {
+        int drop = 0;
+        while (drop < windowSize && DayBuckets.epochDayOf(windowTime[drop]) < firstDayToKeep) {
+            drop++;
+        }
+        if (drop == 0) {
+            return;
+        }
+        int keep = windowSize - drop;
+        System.arraycopy(windowTime, drop, windowTime, 0, keep);
+        for (double[] values : windowSeries) {
+            if (values != null) {
+                System.arraycopy(values, drop, values, 0, keep);
+            }
+        }
+        windowSize = keep;
+    }
+
+    private static Long valueAt(List<Long> values, int index) {
+        return index < values.size() ? values.get(index) : null;
+    }
+}
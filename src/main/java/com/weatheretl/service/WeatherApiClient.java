@@ -1,20 +1,30 @@
 package com.weatheretl.service;
 
 import com.weatheretl.config.WeatherEtlConfig;
-import com.weatheretl.model.api.WeatherApiModels.WeatherApiResponse;
+import com.weatheretl.config.WeatherEtlConfig.LocationConfig;
+import com.weatheretl.config.WeatherEtlConfig.RetryConfig;
+import com.weatheretl.model.api.WeatherApiModels.ColumnarWeatherResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -23,9 +33,12 @@ public class WeatherApiClient {
 
     private final WebClient webClient;
     private final WeatherEtlConfig config;
+    private final WeatherResponseCache responseCache;
+    private final RawResponseStore responseStore;
+    private final ApiRateLimiter rateLimiter;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
-    public WeatherApiResponse fetchWeatherData(LocalDate startDate, LocalDate endDate) {
+    public ColumnarWeatherResponse fetchWeatherData(LocalDate startDate, LocalDate endDate) {
         return fetchWeatherData(
                 config.getDefaultLocation().getLatitude(),
                 config.getDefaultLocation().getLongitude(),
@@ -34,18 +47,99 @@ public class WeatherApiClient {
         );
     }
 
-    @Retryable(
-            value = {WebClientException.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 2)
-    )
-    public WeatherApiResponse fetchWeatherData(double latitude, double longitude,
-                                               LocalDate startDate, LocalDate endDate) {
+    public ColumnarWeatherResponse fetchWeatherData(double latitude, double longitude,
+                                                    LocalDate startDate, LocalDate endDate) {
         log.info("Fetching weather data for coordinates: {}, {} from {} to {}",
                 latitude, longitude, startDate, endDate);
         Map<String, Object> params = buildApiParams(latitude, longitude, startDate, endDate);
+        ColumnarWeatherResponse cached = responseCache.get(latitude, longitude, startDate, endDate, params);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            ColumnarWeatherResponse response = requestWeatherData(params).block();
+
+            assert response != null;
+            log.info("Successfully fetched weather data. Generation time: {} ms",
+                    response.getGenerationTimeMs());
+            responseCache.put(latitude, longitude, startDate, endDate, params, response);
+            storeRawResponse(latitude, longitude, response);
+            return response;
+        } catch (WebClientResponseException e) {
+            log.error("API request failed with status: {} and body: {}",
+                    e.getStatusCode(), e.getResponseBodyAsString());
+            throw new WeatherApiException("Failed to fetch weather data: " + e.getMessage(), e);
+        } catch (Exception e) {
+            log.error("Unexpected error while fetching weather data", e);
+            throw new WeatherApiException("Unexpected error: " + e.getMessage(), e);
+        }
+    }
+
+    public Mono<ColumnarWeatherResponse> fetchWeatherDataReactive(LocalDate startDate, LocalDate endDate) {
+        return fetchWeatherDataReactive(
+                config.getDefaultLocation().getLatitude(),
+                config.getDefaultLocation().getLongitude(),
+                startDate,
+                endDate
+        );
+    }
+
+    public Mono<ColumnarWeatherResponse> fetchWeatherDataReactive(double latitude, double longitude,
+                                                                  LocalDate startDate, LocalDate endDate) {
+        return Mono.defer(() -> {
+                    Map<String, Object> params = buildApiParams(latitude, longitude, startDate, endDate);
+                    ColumnarWeatherResponse cached = responseCache.get(
+                            latitude, longitude, startDate, endDate, params);
+                    if (cached != null) {
+                        return Mono.just(cached);
+                    }
+                    log.info("Fetching weather data reactively for coordinates: {}, {} from {} to {}",
+                            latitude, longitude, startDate, endDate);
+                    return requestWeatherData(params)
+                            .doOnNext(response -> responseCache.put(
+                                    latitude, longitude, startDate, endDate, params, response))
+                            .flatMap(response -> responseStore.isEnabled()
+                                    ? Mono.fromRunnable(() -> storeRawResponse(latitude, longitude, response))
+                                            .subscribeOn(Schedulers.boundedElastic())
+                                            .thenReturn(response)
+                                    : Mono.just(response));
+                })
+                .doOnNext(response -> log.info("Successfully fetched weather data. Generation time: {} ms",
+                        response.getGenerationTimeMs()))
+                .onErrorMap(e -> !(e instanceof WeatherApiException), this::toApiException);
+    }
+
+    /**
+     * Fetches several locations in one request. Locations already in the response cache are
+     * served from it and left out of the request; responses come back in {@code locations} order.
+     */
+    public List<ColumnarWeatherResponse> fetchWeatherData(List<LocationConfig> locations,
+                                                          LocalDate startDate, LocalDate endDate) {
+        if (locations == null || locations.isEmpty()) {
+            return List.of();
+        }
+        ColumnarWeatherResponse[] responses = new ColumnarWeatherResponse[locations.size()];
+        List<Integer> missing = new ArrayList<>();
+        for (int i = 0; i < locations.size(); i++) {
+            LocationConfig location = locations.get(i);
+            responses[i] = responseCache.get(location.getLatitude(), location.getLongitude(), startDate, endDate,
+                    buildApiParams(location.getLatitude(), location.getLongitude(), startDate, endDate));
+            if (responses[i] == null) {
+                missing.add(i);
+            }
+        }
+        if (missing.isEmpty()) {
+            return List.of(responses);
+        }
+        List<LocationConfig> requested = missing.stream().map(locations::get).toList();
+        log.info("Fetching weather data for {} locations ({} cached) from {} to {}",
+                requested.size(), locations.size() - requested.size(), startDate, endDate);
+        Map<String, Object> params = buildApiParams(
+                joinCoordinates(requested, LocationConfig::getLatitude),
+                joinCoordinates(requested, LocationConfig::getLongitude),
+                startDate, endDate);
         try {
-            WeatherApiResponse response = webClient
+            List<ColumnarWeatherResponse> fetched = throttled(webClient
                     .get()
                     .uri(config.getApi().getBaseUrl(), uriBuilder -> {
                         params.forEach((key, value) -> {
@@ -56,25 +150,127 @@ public class WeatherApiClient {
                         return uriBuilder.build();
                     })
                     .retrieve()
-                    .bodyToMono(WeatherApiResponse.class)
-                    .timeout(config.getApi().getTimeout())
+                    .bodyToFlux(ColumnarWeatherResponse.class)
+                    .collectList())
                     .block();
 
-            assert response != null;
-            log.info("Successfully fetched weather data. Generation time: {} ms",
-                    response.getGenerationTimeMs());
-            return response;
+            if (fetched == null || fetched.size() != requested.size()) {
+                throw new WeatherApiException("Expected " + requested.size() + " location responses, got "
+                        + (fetched == null ? 0 : fetched.size()), null);
+            }
+            log.info("Successfully fetched weather data for {} locations", fetched.size());
+            for (int i = 0; i < fetched.size(); i++) {
+                LocationConfig location = requested.get(i);
+                ColumnarWeatherResponse response = fetched.get(i);
+                responseCache.put(location.getLatitude(), location.getLongitude(), startDate, endDate,
+                        buildApiParams(location.getLatitude(), location.getLongitude(), startDate, endDate),
+                        response);
+                storeRawResponse(location.getLatitude(), location.getLongitude(), response);
+                responses[missing.get(i)] = response;
+            }
+            return List.of(responses);
+        } catch (WeatherApiException e) {
+            throw e;
         } catch (WebClientResponseException e) {
-            log.error("API request failed with status: {} and body: {}",
+            log.error("Batch API request failed with status: {} and body: {}",
                     e.getStatusCode(), e.getResponseBodyAsString());
             throw new WeatherApiException("Failed to fetch weather data: " + e.getMessage(), e);
         } catch (Exception e) {
-            log.error("Unexpected error while fetching weather data", e);
+            log.error("Unexpected error while fetching batch weather data", e);
             throw new WeatherApiException("Unexpected error: " + e.getMessage(), e);
         }
     }
 
-    private Map<String, Object> buildApiParams(double latitude, double longitude,
+    private Mono<ColumnarWeatherResponse> requestWeatherData(Map<String, Object> params) {
+        return throttled(webClient
+                .get()
+                .uri(config.getApi().getBaseUrl(), uriBuilder -> {
+                    params.forEach((key, value) -> {
+                        if (value != null) {
+                            uriBuilder.queryParam(key, value);
+                        }
+                    });
+                    return uriBuilder.build();
+                })
+                .retrieve()
+                .bodyToMono(ColumnarWeatherResponse.class));
+    }
+
+    /**
+     * Runs the request through the rate limiter and retries connection failures, 429 and 5xx
+     * responses as configured in {@code weather.api.retry}. Every attempt waits for the limiter;
+     * the timeout applies to each attempt, not to time spent waiting.
+     */
+    private <T> Mono<T> throttled(Mono<T> request) {
+        RetryConfig retry = config.getApi().getRetry();
+        return rateLimiter.execute(request.timeout(config.getApi().getTimeout()))
+                .retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+                    Throwable failure = signal.failure();
+                    long attempt = signal.totalRetries() + 1;
+                    if (!isRetryable(failure) || attempt >= retry.getMaxAttempts()) {
+                        return Mono.error(failure);
+                    }
+                    Duration delay = retryDelay(retry, failure, attempt);
+                    log.warn("API request attempt {} failed ({}), retrying in {} ms",
+                            attempt, failure.getMessage(), delay.toMillis());
+                    return Mono.delay(delay);
+                })));
+    }
+
+    static boolean isRetryable(Throwable failure) {
+        if (failure instanceof WebClientRequestException) {
+            return true;
+        }
+        return failure instanceof WebClientResponseException response
+                && (ApiRateLimiter.isThrottled(response) || response.getStatusCode().is5xxServerError());
+    }
+
+    /**
+     * Honors Retry-After when the server sends one, otherwise backs off exponentially with jitter.
+     */
+    static Duration retryDelay(RetryConfig retry, Throwable failure, long attempt) {
+        if (retry.isRespectRetryAfter()) {
+            Optional<Duration> retryAfter = ApiRateLimiter.retryAfter(failure);
+            if (retryAfter.isPresent()) {
+                return retryAfter.get().compareTo(retry.getMaxRetryAfter()) > 0
+                        ? retry.getMaxRetryAfter()
+                        : retryAfter.get();
+            }
+        }
+        double backoff = retry.getDelay().toMillis() * Math.pow(retry.getMultiplier(), attempt - 1);
+        double capped = Math.min(backoff, retry.getMaxDelay().toMillis());
+        double jitter = retry.getJitter() > 0
+                ? 1 + retry.getJitter() * (2 * ThreadLocalRandom.current().nextDouble() - 1)
+                : 1;
+        return Duration.ofMillis(Math.max(0, Math.round(capped * jitter)));
+    }
+
+    private void storeRawResponse(double latitude, double longitude, ColumnarWeatherResponse response) {
+        try {
+            responseStore.save(latitude, longitude, response);
+        } catch (RawResponseStore.RawStoreException e) {
+            log.warn("Raw response for {}, {} was not stored: {}", latitude, longitude, e.getMessage());
+        }
+    }
+
+    private WeatherApiException toApiException(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            log.error("API request failed with status: {} and body: {}",
+                    responseException.getStatusCode(), responseException.getResponseBodyAsString());
+            return new WeatherApiException("Failed to fetch weather data: " + e.getMessage(), e);
+        }
+        log.error("Unexpected error while fetching weather data", e);
+        return new WeatherApiException("Unexpected error: " + e.getMessage(), e);
+    }
+
+    private String joinCoordinates(List<LocationConfig> locations,
+                                   ToDoubleFunction<LocationConfig> coordinate) {
+        return locations.stream()
+                .map(location -> String.valueOf(coordinate.applyAsDouble(location)))
+                .collect(Collectors.joining(","));
+    }
+
+    private Map<String, Object> buildApiParams(Object latitude, Object longitude,
                                                LocalDate startDate, LocalDate endDate) {
         Map<String, Object> params = new HashMap<>();
         params.put("latitude", latitude);
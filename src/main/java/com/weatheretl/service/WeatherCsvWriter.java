@@ -0,0 +1,189 @@
+package com.weatheretl.service;
+
+import com.weatheretl.model.output.WeatherRecord;
+import com.weatheretl.repository.WeatherDataColumn;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Incremental CSV encoder for {@link WeatherRecord}s. Every field is quoted and embedded
+ * quotes are backslash-escaped, as the opencsv writer did. Rows are encoded into a reused
+ * {@link StringBuilder} and flushed through a large buffer straight to a {@link FileChannel}.
+ * The bytes written, their CRC32C and the offset of the first row of each date are tracked on
+ * the way out so a {@link CsvIndex} can be produced without re-reading the file.
+ */
+public final class WeatherCsvWriter implements Closeable {
+
+    static final int BUFFER_SIZE = 1 << 20;
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final char ESCAPE = '\\';
+    private static final WeatherDataColumn[] COLUMNS = WeatherDataColumn.values();
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final StringBuilder row = new StringBuilder(1024);
+    private final CRC32C checksum = new CRC32C();
+    private final Map<LocalDate, Long> dateOffsets = new LinkedHashMap<>();
+    private long rowsWritten;
+    private long bytesFlushed;
+
+    private WeatherCsvWriter(FileChannel channel, int bufferSize) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+    }
+
+    public static WeatherCsvWriter open(Path path) throws IOException {
+        return open(path, BUFFER_SIZE);
+    }
+
+    static WeatherCsvWriter open(Path path, int bufferSize) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        WeatherCsvWriter writer = new WeatherCsvWriter(channel, bufferSize);
+        writer.writeHeader();
+        return writer;
+    }
+
+    public void write(WeatherRecord record) throws IOException {
+        if (record.getDate() != null) {
+            dateOffsets.putIfAbsent(record.getDate(), bytesFlushed + buffer.position());
+        }
+        row.setLength(0);
+        for (int i = 0; i < COLUMNS.length; i++) {
+            if (i > 0) {
+                row.append(SEPARATOR);
+            }
+            appendField(COLUMNS[i], COLUMNS[i].valueOf(record));
+        }
+        row.append('\n');
+        put(row);
+        rowsWritten++;
+    }
+
+    public long getRowsWritten() {
+        return rowsWritten;
+    }
+
+    /**
+     * Index of everything written so far; complete once the writer has been closed.
+     */
+    public CsvIndex index() {
+        return CsvIndex.builder()
+                .rowCount(rowsWritten)
+                .byteSize(bytesFlushed + buffer.position())
+                .checksum(checksum.getValue())
+                .dateOffsets(new LinkedHashMap<>(dateOffsets))
+                .build();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void writeHeader() throws IOException {
+        row.setLength(0);
+        for (int i = 0; i < COLUMNS.length; i++) {
+            if (i > 0) {
+                row.append(SEPARATOR);
+            }
+            row.append(QUOTE).append(COLUMNS[i].name()).append(QUOTE);
+        }
+        row.append('\n');
+        put(row);
+    }
+
+    private void appendField(WeatherDataColumn column, Object value) {
+        row.append(QUOTE);
+        if (value instanceof Double number) {
+            row.append(number.doubleValue());
+        } else if (value instanceof LocalDate date) {
+            appendDate(date);
+        } else if (value != null) {
+            String text = value.toString();
+            if (column.getSqlType() == Types.VARCHAR) {
+                appendEscaped(text);
+            } else {
+                row.append(text);
+            }
+        }
+        row.append(QUOTE);
+    }
+
+    private void appendDate(LocalDate date) {
+        int year = date.getYear();
+        if (year >= 0 && year < 1000) {
+            row.append(year < 10 ? "000" : year < 100 ? "00" : "0");
+        }
+        row.append(year).append('-');
+        appendTwoDigits(date.getMonthValue());
+        row.append('-');
+        appendTwoDigits(date.getDayOfMonth());
+    }
+
+    private void appendTwoDigits(int value) {
+        if (value < 10) {
+            row.append('0');
+        }
+        row.append(value);
+    }
+
+    private void appendEscaped(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == QUOTE || c == ESCAPE) {
+                row.append(ESCAPE);
+            }
+            row.append(c);
+        }
+    }
+
+    private void put(CharSequence chars) throws IOException {
+        for (int i = 0; i < chars.length(); i++) {
+            char c = chars.charAt(i);
+            if (c < 0x80) {
+                ensureCapacity(1);
+                buffer.put((byte) c);
+            } else {
+                int end = Character.isHighSurrogate(c) && i + 1 < chars.length() ? i + 2 : i + 1;
+                byte[] encoded = chars.subSequence(i, end).toString().getBytes(StandardCharsets.UTF_8);
+                ensureCapacity(encoded.length);
+                buffer.put(encoded);
+                i = end - 1;
+            }
+        }
+    }
+
+    private void ensureCapacity(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        checksum.update(buffer.array(), 0, buffer.limit());
+        bytesFlushed += buffer.limit();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -1,7 +1,12 @@
 package com.weatheretl.service;
 
 import com.weatheretl.config.WeatherEtlConfig;
+import com.weatheretl.config.WeatherEtlConfig.LoadMode;
 import com.weatheretl.model.output.WeatherRecord;
+import com.weatheretl.repository.WeatherBatchRepository;
+import com.weatheretl.repository.UpsertCounts;
+import com.weatheretl.repository.WeatherCopyRepository;
+import com.weatheretl.repository.WeatherDataColumn;
 import com.weatheretl.repository.WeatherRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -18,24 +24,42 @@ import java.util.Optional;
 public class WeatherDatabaseService {
     private final WeatherRepository weatherRepository;
     private final WeatherEtlConfig config;
+    private final WeatherBatchRepository weatherBatchRepository;
+    private final WeatherCopyRepository weatherCopyRepository;
 
     @Transactional
-    public void saveWeatherRecords(List<WeatherRecord> records) {
+    public UpsertCounts saveWeatherRecords(List<WeatherRecord> records) {
+        return saveWeatherRecords(records, config.getOutput().getLoadMode());
+    }
+
+    /**
+     * Upserts the records and reports how many were inserted, updated, or skipped because
+     * their content hash matched the stored row.
+     */
+    @Transactional
+    public UpsertCounts saveWeatherRecords(List<WeatherRecord> records, LoadMode loadMode) {
         if (records == null || records.isEmpty()) {
             log.warn("No records to save to database");
-            return;
+            return UpsertCounts.NONE;
         }
         log.info("Saving {} weather records to database", records.size());
         int batchSize = config.getOutput().getBatchSize();
+        if (loadMode == LoadMode.BATCH) {
+            return upsertInJdbcBatches(records, batchSize);
+        }
+        if (loadMode == LoadMode.COPY) {
+            return upsertWithCopy(records);
+        }
         int totalRecords = records.size();
         int processedRecords = 0;
+        UpsertCounts counts = UpsertCounts.NONE;
         for (int i = 0; i < totalRecords; i += batchSize) {
             int endIndex = Math.min(i + batchSize, totalRecords);
             List<WeatherRecord> batch = records.subList(i, endIndex);
 
             for (WeatherRecord record : batch) {
                 try {
-                    upsertWeatherRecord(record);
+                    counts = counts.plus(upsertWeatherRecord(record));
                     processedRecords++;
                 } catch (Exception e) {
                     log.error("Failed to save weather record for date: {}, location: {}, {}",
@@ -44,11 +68,40 @@ public class WeatherDatabaseService {
             }
             log.debug("Processed batch {}/{} records", processedRecords, totalRecords);
         }
-        log.info("Successfully saved {} weather records to database", processedRecords);
+        log.info("Successfully saved {} weather records to database: {}", processedRecords, counts);
+        return counts;
     }
 
+    private UpsertCounts upsertInJdbcBatches(List<WeatherRecord> records, int batchSize) {
+        try {
+            UpsertCounts counts = weatherBatchRepository.upsertAll(records, batchSize);
+            log.info("Successfully upserted weather records in JDBC batches of {}: {}", batchSize, counts);
+            return counts;
+        } catch (Exception e) {
+            log.error("Failed to batch upsert {} weather records", records.size(), e);
+            throw new DatabaseOperationException("Failed to batch upsert weather records", e);
+        }
+    }
+
+    private UpsertCounts upsertWithCopy(List<WeatherRecord> records) {
+        try {
+            UpsertCounts counts = weatherCopyRepository.copyUpsertAll(records);
+            log.info("Successfully merged weather records via COPY staging table: {}", counts);
+            return counts;
+        } catch (Exception e) {
+            log.error("Failed to COPY {} weather records", records.size(), e);
+            throw new DatabaseOperationException("Failed to bulk load weather records with COPY", e);
+        }
+    }
+
+    /**
+     * Inserts the record or updates the stored one; an existing row with the same content hash
+     * is left as is, so re-loading an unchanged day issues no UPDATE. The entity does not map
+     * {@code content_hash}, so it is written after the save to keep the batch and COPY paths
+     * from skipping rows on a stale hash.
+     */
     @Transactional
-    public void upsertWeatherRecord(WeatherRecord record) {
+    public UpsertCounts upsertWeatherRecord(WeatherRecord record) {
         try {
             Optional<WeatherRecord> existingRecord = weatherRepository
                     .findByDateAndLatitudeAndLongitude(
@@ -59,21 +112,34 @@ public class WeatherDatabaseService {
 
             if (existingRecord.isPresent()) {
                 WeatherRecord existing = existingRecord.get();
+                if (WeatherDataColumn.contentHash(existing) == WeatherDataColumn.contentHash(record)) {
+                    log.debug("Weather record for date: {}, location: {}, {} is unchanged",
+                            record.getDate(), record.getLatitude(), record.getLongitude());
+                    return UpsertCounts.UNCHANGED;
+                }
                 updateExistingRecord(existing, record);
                 weatherRepository.save(existing);
+                storeContentHash(existing);
                 log.debug("Updated existing weather record for date: {}, location: {}, {}",
                         record.getDate(), record.getLatitude(), record.getLongitude());
-            } else {
-                weatherRepository.save(record);
-                log.debug("Inserted new weather record for date: {}, location: {}, {}",
-                        record.getDate(), record.getLatitude(), record.getLongitude());
+                return UpsertCounts.UPDATED;
             }
+            weatherRepository.save(record);
+            storeContentHash(record);
+            log.debug("Inserted new weather record for date: {}, location: {}, {}",
+                    record.getDate(), record.getLatitude(), record.getLongitude());
+            return UpsertCounts.INSERTED;
         } catch (Exception e) {
             log.error("Failed to upsert weather record", e);
             throw new DatabaseOperationException("Failed to upsert weather record", e);
         }
     }
 
+    private void storeContentHash(WeatherRecord record) {
+        weatherRepository.updateContentHash(record.getDate(), record.getLatitude(), record.getLongitude(),
+                WeatherDataColumn.contentHash(record));
+    }
+
     private void updateExistingRecord(WeatherRecord existing, WeatherRecord newRecord) {
         existing.setAvgTemperature2m24h(newRecord.getAvgTemperature2m24h());
         existing.setAvgRelativeHumidity2m24h(newRecord.getAvgRelativeHumidity2m24h());
@@ -139,6 +205,15 @@ public class WeatherDatabaseService {
         return weatherRepository.existsByDateAndLatitudeAndLongitude(date, latitude, longitude);
     }
 
+    /**
+     * Dates in the range that already have a record at exactly these coordinates, which are the
+     * API grid cell the records were stored under rather than a requested point.
+     */
+    public Set<LocalDate> getLoadedDates(LocalDate startDate, LocalDate endDate,
+                                         double latitude, double longitude) {
+        return weatherRepository.findDatesAt(startDate, endDate, latitude, longitude);
+    }
+
     public long getRecordCount(LocalDate startDate, LocalDate endDate) {
         return weatherRepository.countByDateBetween(startDate, endDate);
     }
@@ -1,31 +1,79 @@
 package com.weatheretl.service;
 
-import com.weatheretl.model.api.WeatherApiModels.WeatherApiResponse;
+import com.weatheretl.config.WeatherEtlConfig;
+import com.weatheretl.config.WeatherEtlConfig.ChunkConfig;
+import com.weatheretl.config.WeatherEtlConfig.LoadMode;
+import com.weatheretl.config.WeatherEtlConfig.LocationConfig;
+import com.weatheretl.model.api.WeatherApiModels.ColumnarWeatherResponse;
 import com.weatheretl.model.output.WeatherRecord;
+import com.weatheretl.repository.UpsertCounts;
 import com.weatheretl.service.CsvExportService.CsvExportException;
+import com.weatheretl.service.CsvExportService.CsvWriteStream;
+import com.weatheretl.service.RawResponseStore.RawStoreException;
 import com.weatheretl.service.WeatherApiClient.WeatherApiException;
 import com.weatheretl.service.WeatherDatabaseService.DatabaseOperationException;
+import com.weatheretl.util.DateRange;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class WeatherEtlService {
+    private static final int MAX_REPORTED_ERRORS = 10;
+
     private final WeatherApiClient weatherApiClient;
     private final WeatherTransformer weatherTransformer;
+    // Sinks are resolved on first use, so a lean CLI run builds only the one its output needs
+    @Lazy
     private final CsvExportService csvExportService;
+    @Lazy
     private final WeatherDatabaseService weatherDatabaseService;
+    private final RawResponseStore rawResponseStore;
+    private final WeatherEtlConfig config;
+    // Requested point -> API grid cell its records are stored under
+    private final Map<GridCell, GridCell> gridCells = new ConcurrentHashMap<>();
 
     public EtlResult executeApiToCsv(LocalDate startDate, LocalDate endDate) {
         return executeApiToCsv(startDate, endDate, null);
     }
 
     public EtlResult executeApiToCsv(LocalDate startDate, LocalDate endDate, String csvPath) {
+        return executeApiToCsv(startDate, endDate, csvPath, new EtlProgress());
+    }
+
+    public EtlResult executeApiToCsv(LocalDate startDate, LocalDate endDate, String csvPath,
+                                     EtlProgress progress) {
+        List<DateRange> chunks = planChunks(startDate, endDate);
+        progress.start(totalDays(chunks));
+        if (chunks.size() > 1) {
+            return executeChunked(startDate, endDate, chunks, true, false, csvPath, null, progress, null);
+        }
         log.info("Starting ETL process: API -> CSV for period {} to {}", startDate, endDate);
 
         EtlResult result = EtlResult.builder()
@@ -34,11 +82,13 @@ public class WeatherEtlService {
                 .success(false)
                 .build();
         try {
-            WeatherApiResponse apiResponse = weatherApiClient.fetchWeatherData(startDate, endDate);
+            ColumnarWeatherResponse apiResponse = weatherApiClient.fetchWeatherData(startDate, endDate);
             result.setApiResponseReceived(true);
+            progress.fetched(progress.getDaysTotal());
 
-            List<WeatherRecord> records = weatherTransformer.transformWeatherData(apiResponse);
+            List<WeatherRecord> records = weatherTransformer.transformColumnarData(apiResponse);
             result.setRecordsTransformed(records.size());
+            progress.transformed(progress.getDaysTotal(), records.size());
 
             if (records.isEmpty()) {
                 result.setErrorMessage("No records were transformed from API response");
@@ -51,6 +101,7 @@ public class WeatherEtlService {
             }
             result.setCsvExported(true);
             result.setSuccess(true);
+            progress.loaded(progress.getDaysTotal(), records.size());
             log.info("ETL process completed successfully: {} records exported to CSV", records.size());
         } catch (WeatherApiException e) {
             result.setErrorMessage("API error: " + e.getMessage());
@@ -66,6 +117,20 @@ public class WeatherEtlService {
     }
 
     public EtlResult executeApiToDatabase(LocalDate startDate, LocalDate endDate) {
+        return executeApiToDatabase(startDate, endDate, null);
+    }
+
+    public EtlResult executeApiToDatabase(LocalDate startDate, LocalDate endDate, LoadMode loadMode) {
+        return executeApiToDatabase(startDate, endDate, loadMode, new EtlProgress());
+    }
+
+    public EtlResult executeApiToDatabase(LocalDate startDate, LocalDate endDate, LoadMode loadMode,
+                                          EtlProgress progress) {
+        List<DateRange> chunks = planChunks(startDate, endDate);
+        progress.start(totalDays(chunks));
+        if (chunks.size() > 1) {
+            return executeChunked(startDate, endDate, chunks, false, true, null, loadMode, progress, null);
+        }
         log.info("Starting ETL process: API -> Database for period {} to {}", startDate, endDate);
         EtlResult result = EtlResult.builder()
                 .startDate(startDate)
@@ -73,17 +138,20 @@ public class WeatherEtlService {
                 .success(false)
                 .build();
         try {
-            WeatherApiResponse apiResponse = weatherApiClient.fetchWeatherData(startDate, endDate);
+            ColumnarWeatherResponse apiResponse = weatherApiClient.fetchWeatherData(startDate, endDate);
             result.setApiResponseReceived(true);
-            List<WeatherRecord> records = weatherTransformer.transformWeatherData(apiResponse);
+            progress.fetched(progress.getDaysTotal());
+            List<WeatherRecord> records = weatherTransformer.transformColumnarData(apiResponse);
             result.setRecordsTransformed(records.size());
+            progress.transformed(progress.getDaysTotal(), records.size());
             if (records.isEmpty()) {
                 result.setErrorMessage("No records were transformed from API response");
                 return result;
             }
-            weatherDatabaseService.saveWeatherRecords(records);
+            result.addUpserts(saveToDatabase(records, loadMode));
             result.setDatabaseSaved(true);
             result.setSuccess(true);
+            progress.loaded(progress.getDaysTotal(), records.size());
             log.info("ETL process completed successfully: {} records saved to database", records.size());
         } catch (WeatherApiException e) {
             result.setErrorMessage("API error: " + e.getMessage());
@@ -98,11 +166,125 @@ public class WeatherEtlService {
         return result;
     }
 
+    /**
+     * Loads only the days of the period that the database does not have yet for the default
+     * location. Days within {@code weather.incremental.refresh-recent-days} of today are always
+     * fetched again, since their forecast or preliminary values may still change.
+     */
+    public EtlResult executeIncrementalToDatabase(LocalDate startDate, LocalDate endDate, LoadMode loadMode) {
+        return executeIncrementalToDatabase(startDate, endDate, loadMode, new EtlProgress());
+    }
+
+    public EtlResult executeIncrementalToDatabase(LocalDate startDate, LocalDate endDate, LoadMode loadMode,
+                                                  EtlProgress progress) {
+        return executeIncrementalToDatabase(null, startDate, endDate, loadMode, progress);
+    }
+
+    /**
+     * Incremental load for one location; {@code null} stands for the default location.
+     */
+    public EtlResult executeIncrementalToDatabase(LocationConfig location, LocalDate startDate, LocalDate endDate,
+                                                  LoadMode loadMode, EtlProgress progress) {
+        log.info("Starting incremental ETL process: API -> Database for {} period {} to {}",
+                location != null ? location.getName() : "default location", startDate, endDate);
+        EtlResult result = EtlResult.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .success(false)
+                .build();
+        try {
+            DateRange period = new DateRange(startDate, endDate);
+            double latitude = location != null ? location.getLatitude() : config.getDefaultLocation().getLatitude();
+            double longitude = location != null
+                    ? location.getLongitude() : config.getDefaultLocation().getLongitude();
+            GridCell cell = gridCell(latitude, longitude, startDate);
+            Set<LocalDate> loaded = weatherDatabaseService.getLoadedDates(startDate, endDate,
+                    cell.latitude(), cell.longitude());
+            List<DateRange> gaps = planIncremental(period, loaded, LocalDate.now(ZoneOffset.UTC),
+                    config.getIncremental().getRefreshRecentDays());
+            int daysToLoad = gaps.stream().mapToInt(gap -> (int) gap.days()).sum();
+            int daysSkipped = (int) period.days() - daysToLoad;
+            progress.start(daysToLoad);
+            if (gaps.isEmpty()) {
+                log.info("All {} days of {} are already loaded, nothing to fetch", daysSkipped, period);
+                result.setDaysSkipped(daysSkipped);
+                result.setSuccess(true);
+                return result;
+            }
+            log.info("Fetching {} missing days in {} ranges, {} days already loaded", daysToLoad, gaps.size(),
+                    daysSkipped);
+            int chunkDays = config.getApi().getChunk().getDays();
+            List<DateRange> chunks = gaps.stream()
+                    .flatMap(gap -> gap.split(chunkDays).stream())
+                    .toList();
+            result = executeChunked(startDate, endDate, chunks, false, true, null, loadMode, progress, location);
+            result.setDaysSkipped(daysSkipped);
+        } catch (DatabaseOperationException e) {
+            result.setErrorMessage("Database error: " + e.getMessage());
+            log.error("Incremental ETL process failed reading loaded dates", e);
+        } catch (Exception e) {
+            result.setErrorMessage("Unexpected error: " + e.getMessage());
+            log.error("Incremental ETL process failed with unexpected error", e);
+        }
+        return result;
+    }
+
+    /**
+     * The API snaps a requested point to its grid, and records keep the grid cell's coordinates,
+     * so loaded dates are looked up by that cell. It is taken from an earlier response for the
+     * point, or resolved with a one-day request the first time the point is seen.
+     */
+    private GridCell gridCell(double latitude, double longitude, LocalDate day) {
+        GridCell requested = new GridCell(latitude, longitude);
+        GridCell cell = gridCells.get(requested);
+        if (cell == null) {
+            ColumnarWeatherResponse response = weatherApiClient.fetchWeatherData(latitude, longitude, day, day);
+            cell = new GridCell(response.getLatitude(), response.getLongitude());
+            gridCells.put(requested, cell);
+            log.debug("Resolved {}, {} to grid cell {}, {}", latitude, longitude, cell.latitude(), cell.longitude());
+        }
+        return cell;
+    }
+
+    private void rememberGridCell(LocationConfig location, ColumnarWeatherResponse response) {
+        double latitude = location != null ? location.getLatitude() : config.getDefaultLocation().getLatitude();
+        double longitude = location != null ? location.getLongitude() : config.getDefaultLocation().getLongitude();
+        gridCells.putIfAbsent(new GridCell(latitude, longitude),
+                new GridCell(response.getLatitude(), response.getLongitude()));
+    }
+
+    static List<DateRange> planIncremental(DateRange period, Set<LocalDate> loaded, LocalDate today,
+                                           int refreshRecentDays) {
+        LocalDate refreshFrom = today.minusDays(Math.max(0, refreshRecentDays));
+        Set<LocalDate> skipped = new HashSet<>();
+        for (LocalDate day : loaded) {
+            if (day.isBefore(refreshFrom)) {
+                skipped.add(day);
+            }
+        }
+        return period.without(skipped);
+    }
+
     public EtlResult executeApiToCsvAndDatabase(LocalDate startDate, LocalDate endDate) {
         return executeApiToCsvAndDatabase(startDate, endDate, null);
     }
 
     public EtlResult executeApiToCsvAndDatabase(LocalDate startDate, LocalDate endDate, String csvPath) {
+        return executeApiToCsvAndDatabase(startDate, endDate, csvPath, null);
+    }
+
+    public EtlResult executeApiToCsvAndDatabase(LocalDate startDate, LocalDate endDate, String csvPath,
+                                                LoadMode loadMode) {
+        return executeApiToCsvAndDatabase(startDate, endDate, csvPath, loadMode, new EtlProgress());
+    }
+
+    public EtlResult executeApiToCsvAndDatabase(LocalDate startDate, LocalDate endDate, String csvPath,
+                                                LoadMode loadMode, EtlProgress progress) {
+        List<DateRange> chunks = planChunks(startDate, endDate);
+        progress.start(totalDays(chunks));
+        if (chunks.size() > 1) {
+            return executeChunked(startDate, endDate, chunks, true, true, csvPath, loadMode, progress, null);
+        }
         log.info("Starting ETL process: API -> CSV + Database for period {} to {}", startDate, endDate);
         EtlResult result = EtlResult.builder()
                 .startDate(startDate)
@@ -110,10 +292,12 @@ public class WeatherEtlService {
                 .success(false)
                 .build();
         try {
-            WeatherApiResponse apiResponse = weatherApiClient.fetchWeatherData(startDate, endDate);
+            ColumnarWeatherResponse apiResponse = weatherApiClient.fetchWeatherData(startDate, endDate);
             result.setApiResponseReceived(true);
-            List<WeatherRecord> records = weatherTransformer.transformWeatherData(apiResponse);
+            progress.fetched(progress.getDaysTotal());
+            List<WeatherRecord> records = weatherTransformer.transformColumnarData(apiResponse);
             result.setRecordsTransformed(records.size());
+            progress.transformed(progress.getDaysTotal(), records.size());
             if (records.isEmpty()) {
                 result.setErrorMessage("No records were transformed from API response");
                 return result;
@@ -130,7 +314,7 @@ public class WeatherEtlService {
                 result.setErrorMessage("CSV export failed: " + e.getMessage());
             }
             try {
-                weatherDatabaseService.saveWeatherRecords(records);
+                result.addUpserts(saveToDatabase(records, loadMode));
                 result.setDatabaseSaved(true);
             } catch (DatabaseOperationException e) {
                 log.error("Database save failed", e);
@@ -142,6 +326,7 @@ public class WeatherEtlService {
             }
             result.setSuccess(result.isCsvExported() || result.isDatabaseSaved());
             if (result.isSuccess()) {
+                progress.loaded(progress.getDaysTotal(), records.size());
                 log.info("ETL process completed: {} records processed (CSV: {}, DB: {})",
                         records.size(), result.isCsvExported(), result.isDatabaseSaved());
             }
@@ -155,59 +340,645 @@ public class WeatherEtlService {
         return result;
     }
 
-    public EtlResult processJsonData(WeatherApiResponse apiResponse, boolean saveToCsv,
+    private List<DateRange> planChunks(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            return List.of();
+        }
+        return new DateRange(startDate, endDate).split(config.getApi().getChunk().getDays());
+    }
+
+    private static long totalDays(List<DateRange> chunks) {
+        return chunks.stream().mapToLong(DateRange::days).sum();
+    }
+
+    /**
+     * Fetches, transforms and loads every chunk independently with bounded parallelism.
+     * A chunk whose database load fails is reloaded on its own from the response already
+     * fetched; API failures are left to the client, which retries them through the rate
+     * limiter. Chunks that still fail are reported while the others stay loaded. Once
+     * {@code progress} is cancelled no further chunks are started. CSV rows are written to one
+     * file as each chunk completes, in period order.
+     */
+    private EtlResult executeChunked(LocalDate startDate, LocalDate endDate, List<DateRange> chunks,
+                                     boolean saveToCsv, boolean saveToDatabase, String csvPath,
+                                     LoadMode loadMode, EtlProgress progress, LocationConfig location) {
+        ChunkConfig chunkConfig = config.getApi().getChunk();
+        int parallelism = Math.max(1, chunkConfig.getParallelism());
+        log.info("Starting chunked ETL process for period {} to {}: {} chunks, parallelism {}, CSV={}, DB={}",
+                startDate, endDate, chunks.size(), parallelism, saveToCsv, saveToDatabase);
+        EtlResult result = EtlResult.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .success(false)
+                .build();
+        AtomicInteger recordCount = new AtomicInteger();
+        AtomicBoolean responseReceived = new AtomicBoolean();
+        List<String> failedChunks = Collections.synchronizedList(new ArrayList<>());
+        String csvFile = csvPath != null ? csvPath : config.getOutput().getCsvPath();
+        AtomicReference<CsvWriteStream> csv = new AtomicReference<>();
+        AtomicReference<CsvExportException> csvError = new AtomicReference<>();
+        try {
+            Flux.fromIterable(chunks)
+                    .takeWhile(chunk -> !progress.isCancelled())
+                    .flatMapSequential(chunk -> Mono.defer(() -> fetchChunk(location, chunk))
+                                    .doOnNext(response -> {
+                                        responseReceived.set(true);
+                                        rememberGridCell(location, response);
+                                        progress.fetched(chunk.days());
+                                    })
+                                    .publishOn(Schedulers.boundedElastic())
+                                    .map(response -> transformChunk(chunk, response, progress))
+                                    .flatMap(records -> Mono.fromCallable(() -> loadChunk(chunk, records,
+                                                    saveToDatabase, loadMode, result, progress))
+                                            .subscribeOn(Schedulers.boundedElastic())
+                                            .retryWhen(Retry.backoff(Math.max(0, chunkConfig.getMaxAttempts() - 1),
+                                                            config.getApi().getRetry().getDelay())
+                                                    .doBeforeRetry(signal -> log.warn("Retrying load of chunk {} after: {}",
+                                                            chunk, signal.failure().getMessage()))
+                                                    .onRetryExhaustedThrow((spec, signal) -> signal.failure())))
+                                    .doOnNext(records -> recordCount.addAndGet(records.size()))
+                                    .onErrorResume(e -> {
+                                        log.error("Chunk {} failed", chunk, e);
+                                        failedChunks.add(chunk + ": " + e.getMessage());
+                                        return Mono.empty();
+                                    }),
+                            parallelism)
+                    .doOnNext(records -> {
+                        if (!saveToCsv || records.isEmpty() || csvError.get() != null) {
+                            return;
+                        }
+                        try {
+                            if (csv.get() == null) {
+                                csv.set(csvExportService.openCsv(csvFile));
+                            }
+                            for (WeatherRecord record : records) {
+                                csv.get().write(record);
+                            }
+                        } catch (CsvExportException e) {
+                            log.error("CSV export failed", e);
+                            csvError.set(e);
+                        }
+                    })
+                    .blockLast();
+            result.setApiResponseReceived(responseReceived.get());
+            result.setRecordsTransformed(recordCount.get());
+            if (progress.isCancelled()) {
+                result.setErrorMessage("Cancelled after loading " + progress.getDaysLoaded() + " of "
+                        + progress.getDaysTotal() + " days");
+                log.info("Chunked ETL process for period {} to {} cancelled", startDate, endDate);
+                return result;
+            }
+            if (recordCount.get() == 0 && failedChunks.isEmpty()) {
+                result.setErrorMessage("No records were transformed from API response");
+                return result;
+            }
+            if (!failedChunks.isEmpty()) {
+                result.setErrorMessage(failedChunks.size() + " of " + chunks.size() + " chunks failed: "
+                        + summarizeErrors(failedChunks));
+            }
+            result.setDatabaseSaved(saveToDatabase && failedChunks.isEmpty());
+            if (saveToCsv && recordCount.get() > 0) {
+                try {
+                    if (csvError.get() != null) {
+                        throw csvError.get();
+                    }
+                    csv.get().finish();
+                    result.setCsvExported(true);
+                    if (!saveToDatabase) {
+                        progress.loaded(progress.getDaysTransformed(), recordCount.get());
+                    }
+                } catch (CsvExportException e) {
+                    result.setErrorMessage(result.getErrorMessage() == null
+                            ? "CSV export failed: " + e.getMessage()
+                            : result.getErrorMessage() + "; CSV export failed: " + e.getMessage());
+                }
+            }
+        } finally {
+            if (csv.get() != null) {
+                csv.get().close();
+            }
+        }
+        result.setSuccess(failedChunks.isEmpty() && (!saveToCsv || result.isCsvExported()));
+        if (result.isSuccess()) {
+            log.info("Chunked ETL process completed: {} records from {} chunks (CSV: {}, DB: {})",
+                    recordCount.get(), chunks.size(), result.isCsvExported(), result.isDatabaseSaved());
+        }
+        return result;
+    }
+
+    private Mono<ColumnarWeatherResponse> fetchChunk(LocationConfig location, DateRange chunk) {
+        if (location == null) {
+            return weatherApiClient.fetchWeatherDataReactive(chunk.start(), chunk.end());
+        }
+        return weatherApiClient.fetchWeatherDataReactive(location.getLatitude(), location.getLongitude(),
+                chunk.start(), chunk.end());
+    }
+
+    private List<WeatherRecord> transformChunk(DateRange chunk, ColumnarWeatherResponse response,
+                                               EtlProgress progress) {
+        List<WeatherRecord> records = weatherTransformer.transformColumnarData(response);
+        progress.transformed(chunk.days(), records.size());
+        return records;
+    }
+
+    private List<WeatherRecord> loadChunk(DateRange chunk, List<WeatherRecord> records, boolean saveToDatabase,
+                                          LoadMode loadMode, EtlResult result, EtlProgress progress) {
+        if (saveToDatabase && !records.isEmpty()) {
+            result.addUpserts(saveToDatabase(records, loadMode));
+        }
+        if (saveToDatabase) {
+            progress.loaded(chunk.days(), records.size());
+        }
+        log.debug("Chunk {} loaded: {} records", chunk, records.size());
+        return records;
+    }
+
+    /**
+     * Rebuilds records for the default location from the raw response store without calling
+     * the API. Stored days are loaded even when some days of the period are missing; the
+     * missing days are reported and the run is marked as failed.
+     */
+    public EtlResult executeReplay(LocalDate startDate, LocalDate endDate, boolean saveToCsv,
+                                   boolean saveToDatabase, String csvPath, LoadMode loadMode) {
+        log.info("Replaying stored responses for period {} to {}: CSV={}, DB={}",
+                startDate, endDate, saveToCsv, saveToDatabase);
+        EtlResult result = EtlResult.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .success(false)
+                .build();
+        try {
+            double latitude = config.getDefaultLocation().getLatitude();
+            double longitude = config.getDefaultLocation().getLongitude();
+            DateRange period = new DateRange(startDate, endDate);
+            List<LocalDate> missingDays = rawResponseStore.missingDays(latitude, longitude, period);
+            ColumnarWeatherResponse stored = rawResponseStore.load(latitude, longitude, period);
+            if (stored == null) {
+                result.setErrorMessage("No stored responses for period " + period);
+                return result;
+            }
+            List<WeatherRecord> records = weatherTransformer.transformColumnarData(stored);
+            result.setRecordsTransformed(records.size());
+            if (records.isEmpty()) {
+                result.setErrorMessage("No records were transformed from stored responses");
+                return result;
+            }
+            loadRecords(records, saveToCsv, saveToDatabase, csvPath, loadMode, result);
+            if (!missingDays.isEmpty()) {
+                String missing = "Missing stored responses for " + missingDays.size() + " days: "
+                        + summarizeErrors(missingDays.stream().map(LocalDate::toString).toList());
+                result.setErrorMessage(result.getErrorMessage() == null
+                        ? missing
+                        : result.getErrorMessage() + "; " + missing);
+                result.setSuccess(false);
+            }
+            if (result.isSuccess()) {
+                log.info("Replay completed: {} records rebuilt from stored responses", records.size());
+            }
+        } catch (RawStoreException e) {
+            result.setErrorMessage("Response store error: " + e.getMessage());
+            log.error("Replay failed reading the response store", e);
+        } catch (Exception e) {
+            result.setErrorMessage("Unexpected error: " + e.getMessage());
+            log.error("Replay failed with unexpected error", e);
+        }
+        return result;
+    }
+
+    public EtlResult processJsonData(ColumnarWeatherResponse apiResponse, boolean saveToCsv,
                                      boolean saveToDatabase, String csvPath) {
+        return processJsonData(apiResponse, saveToCsv, saveToDatabase, csvPath, null);
+    }
+
+    public EtlResult processJsonData(ColumnarWeatherResponse apiResponse, boolean saveToCsv,
+                                     boolean saveToDatabase, String csvPath, LoadMode loadMode) {
         log.info("Processing JSON data: CSV={}, DB={}", saveToCsv, saveToDatabase);
         EtlResult result = EtlResult.builder()
                 .apiResponseReceived(true)
                 .success(false)
                 .build();
         try {
-            List<WeatherRecord> records = weatherTransformer.transformWeatherData(apiResponse);
+            List<WeatherRecord> records = weatherTransformer.transformColumnarData(apiResponse);
             result.setRecordsTransformed(records.size());
             if (records.isEmpty()) {
                 result.setErrorMessage("No records were transformed from JSON data");
                 return result;
             }
-            if (saveToCsv) {
-                try {
-                    if (csvPath != null) {
-                        csvExportService.exportToCsv(records, csvPath);
-                    } else {
-                        csvExportService.exportToCsv(records);
+            loadRecords(records, saveToCsv, saveToDatabase, csvPath, loadMode, result);
+            if (result.isSuccess()) {
+                log.info("JSON processing completed successfully: {} records processed", records.size());
+            }
+        } catch (Exception e) {
+            result.setErrorMessage("Unexpected error: " + e.getMessage());
+            log.error("JSON processing failed with unexpected error", e);
+        }
+        return result;
+    }
+
+    /**
+     * Streams the file's records to CSV and the database from one loop, in batches of
+     * {@code output.batch-size}. A CSV failure stops the run; a database failure stops further
+     * saves while the CSV is completed. Batches saved before either failure stay committed and
+     * are reported in the error message.
+     */
+    public EtlResult processJsonFile(Path jsonFile, boolean saveToCsv, boolean saveToDatabase,
+                                     String csvPath, LoadMode loadMode) {
+        log.info("Streaming JSON file {}: CSV={}, DB={}", jsonFile, saveToCsv, saveToDatabase);
+        EtlResult result = EtlResult.builder()
+                .success(false)
+                .build();
+        int batchSize = Math.max(1, config.getOutput().getBatchSize());
+        CsvWriteStream csv = null;
+        try (StreamingJsonReader reader = StreamingJsonReader.open(jsonFile, weatherTransformer)) {
+            result.setApiResponseReceived(true);
+            List<WeatherRecord> batch = new ArrayList<>(batchSize);
+            while (reader.hasNext()) {
+                WeatherRecord record = reader.next();
+                result.setRecordsTransformed(result.getRecordsTransformed() + 1);
+                if (saveToCsv) {
+                    if (csv == null) {
+                        csv = csvExportService.openCsv(csvPath != null ? csvPath : config.getOutput().getCsvPath());
+                    }
+                    csv.write(record);
+                }
+                if (saveToDatabase) {
+                    batch.add(record);
+                    if (batch.size() >= batchSize) {
+                        saveStreamedBatch(batch, loadMode, result);
                     }
-                    result.setCsvExported(true);
-                } catch (CsvExportException e) {
-                    log.error("CSV export failed", e);
-                    result.setErrorMessage("CSV export failed: " + e.getMessage());
                 }
             }
-            if (saveToDatabase) {
-                try {
-                    weatherDatabaseService.saveWeatherRecords(records);
-                    result.setDatabaseSaved(true);
-                } catch (DatabaseOperationException e) {
-                    log.error("Database save failed", e);
-                    if (result.getErrorMessage() == null) {
-                        result.setErrorMessage("Database save failed: " + e.getMessage());
-                    } else {
-                        result.setErrorMessage(result.getErrorMessage() + "; Database save failed: " + e.getMessage());
+            if (!batch.isEmpty()) {
+                saveStreamedBatch(batch, loadMode, result);
+            }
+            if (csv != null) {
+                csv.finish();
+                result.setCsvExported(true);
+            }
+            if (result.getRecordsTransformed() == 0) {
+                result.setErrorMessage("No records were transformed from JSON data");
+                return result;
+            }
+            result.setDatabaseSaved(saveToDatabase && result.getErrorMessage() == null);
+            boolean csvSuccess = !saveToCsv || result.isCsvExported();
+            boolean dbSuccess = !saveToDatabase || result.isDatabaseSaved();
+            result.setSuccess(csvSuccess && dbSuccess);
+            if (result.isSuccess()) {
+                log.info("JSON streaming completed: {} records from {} hours",
+                        result.getRecordsTransformed(), reader.getHoursRead());
+            }
+        } catch (CsvExportException e) {
+            log.error("CSV export failed", e);
+            result.setErrorMessage(withSavedRecords("CSV export failed: " + e.getMessage(), result));
+        } catch (Exception e) {
+            result.setErrorMessage(withSavedRecords("Unexpected error: " + e.getMessage(), result));
+            log.error("JSON streaming failed with unexpected error", e);
+        } finally {
+            if (csv != null) {
+                csv.close();
+            }
+        }
+        return result;
+    }
+
+    public EtlResult processJsonFiles(List<Path> jsonFiles, boolean saveToCsv, boolean saveToDatabase,
+                                      String csvDirectory, LoadMode loadMode, int workers) {
+        int poolSize = Math.max(1, Math.min(workers, jsonFiles.size()));
+        log.info("Processing {} JSON files with {} workers: CSV={}, DB={}",
+                jsonFiles.size(), poolSize, saveToCsv, saveToDatabase);
+        EtlResult summary = EtlResult.builder()
+                .success(false)
+                .build();
+        if (jsonFiles.isEmpty()) {
+            summary.setErrorMessage("No JSON files to process");
+            return summary;
+        }
+        Path csvDir = resolveCsvDirectory(csvDirectory);
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize);
+        try {
+            List<Future<EtlResult>> futures = new ArrayList<>(jsonFiles.size());
+            Set<String> csvNames = new HashSet<>();
+            for (Path jsonFile : jsonFiles) {
+                String fileCsvPath = saveToCsv ? csvDir.resolve(csvFileName(jsonFile, csvNames)).toString() : null;
+                futures.add(executor.submit(() ->
+                        processJsonFile(jsonFile, saveToCsv, saveToDatabase, fileCsvPath, loadMode)));
+            }
+            List<String> errors = new ArrayList<>();
+            boolean csvExported = true;
+            boolean databaseSaved = true;
+            for (int i = 0; i < futures.size(); i++) {
+                EtlResult fileResult = awaitFileResult(futures.get(i));
+                summary.setFilesProcessed(summary.getFilesProcessed() + 1);
+                summary.setRecordsTransformed(summary.getRecordsTransformed() + fileResult.getRecordsTransformed());
+                summary.addUpserts(new UpsertCounts(fileResult.getRecordsInserted(), fileResult.getRecordsUpdated(),
+                        fileResult.getRecordsUnchanged()));
+                summary.setApiResponseReceived(summary.isApiResponseReceived() || fileResult.isApiResponseReceived());
+                csvExported &= fileResult.isCsvExported();
+                databaseSaved &= fileResult.isDatabaseSaved();
+                if (!fileResult.isSuccess()) {
+                    summary.setFilesFailed(summary.getFilesFailed() + 1);
+                    errors.add(jsonFiles.get(i).getFileName() + ": " + fileResult.getErrorMessage());
+                }
+            }
+            summary.setCsvExported(saveToCsv && csvExported);
+            summary.setDatabaseSaved(saveToDatabase && databaseSaved);
+            summary.setSuccess(errors.isEmpty());
+            if (!errors.isEmpty()) {
+                summary.setErrorMessage(summarizeErrors(errors));
+            }
+            log.info("Processed {} JSON files ({} failed): {} records",
+                    summary.getFilesProcessed(), summary.getFilesFailed(), summary.getRecordsTransformed());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            summary.setErrorMessage("Interrupted after " + summary.getFilesProcessed() + " files");
+        } finally {
+            executor.shutdownNow();
+        }
+        return summary;
+    }
+
+    private EtlResult awaitFileResult(Future<EtlResult> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            return EtlResult.builder()
+                    .success(false)
+                    .errorMessage("Unexpected error: " + e.getCause().getMessage())
+                    .build();
+        }
+    }
+
+    private Path resolveCsvDirectory(String csvDirectory) {
+        if (csvDirectory != null) {
+            return Paths.get(csvDirectory);
+        }
+        Path parent = Paths.get(config.getOutput().getCsvPath()).getParent();
+        return parent != null ? parent : Paths.get(".");
+    }
+
+    private static String csvFileName(Path jsonFile, Set<String> taken) {
+        String name = jsonFile.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        String csvName = base + ".csv";
+        for (int suffix = 2; !taken.add(csvName); suffix++) {
+            csvName = base + "-" + suffix + ".csv";
+        }
+        return csvName;
+    }
+
+    private static String summarizeErrors(List<String> errors) {
+        int shown = Math.min(errors.size(), MAX_REPORTED_ERRORS);
+        String message = String.join("; ", errors.subList(0, shown));
+        return errors.size() > shown ? message + "; and " + (errors.size() - shown) + " more" : message;
+    }
+
+    private void saveStreamedBatch(List<WeatherRecord> batch, LoadMode loadMode, EtlResult result) {
+        if (result.getErrorMessage() == null) {
+            try {
+                result.addUpserts(saveToDatabase(batch, loadMode));
+            } catch (DatabaseOperationException e) {
+                log.error("Database save failed", e);
+                result.setErrorMessage(withSavedRecords("Database save failed: " + e.getMessage(), result));
+            }
+        }
+        batch.clear();
+    }
+
+    private static String withSavedRecords(String message, EtlResult result) {
+        int saved = result.getRecordsInserted() + result.getRecordsUpdated() + result.getRecordsUnchanged();
+        return saved > 0 ? message + " (" + saved + " records already saved to the database)" : message;
+    }
+
+    /**
+     * Fetches the locations in requests of {@code api.max-locations-per-request} and writes each
+     * request's records to the CSV file and the database before the next one is sent. After a
+     * failed save nothing more is saved; the records already committed are reported in the
+     * error message.
+     */
+    public EtlResult executeApiForLocations(LocalDate startDate, LocalDate endDate, boolean saveToCsv,
+                                            boolean saveToDatabase, String csvPath) {
+        List<LocationConfig> locations = config.resolveLocations();
+        log.info("Starting batch ETL process for {} locations, period {} to {}: CSV={}, DB={}",
+                locations.size(), startDate, endDate, saveToCsv, saveToDatabase);
+        EtlResult result = EtlResult.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .success(false)
+                .build();
+        CsvWriteStream csv = null;
+        try {
+            int batchSize = Math.max(1, config.getApi().getMaxLocationsPerRequest());
+            for (int i = 0; i < locations.size(); i += batchSize) {
+                List<LocationConfig> batch = locations.subList(i, Math.min(i + batchSize, locations.size()));
+                List<ColumnarWeatherResponse> responses = weatherApiClient.fetchWeatherData(batch, startDate,
+                        endDate);
+                result.setApiResponseReceived(true);
+                List<WeatherRecord> records = new ArrayList<>();
+                for (ColumnarWeatherResponse response : responses) {
+                    records.addAll(weatherTransformer.transformColumnarData(response));
+                    result.setLocationsProcessed(result.getLocationsProcessed() + 1);
+                }
+                result.setRecordsTransformed(result.getRecordsTransformed() + records.size());
+                if (records.isEmpty()) {
+                    continue;
+                }
+                if (saveToCsv) {
+                    if (csv == null) {
+                        csv = csvExportService.openCsv(csvPath != null ? csvPath : config.getOutput().getCsvPath());
                     }
+                    for (WeatherRecord record : records) {
+                        csv.write(record);
+                    }
+                }
+                if (saveToDatabase && result.getErrorMessage() == null) {
+                    saveBatch(records, null, result);
                 }
             }
+            if (result.getRecordsTransformed() == 0) {
+                result.setErrorMessage("No records were transformed from API response");
+                return result;
+            }
+            if (csv != null) {
+                csv.finish();
+                result.setCsvExported(true);
+            }
+            result.setDatabaseSaved(saveToDatabase && result.getErrorMessage() == null);
             boolean csvSuccess = !saveToCsv || result.isCsvExported();
             boolean dbSuccess = !saveToDatabase || result.isDatabaseSaved();
             result.setSuccess(csvSuccess && dbSuccess);
             if (result.isSuccess()) {
-                log.info("JSON processing completed successfully: {} records processed", records.size());
+                log.info("Batch ETL process completed: {} records from {} locations",
+                        result.getRecordsTransformed(), result.getLocationsProcessed());
             }
+        } catch (WeatherApiException e) {
+            result.setErrorMessage(withSavedRecords("API error: " + e.getMessage(), result));
+            log.error("Batch ETL process failed at API stage", e);
+        } catch (CsvExportException e) {
+            result.setErrorMessage(withSavedRecords("CSV export failed: " + e.getMessage(), result));
+            log.error("CSV export failed", e);
         } catch (Exception e) {
-            result.setErrorMessage("Unexpected error: " + e.getMessage());
-            log.error("JSON processing failed with unexpected error", e);
+            result.setErrorMessage(withSavedRecords("Unexpected error: " + e.getMessage(), result));
+            log.error("Batch ETL process failed with unexpected error", e);
+        } finally {
+            if (csv != null) {
+                csv.close();
+            }
+        }
+        return result;
+    }
+
+    public Mono<EtlResult> executeReactive(LocalDate startDate, LocalDate endDate, boolean saveToCsv,
+                                           boolean saveToDatabase, String csvPath) {
+        return executeReactive(startDate, endDate, saveToCsv, saveToDatabase, csvPath, null);
+    }
+
+    /**
+     * Records are built one day at a time from the response and written in batches of
+     * {@code output.batch-size} to the CSV file and the database as they arrive. Every batch is
+     * saved in its own transaction: after a failed save or CSV write nothing more is saved, and
+     * the batches already committed are reported in the error message.
+     */
+    public Mono<EtlResult> executeReactive(LocalDate startDate, LocalDate endDate, boolean saveToCsv,
+                                           boolean saveToDatabase, String csvPath, LoadMode loadMode) {
+        EtlResult result = EtlResult.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .success(false)
+                .build();
+        int batchSize = Math.max(1, config.getOutput().getBatchSize());
+        String csvFile = csvPath != null ? csvPath : config.getOutput().getCsvPath();
+        AtomicReference<CsvWriteStream> csv = new AtomicReference<>();
+        return weatherApiClient.fetchWeatherDataReactive(startDate, endDate)
+                .doOnSubscribe(subscription -> log.info(
+                        "Starting reactive ETL process for period {} to {}: CSV={}, DB={}",
+                        startDate, endDate, saveToCsv, saveToDatabase))
+                .doOnNext(apiResponse -> result.setApiResponseReceived(true))
+                .flatMapMany(apiResponse -> Flux.fromStream(() -> weatherTransformer.streamColumnarData(apiResponse))
+                        .subscribeOn(Schedulers.parallel()))
+                .buffer(batchSize)
+                .concatMap(batch -> Mono.fromCallable(() -> {
+                            if (saveToCsv) {
+                                if (csv.get() == null) {
+                                    csv.set(csvExportService.openCsv(csvFile));
+                                }
+                                for (WeatherRecord record : batch) {
+                                    csv.get().write(record);
+                                }
+                            }
+                            if (saveToDatabase && result.getErrorMessage() == null) {
+                                saveBatch(batch, loadMode, result);
+                            }
+                            return batch.size();
+                        })
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .reduce(0, Integer::sum)
+                .flatMap(recordCount -> {
+                    result.setRecordsTransformed(recordCount);
+                    if (recordCount == 0) {
+                        result.setErrorMessage("No records were transformed from API response");
+                        return Mono.just(result);
+                    }
+                    return Mono.fromCallable(() -> finishReactiveLoad(csv.get(), saveToCsv, saveToDatabase, result))
+                            .subscribeOn(Schedulers.boundedElastic());
+                })
+                .onErrorResume(WeatherApiException.class, e -> {
+                    result.setErrorMessage("API error: " + e.getMessage());
+                    log.error("Reactive ETL process failed at API stage", e);
+                    return Mono.just(result);
+                })
+                .onErrorResume(CsvExportException.class, e -> {
+                    result.setErrorMessage(withSavedRecords("CSV export failed: " + e.getMessage(), result));
+                    log.error("CSV export failed", e);
+                    return Mono.just(result);
+                })
+                .onErrorResume(e -> {
+                    result.setErrorMessage(withSavedRecords("Unexpected error: " + e.getMessage(), result));
+                    log.error("Reactive ETL process failed with unexpected error", e);
+                    return Mono.just(result);
+                })
+                .doFinally(signal -> {
+                    if (csv.get() != null) {
+                        csv.get().close();
+                    }
+                });
+    }
+
+    private void saveBatch(List<WeatherRecord> batch, LoadMode loadMode, EtlResult result) {
+        try {
+            result.addUpserts(saveToDatabase(batch, loadMode));
+        } catch (DatabaseOperationException e) {
+            log.error("Database save failed", e);
+            result.setErrorMessage(withSavedRecords("Database save failed: " + e.getMessage(), result));
+        }
+    }
+
+    private EtlResult finishReactiveLoad(CsvWriteStream csv, boolean saveToCsv, boolean saveToDatabase,
+                                         EtlResult result) {
+        result.setDatabaseSaved(saveToDatabase && result.getErrorMessage() == null);
+        if (csv != null) {
+            try {
+                csv.finish();
+                result.setCsvExported(true);
+            } catch (CsvExportException e) {
+                log.error("CSV export failed", e);
+                if (result.getErrorMessage() == null) {
+                    result.setErrorMessage("CSV export failed: " + e.getMessage());
+                } else {
+                    result.setErrorMessage(result.getErrorMessage() + "; CSV export failed: " + e.getMessage());
+                }
+            }
+        }
+        boolean csvSuccess = !saveToCsv || result.isCsvExported();
+        boolean dbSuccess = !saveToDatabase || result.isDatabaseSaved();
+        result.setSuccess(csvSuccess && dbSuccess);
+        if (result.isSuccess()) {
+            log.info("Reactive ETL process completed: {} records processed (CSV: {}, DB: {})",
+                    result.getRecordsTransformed(), result.isCsvExported(), result.isDatabaseSaved());
         }
         return result;
     }
 
+    private void loadRecords(List<WeatherRecord> records, boolean saveToCsv, boolean saveToDatabase,
+                             String csvPath, LoadMode loadMode, EtlResult result) {
+        if (saveToCsv) {
+            try {
+                if (csvPath != null) {
+                    csvExportService.exportToCsv(records, csvPath);
+                } else {
+                    csvExportService.exportToCsv(records);
+                }
+                result.setCsvExported(true);
+            } catch (CsvExportException e) {
+                log.error("CSV export failed", e);
+                result.setErrorMessage("CSV export failed: " + e.getMessage());
+            }
+        }
+        if (saveToDatabase) {
+            try {
+                result.addUpserts(saveToDatabase(records, loadMode));
+                result.setDatabaseSaved(true);
+            } catch (DatabaseOperationException e) {
+                log.error("Database save failed", e);
+                if (result.getErrorMessage() == null) {
+                    result.setErrorMessage("Database save failed: " + e.getMessage());
+                } else {
+                    result.setErrorMessage(result.getErrorMessage() + "; Database save failed: " + e.getMessage());
+                }
+            }
+        }
+        boolean csvSuccess = !saveToCsv || result.isCsvExported();
+        boolean dbSuccess = !saveToDatabase || result.isDatabaseSaved();
+        result.setSuccess(csvSuccess && dbSuccess);
+    }
+
+    private UpsertCounts saveToDatabase(List<WeatherRecord> records, LoadMode loadMode) {
+        if (loadMode != null) {
+            return weatherDatabaseService.saveWeatherRecords(records, loadMode);
+        }
+        return weatherDatabaseService.saveWeatherRecords(records);
+    }
+
     public EtlStats getEtlStats() {
         WeatherDatabaseService.DatabaseStats dbStats = weatherDatabaseService.getDatabaseStats();
 
@@ -230,6 +1001,25 @@ public class WeatherEtlService {
         private int recordsTransformed;
         private boolean csvExported;
         private boolean databaseSaved;
+        private int locationsProcessed;
+        private int filesProcessed;
+        private int filesFailed;
+        private int daysSkipped;
+        private int recordsInserted;
+        private int recordsUpdated;
+        private int recordsUnchanged;
+
+        /**
+         * Adds the outcome of one database save; chunks save in parallel, hence synchronized.
+         */
+        public synchronized void addUpserts(UpsertCounts counts) {
+            if (counts == null) {
+                return;
+            }
+            recordsInserted += counts.inserted();
+            recordsUpdated += counts.updated();
+            recordsUnchanged += counts.unchanged();
+        }
     }
 
     @lombok.Data
@@ -239,4 +1029,7 @@ public class WeatherEtlService {
         private int uniqueLocations;
         private List<WeatherDatabaseService.LocationInfo> locations;
     }
+
+    private record GridCell(double latitude, double longitude) {
+    }
 }
\ No newline at end of file
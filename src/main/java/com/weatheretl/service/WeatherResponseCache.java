@@ -0,0 +1,106 @@
+package com.weatheretl.service;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.weatheretl.config.WeatherEtlConfig;
+import com.weatheretl.model.api.WeatherApiModels.ColumnarWeatherResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Caches Open-Meteo responses keyed by location, date range and the requested variable set.
+ * Entries are held in the {@value #CACHE_NAME} cache of the application {@link CacheManager},
+ * whose hit/miss statistics are published through Actuator.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeatherResponseCache {
+    public static final String CACHE_NAME = "weatherResponses";
+
+    private static final Set<String> KEY_COORDINATES = Set.of("latitude", "longitude", "start_date", "end_date");
+
+    private final CacheManager cacheManager;
+    private final WeatherEtlConfig config;
+
+    public ColumnarWeatherResponse get(double latitude, double longitude, LocalDate startDate,
+                                       LocalDate endDate, Map<String, Object> params) {
+        Cache cache = cache();
+        if (cache == null) {
+            return null;
+        }
+        ColumnarWeatherResponse response = cache.get(
+                ResponseKey.of(latitude, longitude, startDate, endDate, params), ColumnarWeatherResponse.class);
+        if (response != null) {
+            log.debug("Cache hit for {}, {} from {} to {}", latitude, longitude, startDate, endDate);
+        }
+        return response;
+    }
+
+    public void put(double latitude, double longitude, LocalDate startDate, LocalDate endDate,
+                    Map<String, Object> params, ColumnarWeatherResponse response) {
+        Cache cache = cache();
+        if (cache != null && response != null) {
+            cache.put(ResponseKey.of(latitude, longitude, startDate, endDate, params), response);
+        }
+    }
+
+    private Cache cache() {
+        return config.getApi().getCache().isEnabled() ? cacheManager.getCache(CACHE_NAME) : null;
+    }
+
+    public record ResponseKey(double latitude, double longitude, LocalDate startDate, LocalDate endDate,
+                              String variables) {
+
+        static ResponseKey of(double latitude, double longitude, LocalDate startDate, LocalDate endDate,
+                              Map<String, Object> params) {
+            Map<String, Object> variables = new TreeMap<>(params);
+            variables.keySet().removeAll(KEY_COORDINATES);
+            return new ResponseKey(latitude, longitude, startDate, endDate, variables.toString());
+        }
+    }
+
+    /**
+     * Ranges reaching yesterday or later include forecast or still-revised data and expire
+     * after the forecast TTL; fully archived ranges keep the longer historical TTL.
+     */
+    public static final class TtlPolicy implements Expiry<Object, Object> {
+        private final long forecastTtlNanos;
+        private final long historicalTtlNanos;
+        private final Clock clock;
+
+        public TtlPolicy(Duration forecastTtl, Duration historicalTtl, Clock clock) {
+            this.forecastTtlNanos = forecastTtl.toNanos();
+            this.historicalTtlNanos = historicalTtl.toNanos();
+            this.clock = clock;
+        }
+
+        @Override
+        public long expireAfterCreate(Object key, Object value, long currentTime) {
+            if (key instanceof ResponseKey responseKey
+                    && responseKey.endDate().isBefore(LocalDate.now(clock).minusDays(1))) {
+                return historicalTtlNanos;
+            }
+            return forecastTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
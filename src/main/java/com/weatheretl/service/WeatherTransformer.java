@@ -1,9 +1,12 @@
 package com.weatheretl.service;
 
+import com.weatheretl.model.api.HourlyColumns;
+import com.weatheretl.model.api.WeatherApiModels.ColumnarWeatherResponse;
 import com.weatheretl.model.api.WeatherApiModels.DailyData;
 import com.weatheretl.model.api.WeatherApiModels.HourlyData;
 import com.weatheretl.model.api.WeatherApiModels.WeatherApiResponse;
 import com.weatheretl.model.output.WeatherRecord;
+import com.weatheretl.util.DayBuckets;
 import com.weatheretl.util.WeatherConverter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +18,25 @@ import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.weatheretl.model.api.HourlyVariable.APPARENT_TEMPERATURE;
+import static com.weatheretl.model.api.HourlyVariable.DEW_POINT_2M;
+import static com.weatheretl.model.api.HourlyVariable.RAIN;
+import static com.weatheretl.model.api.HourlyVariable.RELATIVE_HUMIDITY_2M;
+import static com.weatheretl.model.api.HourlyVariable.SHOWERS;
+import static com.weatheretl.model.api.HourlyVariable.SNOWFALL;
+import static com.weatheretl.model.api.HourlyVariable.SOIL_TEMPERATURE_0CM;
+import static com.weatheretl.model.api.HourlyVariable.SOIL_TEMPERATURE_6CM;
+import static com.weatheretl.model.api.HourlyVariable.TEMPERATURE_120M;
+import static com.weatheretl.model.api.HourlyVariable.TEMPERATURE_2M;
+import static com.weatheretl.model.api.HourlyVariable.TEMPERATURE_80M;
+import static com.weatheretl.model.api.HourlyVariable.VISIBILITY;
+import static com.weatheretl.model.api.HourlyVariable.WIND_SPEED_10M;
+import static com.weatheretl.model.api.HourlyVariable.WIND_SPEED_80M;
 
 @Slf4j
 @Service
@@ -27,142 +49,155 @@ public class WeatherTransformer {
         }
         log.info("Transforming weather data for location: {}, {}",
                 apiResponse.getLatitude(), apiResponse.getLongitude());
-        List<WeatherRecord> records = new ArrayList<>();
         HourlyData hourlyData = apiResponse.getHourly();
-        DailyData dailyData = apiResponse.getDaily();
         if (hourlyData == null || hourlyData.getTime() == null || hourlyData.getTime().isEmpty()) {
             log.warn("Missing hourly or daily data in API response");
-            return records;
+            return new ArrayList<>();
         }
-        if (dailyData == null || dailyData.getTime() == null || dailyData.getTime().isEmpty()) {
-            log.warn("Missing daily data, processing only hourly data");
-            return processHourlyDataOnly(apiResponse, hourlyData);
+        return transform(apiResponse.getLatitude(), apiResponse.getLongitude(),
+                HourlyColumns.from(hourlyData), apiResponse.getDaily());
+    }
+
+    public List<WeatherRecord> transformColumnarData(ColumnarWeatherResponse apiResponse) {
+        if (apiResponse == null) {
+            throw new IllegalArgumentException("API response cannot be null");
         }
-        List<LocalDate> dates = extractDatesFromDailyData(dailyData);
-        for (int dayIndex = 0; dayIndex < dates.size(); dayIndex++) {
-            LocalDate date = dates.get(dayIndex);
-            Long sunriseTimestamp = getSafeValue(dailyData.getSunrise(), dayIndex);
-            Long sunsetTimestamp = getSafeValue(dailyData.getSunset(), dayIndex);
-            Integer daylightDuration = getSafeValue(dailyData.getDaylightDuration(), dayIndex);
-            List<Integer> dayHourlyIndices = getHourlyIndicesForDay(hourlyData.getTime(), date);
-            if (dayHourlyIndices.isEmpty()) {
-                log.warn("No hourly data found for date: {}", date);
-                continue;
-            }
-            WeatherRecord record = createWeatherRecord(
-                    apiResponse, date, dayHourlyIndices, hourlyData,
-                    sunriseTimestamp, sunsetTimestamp, daylightDuration
-            );
-            records.add(record);
+        log.info("Transforming columnar weather data for location: {}, {}",
+                apiResponse.getLatitude(), apiResponse.getLongitude());
+        HourlyColumns hourlyColumns = apiResponse.getHourly();
+        if (hourlyColumns == null || hourlyColumns.isEmpty()) {
+            log.warn("Missing hourly or daily data in API response");
+            return new ArrayList<>();
         }
-        log.info("Successfully transformed {} weather records", records.size());
-        return records;
+        return transform(apiResponse.getLatitude(), apiResponse.getLongitude(),
+                hourlyColumns, apiResponse.getDaily());
     }
 
-    private List<WeatherRecord> processHourlyDataOnly(WeatherApiResponse apiResponse, HourlyData hourlyData) {
-        List<WeatherRecord> records = new ArrayList<>();
-        List<LocalDate> uniqueDates = extractUniqueDatesFromHourlyData(hourlyData.getTime());
-        for (LocalDate date : uniqueDates) {
-            List<Integer> dayHourlyIndices = getHourlyIndicesForDay(hourlyData.getTime(), date);
-            if (!dayHourlyIndices.isEmpty()) {
-                WeatherRecord record = createWeatherRecord(
-                        apiResponse, date, dayHourlyIndices, hourlyData,
-                        null, null, null
-                );
-                records.add(record);
-            }
+    /**
+     * Same records as {@link #transformColumnarData}, built one day at a time as the stream
+     * is consumed.
+     */
+    public Stream<WeatherRecord> streamColumnarData(ColumnarWeatherResponse apiResponse) {
+        if (apiResponse == null) {
+            throw new IllegalArgumentException("API response cannot be null");
+        }
+        HourlyColumns hourlyColumns = apiResponse.getHourly();
+        if (hourlyColumns == null || hourlyColumns.isEmpty()) {
+            log.warn("Missing hourly or daily data in API response");
+            return Stream.empty();
         }
+        return transformDays(apiResponse.getLatitude(), apiResponse.getLongitude(),
+                hourlyColumns, apiResponse.getDaily());
+    }
+
+    private List<WeatherRecord> transform(double latitude, double longitude,
+                                          HourlyColumns hourly, DailyData dailyData) {
+        List<WeatherRecord> records = transformDays(latitude, longitude, hourly, dailyData)
+                .collect(Collectors.toCollection(ArrayList::new));
+        log.info("Successfully transformed {} weather records", records.size());
         return records;
     }
 
-    private List<LocalDate> extractUniqueDatesFromHourlyData(List<Long> timestamps) {
-        List<LocalDate> uniqueDates = new ArrayList<>();
-        if (timestamps != null) {
-            for (Long timestamp : timestamps) {
-                if (timestamp != null) {
-                    LocalDate date = Instant.ofEpochSecond(timestamp)
-                            .atZone(ZoneOffset.UTC)
-                            .toLocalDate();
-                    if (!uniqueDates.contains(date)) {
-                        uniqueDates.add(date);
-                    }
-                }
-            }
+    private Stream<WeatherRecord> transformDays(double latitude, double longitude,
+                                                HourlyColumns hourly, DailyData dailyData) {
+        DayBuckets dayBuckets = DayBuckets.of(hourly.getTime());
+        if (dailyData == null || dailyData.getTime() == null || dailyData.getTime().isEmpty()) {
+            log.warn("Missing daily data, processing only hourly data");
+            return IntStream.range(0, dayBuckets.size())
+                    .mapToObj(bucket -> createWeatherRecord(
+                            latitude, longitude, dayBuckets.date(bucket), dayBuckets, bucket, hourly,
+                            null, null, null
+                    ));
         }
-        return uniqueDates;
+        List<LocalDate> dates = extractDatesFromDailyData(dailyData);
+        return IntStream.range(0, dates.size())
+                .mapToObj(dayIndex -> {
+                    LocalDate date = dates.get(dayIndex);
+                    int bucket = dayBuckets.indexOf(date);
+                    if (bucket < 0) {
+                        log.warn("No hourly data found for date: {}", date);
+                        return null;
+                    }
+                    return createWeatherRecord(
+                            latitude, longitude, date, dayBuckets, bucket, hourly,
+                            getSafeValue(dailyData.getSunrise(), dayIndex),
+                            getSafeValue(dailyData.getSunset(), dayIndex),
+                            getSafeValue(dailyData.getDaylightDuration(), dayIndex)
+                    );
+                })
+                .filter(Objects::nonNull);
+    }
+
+    WeatherRecord transformDay(double latitude, double longitude, HourlyColumns hourly, DayBuckets dayBuckets,
+                               int bucket, Long sunriseTimestamp, Long sunsetTimestamp, Integer daylightDuration) {
+        return createWeatherRecord(latitude, longitude, dayBuckets.date(bucket), dayBuckets, bucket, hourly,
+                sunriseTimestamp, sunsetTimestamp, daylightDuration);
     }
 
-    private WeatherRecord createWeatherRecord(WeatherApiResponse apiResponse,
+    private WeatherRecord createWeatherRecord(double latitude,
+                                              double longitude,
                                               LocalDate date,
-                                              List<Integer> dayHourlyIndices,
-                                              HourlyData hourlyData,
+                                              DayBuckets dayBuckets,
+                                              int bucket,
+                                              HourlyColumns hourly,
                                               Long sunriseTimestamp,
                                               Long sunsetTimestamp,
                                               Integer daylightDuration) {
+        DailyAggregates aggregates = DailyAggregates.compute(
+                hourly, dayBuckets, bucket, sunriseTimestamp, sunsetTimestamp);
+        Double avgTemperature2m = aggregates.average(TEMPERATURE_2M);
+        Double avgApparentTemperature = aggregates.average(APPARENT_TEMPERATURE);
+        Double avgTemperature80m = aggregates.average(TEMPERATURE_80M);
+        Double avgTemperature120m = aggregates.average(TEMPERATURE_120M);
+        Double avgWindSpeed10m = aggregates.average(WIND_SPEED_10M);
+        Double avgWindSpeed80m = aggregates.average(WIND_SPEED_80M);
+        Double totalRain = aggregates.sum(RAIN);
+        Double totalShowers = aggregates.sum(SHOWERS);
+        Double totalSnowfall = aggregates.sum(SNOWFALL);
         WeatherRecord.WeatherRecordBuilder builder = WeatherRecord.builder()
                 .date(date)
-                .latitude(apiResponse.getLatitude())
-                .longitude(apiResponse.getLongitude())
+                .latitude(latitude)
+                .longitude(longitude)
                 .createdAt(LocalDateTime.now())
-                .avgTemperature2m24h(calculateDayAverage(hourlyData.getTemperature2m(), dayHourlyIndices))
-                .avgRelativeHumidity2m24h(calculateDayAverage(hourlyData.getRelativeHumidity2m(), dayHourlyIndices))
-                .avgDewPoint2m24h(calculateDayAverage(hourlyData.getDewPoint2m(), dayHourlyIndices))
-                .avgApparentTemperature24h(calculateDayAverage(hourlyData.getApparentTemperature(), dayHourlyIndices))
-                .avgTemperature80m24h(calculateDayAverage(hourlyData.getTemperature80m(), dayHourlyIndices))
-                .avgTemperature120m24h(calculateDayAverage(hourlyData.getTemperature120m(), dayHourlyIndices))
-                .avgWindSpeed10m24h(calculateDayAverage(hourlyData.getWindSpeed10m(), dayHourlyIndices))
-                .avgWindSpeed80m24h(calculateDayAverage(hourlyData.getWindSpeed80m(), dayHourlyIndices))
-                .avgVisibility24h(calculateDayAverage(hourlyData.getVisibility(), dayHourlyIndices))
-                .totalRain24h(calculateDaySum(hourlyData.getRain(), dayHourlyIndices))
-                .totalShowers24h(calculateDaySum(hourlyData.getShowers(), dayHourlyIndices))
-                .totalSnowfall24h(calculateDaySum(hourlyData.getSnowfall(), dayHourlyIndices))
-                .windSpeed10mMPerS(convertValue(
-                        calculateDayAverage(hourlyData.getWindSpeed10m(), dayHourlyIndices),
-                        WeatherConverter::knotsToMetersPerSecond))
-                .windSpeed80mMPerS(convertValue(
-                        calculateDayAverage(hourlyData.getWindSpeed80m(), dayHourlyIndices),
-                        WeatherConverter::knotsToMetersPerSecond))
-                .temperature2mCelsius(convertValue(
-                        calculateDayAverage(hourlyData.getTemperature2m(), dayHourlyIndices),
-                        WeatherConverter::fahrenheitToCelsius))
-                .apparentTemperatureCelsius(convertValue(
-                        calculateDayAverage(hourlyData.getApparentTemperature(), dayHourlyIndices),
-                        WeatherConverter::fahrenheitToCelsius))
-                .temperature80mCelsius(convertValue(
-                        calculateDayAverage(hourlyData.getTemperature80m(), dayHourlyIndices),
-                        WeatherConverter::fahrenheitToCelsius))
-                .temperature120mCelsius(convertValue(
-                        calculateDayAverage(hourlyData.getTemperature120m(), dayHourlyIndices),
-                        WeatherConverter::fahrenheitToCelsius))
+                .avgTemperature2m24h(avgTemperature2m)
+                .avgRelativeHumidity2m24h(aggregates.average(RELATIVE_HUMIDITY_2M))
+                .avgDewPoint2m24h(aggregates.average(DEW_POINT_2M))
+                .avgApparentTemperature24h(avgApparentTemperature)
+                .avgTemperature80m24h(avgTemperature80m)
+                .avgTemperature120m24h(avgTemperature120m)
+                .avgWindSpeed10m24h(avgWindSpeed10m)
+                .avgWindSpeed80m24h(avgWindSpeed80m)
+                .avgVisibility24h(aggregates.average(VISIBILITY))
+                .totalRain24h(totalRain)
+                .totalShowers24h(totalShowers)
+                .totalSnowfall24h(totalSnowfall)
+                .windSpeed10mMPerS(convertValue(avgWindSpeed10m, WeatherConverter::knotsToMetersPerSecond))
+                .windSpeed80mMPerS(convertValue(avgWindSpeed80m, WeatherConverter::knotsToMetersPerSecond))
+                .temperature2mCelsius(convertValue(avgTemperature2m, WeatherConverter::fahrenheitToCelsius))
+                .apparentTemperatureCelsius(convertValue(avgApparentTemperature, WeatherConverter::fahrenheitToCelsius))
+                .temperature80mCelsius(convertValue(avgTemperature80m, WeatherConverter::fahrenheitToCelsius))
+                .temperature120mCelsius(convertValue(avgTemperature120m, WeatherConverter::fahrenheitToCelsius))
                 .soilTemperature0cmCelsius(convertValue(
-                        calculateDayAverage(hourlyData.getSoilTemperature0cm(), dayHourlyIndices),
-                        WeatherConverter::fahrenheitToCelsius))
+                        aggregates.average(SOIL_TEMPERATURE_0CM), WeatherConverter::fahrenheitToCelsius))
                 .soilTemperature6cmCelsius(convertValue(
-                        calculateDayAverage(hourlyData.getSoilTemperature6cm(), dayHourlyIndices),
-                        WeatherConverter::fahrenheitToCelsius))
-                .rainMm(convertValue(
-                        calculateDaySum(hourlyData.getRain(), dayHourlyIndices),
-                        WeatherConverter::inchesToMillimeters))
-                .showersMm(convertValue(
-                        calculateDaySum(hourlyData.getShowers(), dayHourlyIndices),
-                        WeatherConverter::inchesToMillimeters))
-                .snowfallMm(convertValue(
-                        calculateDaySum(hourlyData.getSnowfall(), dayHourlyIndices),
-                        WeatherConverter::inchesToMillimeters));
+                        aggregates.average(SOIL_TEMPERATURE_6CM), WeatherConverter::fahrenheitToCelsius))
+                .rainMm(convertValue(totalRain, WeatherConverter::inchesToMillimeters))
+                .showersMm(convertValue(totalShowers, WeatherConverter::inchesToMillimeters))
+                .snowfallMm(convertValue(totalSnowfall, WeatherConverter::inchesToMillimeters));
         if (sunriseTimestamp != null && sunsetTimestamp != null) {
             builder
-                    .avgTemperature2mDaylight(calculateDaylightAverage(hourlyData.getTemperature2m(), hourlyData.getTime(), sunriseTimestamp, sunsetTimestamp))
-                    .avgRelativeHumidity2mDaylight(calculateDaylightAverage(hourlyData.getRelativeHumidity2m(), hourlyData.getTime(), sunriseTimestamp, sunsetTimestamp))
-                    .avgDewPoint2mDaylight(calculateDaylightAverage(hourlyData.getDewPoint2m(), hourlyData.getTime(), sunriseTimestamp, sunsetTimestamp))
-                    .avgApparentTemperatureDaylight(calculateDaylightAverage(hourlyData.getApparentTemperature(), hourlyData.getTime(), sunriseTimestamp, sunsetTimestamp))
-                    .avgTemperature80mDaylight(calculateDaylightAverage(hourlyData.getTemperature80m(), hourlyData.getTime(), sunriseTimestamp, sunsetTimestamp))
-                    .avgTemperature120mDaylight(calculateDaylightAverage(hourlyData.getTemperature120m(), hourlyData.getTime(), sunriseTimestamp, sunsetTimestamp))
-                    .avgWindSpeed10mDaylight(calculateDaylightAverage(hourlyData.getWindSpeed10m(), hourlyData.getTime(), sunriseTimestamp, sunsetTimestamp))
-                    .avgWindSpeed80mDaylight(calculateDaylightAverage(hourlyData.getWindSpeed80m(), hourlyData.getTime(), sunriseTimestamp, sunsetTimestamp))
-                    .avgVisibilityDaylight(calculateDaylightAverage(hourlyData.getVisibility(), hourlyData.getTime(), sunriseTimestamp, sunsetTimestamp))
-                    .totalRainDaylight(calculateDaylightSum(hourlyData.getRain(), hourlyData.getTime(), sunriseTimestamp, sunsetTimestamp))
-                    .totalShowersDaylight(calculateDaylightSum(hourlyData.getShowers(), hourlyData.getTime(), sunriseTimestamp, sunsetTimestamp))
-                    .totalSnowfallDaylight(calculateDaylightSum(hourlyData.getSnowfall(), hourlyData.getTime(), sunriseTimestamp, sunsetTimestamp))
+                    .avgTemperature2mDaylight(aggregates.daylightAverage(TEMPERATURE_2M))
+                    .avgRelativeHumidity2mDaylight(aggregates.daylightAverage(RELATIVE_HUMIDITY_2M))
+                    .avgDewPoint2mDaylight(aggregates.daylightAverage(DEW_POINT_2M))
+                    .avgApparentTemperatureDaylight(aggregates.daylightAverage(APPARENT_TEMPERATURE))
+                    .avgTemperature80mDaylight(aggregates.daylightAverage(TEMPERATURE_80M))
+                    .avgTemperature120mDaylight(aggregates.daylightAverage(TEMPERATURE_120M))
+                    .avgWindSpeed10mDaylight(aggregates.daylightAverage(WIND_SPEED_10M))
+                    .avgWindSpeed80mDaylight(aggregates.daylightAverage(WIND_SPEED_80M))
+                    .avgVisibilityDaylight(aggregates.daylightAverage(VISIBILITY))
+                    .totalRainDaylight(aggregates.daylightSum(RAIN))
+                    .totalShowersDaylight(aggregates.daylightSum(SHOWERS))
+                    .totalSnowfallDaylight(aggregates.daylightSum(SNOWFALL))
                     .sunriseIso(WeatherConverter.unixToIso(sunriseTimestamp))
                     .sunsetIso(WeatherConverter.unixToIso(sunsetTimestamp));
         }
@@ -206,87 +241,10 @@ public class WeatherTransformer {
         return dates;
     }
 
-    private List<Integer> getHourlyIndicesForDay(List<Long> timestamps, LocalDate targetDate) {
-        List<Integer> indices = new ArrayList<>();
-
-        if (timestamps != null) {
-            for (int i = 0; i < timestamps.size(); i++) {
-                Long timestamp = timestamps.get(i);
-                if (timestamp != null) {
-                    LocalDate date = Instant.ofEpochSecond(timestamp)
-                            .atZone(ZoneOffset.UTC)
-                            .toLocalDate();
-                    if (date.equals(targetDate)) {
-                        indices.add(i);
-                    }
-                }
-            }
-        }
-        return indices;
-    }
-
-    private <T extends Number> Double calculateDayAverage(List<T> values, List<Integer> indices) {
-        if (values == null || indices == null || indices.isEmpty()) {
-            return null;
-        }
-        double sum = 0.0;
-        int count = 0;
-        for (Integer index : indices) {
-            if (index < values.size()) {
-                T value = values.get(index);
-                if (value != null) {
-                    sum += value.doubleValue();
-                    count++;
-                }
-            }
-        }
-        return count > 0 ? WeatherConverter.round(sum / count, 2) : null;
-    }
-
-    private <T extends Number> Double calculateDaySum(List<T> values, List<Integer> indices) {
-        if (values == null || indices == null || indices.isEmpty()) {
-            return null;
-        }
-
-        double sum = 0.0;
-
-        for (Integer index : indices) {
-            if (index < values.size()) {
-                T value = values.get(index);
-                if (value != null) {
-                    sum += value.doubleValue();
-                }
-            }
-        }
-        return WeatherConverter.round(sum, 2);
-    }
-
-    private <T extends Number> Double calculateDaylightAverage(List<T> values,
-                                                               List<Long> timestamps,
-                                                               Long sunriseTimestamp,
-                                                               Long sunsetTimestamp) {
-        if (sunriseTimestamp == null || sunsetTimestamp == null) {
-            return null;
-        }
-        Double result = WeatherConverter.calculateDaylightAverage(values, timestamps, sunriseTimestamp, sunsetTimestamp);
-        return result != null ? WeatherConverter.round(result, 2) : null;
-    }
-
-    private <T extends Number> Double calculateDaylightSum(List<T> values,
-                                                           List<Long> timestamps,
-                                                           Long sunriseTimestamp,
-                                                           Long sunsetTimestamp) {
-        if (sunriseTimestamp == null || sunsetTimestamp == null) {
-            return null;
-        }
-        Double result = WeatherConverter.calculateDaylightSum(values, timestamps, sunriseTimestamp, sunsetTimestamp);
-        return result != null ? WeatherConverter.round(result, 2) : null;
-    }
-
     private <T> T getSafeValue(List<T> list, int index) {
         if (list != null && index >= 0 && index < list.size()) {
             return list.get(index);
         }
         return null;
     }
-}
\ No newline at end of file
+}
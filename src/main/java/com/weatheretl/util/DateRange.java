@@ -0,0 +1,65 @@
+package com.weatheretl.util;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Inclusive date range, split into consecutive chunks for independent API requests.
+ */
+public record DateRange(LocalDate start, LocalDate end) {
+
+    public DateRange {
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("Start date " + start + " is after end date " + end);
+        }
+    }
+
+    public long days() {
+        return ChronoUnit.DAYS.between(start, end) + 1;
+    }
+
+    /**
+     * Splits into ranges of at most {@code chunkDays} days; a non-positive size keeps one range.
+     */
+    public List<DateRange> split(int chunkDays) {
+        if (chunkDays <= 0 || days() <= chunkDays) {
+            return List.of(this);
+        }
+        List<DateRange> chunks = new ArrayList<>((int) ((days() + chunkDays - 1) / chunkDays));
+        for (LocalDate chunkStart = start; !chunkStart.isAfter(end); chunkStart = chunkStart.plusDays(chunkDays)) {
+            LocalDate chunkEnd = chunkStart.plusDays(chunkDays - 1L);
+            chunks.add(new DateRange(chunkStart, chunkEnd.isAfter(end) ? end : chunkEnd));
+        }
+        return chunks;
+    }
+
+    /**
+     * Returns the consecutive sub-ranges of days that are not in {@code excluded}, in date order.
+     */
+    public List<DateRange> without(Set<LocalDate> excluded) {
+        List<DateRange> gaps = new ArrayList<>();
+        LocalDate gapStart = null;
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            if (!excluded.contains(day)) {
+                if (gapStart == null) {
+                    gapStart = day;
+                }
+            } else if (gapStart != null) {
+                gaps.add(new DateRange(gapStart, day.minusDays(1)));
+                gapStart = null;
+            }
+        }
+        if (gapStart != null) {
+            gaps.add(new DateRange(gapStart, end));
+        }
+        return gaps;
+    }
+
+    @Override
+    public String toString() {
+        return start + ".." + end;
+    }
+}
@@ -0,0 +1,163 @@
+package com.weatheretl.util;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Groups an hourly timestamp series into UTC days in a single pass.
+ * Null or {@link #MISSING_TIMESTAMP} entries are left out of every day.
+ * Each day is exposed as a contiguous range of positions; {@link #hourIndex(int)}
+ * maps a position back to the index in the original hourly series.
+ */
+public final class DayBuckets {
+    public static final long MISSING_TIMESTAMP = Long.MIN_VALUE;
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final DayBuckets EMPTY = new DayBuckets(new long[0], new int[]{0}, null);
+
+    private final long[] epochDays;
+    private final int[] offsets;
+    private final int[] order;
+
+    private DayBuckets(long[] epochDays, int[] offsets, int[] order) {
+        this.epochDays = epochDays;
+        this.offsets = offsets;
+        this.order = order;
+    }
+
+    public static DayBuckets of(List<Long> timestamps) {
+        if (timestamps == null || timestamps.isEmpty()) {
+            return EMPTY;
+        }
+        long[] values = new long[timestamps.size()];
+        for (int i = 0; i < values.length; i++) {
+            Long timestamp = timestamps.get(i);
+            values[i] = timestamp != null ? timestamp : MISSING_TIMESTAMP;
+        }
+        return of(values);
+    }
+
+    public static DayBuckets of(long[] timestamps) {
+        if (timestamps == null || timestamps.length == 0) {
+            return EMPTY;
+        }
+        long[] days = new long[timestamps.length];
+        boolean sorted = true;
+        long previousTimestamp = Long.MIN_VALUE;
+        for (int i = 0; i < timestamps.length; i++) {
+            if (timestamps[i] == MISSING_TIMESTAMP) {
+                sorted = false;
+                continue;
+            }
+            if (timestamps[i] < previousTimestamp) {
+                sorted = false;
+            }
+            days[i] = epochDayOf(timestamps[i]);
+            previousTimestamp = timestamps[i];
+        }
+        return sorted ? fromSortedDays(days) : fromUnsortedDays(days, timestamps);
+    }
+
+    public static long epochDayOf(long epochSecond) {
+        return Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+    }
+
+    public int size() {
+        return epochDays.length;
+    }
+
+    public boolean isEmpty() {
+        return epochDays.length == 0;
+    }
+
+    public long epochDay(int bucket) {
+        return epochDays[bucket];
+    }
+
+    public LocalDate date(int bucket) {
+        return LocalDate.ofEpochDay(epochDays[bucket]);
+    }
+
+    public int start(int bucket) {
+        return offsets[bucket];
+    }
+
+    public int end(int bucket) {
+        return offsets[bucket + 1];
+    }
+
+    /**
+     * True when the source timestamps were ascending with no gaps, so every
+     * position equals its hourly index and day ranges are index ranges.
+     */
+    public boolean isTimeOrdered() {
+        return order == null;
+    }
+
+    public int hourIndex(int position) {
+        return order == null ? position : order[position];
+    }
+
+    public int indexOf(LocalDate date) {
+        return indexOf(date.toEpochDay());
+    }
+
+    public int indexOf(long epochDay) {
+        int bucket = Arrays.binarySearch(epochDays, epochDay);
+        return bucket >= 0 ? bucket : -1;
+    }
+
+    private static DayBuckets fromSortedDays(long[] days) {
+        int dayCount = 1;
+        for (int i = 1; i < days.length; i++) {
+            if (days[i] != days[i - 1]) {
+                dayCount++;
+            }
+        }
+        long[] epochDays = new long[dayCount];
+        int[] offsets = new int[dayCount + 1];
+        int bucket = 0;
+        epochDays[0] = days[0];
+        for (int i = 1; i < days.length; i++) {
+            if (days[i] != days[i - 1]) {
+                offsets[++bucket] = i;
+                epochDays[bucket] = days[i];
+            }
+        }
+        offsets[dayCount] = days.length;
+        return new DayBuckets(epochDays, offsets, null);
+    }
+
+    private static DayBuckets fromUnsortedDays(long[] days, long[] timestamps) {
+        long minDay = Long.MAX_VALUE;
+        int valid = 0;
+        for (int i = 0; i < days.length; i++) {
+            if (timestamps[i] != MISSING_TIMESTAMP) {
+                minDay = Math.min(minDay, days[i]);
+                valid++;
+            }
+        }
+        if (valid == 0) {
+            return EMPTY;
+        }
+        // Day offset in the high bits, hour index in the low bits: sorting the keys
+        // groups hours by day while keeping the original order within each day.
+        long[] keys = new long[valid];
+        int k = 0;
+        for (int i = 0; i < days.length; i++) {
+            if (timestamps[i] != MISSING_TIMESTAMP) {
+                keys[k++] = ((days[i] - minDay) << 32) | i;
+            }
+        }
+        Arrays.sort(keys);
+        int[] order = new int[valid];
+        long[] sortedDays = new long[valid];
+        for (int i = 0; i < valid; i++) {
+            order[i] = (int) keys[i];
+            sortedDays[i] = (keys[i] >>> 32) + minDay;
+        }
+        DayBuckets grouped = fromSortedDays(sortedDays);
+        return new DayBuckets(grouped.epochDays, grouped.offsets, order);
+    }
+}
@@ -0,0 +1,54 @@
+package com.weatheretl.util;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Expands a file path that may contain glob wildcards ({@code * ? [ ] { }} and {@code **})
+ * into the sorted list of regular files it matches.
+ */
+public final class FileGlobs {
+
+    private FileGlobs() {
+    }
+
+    public static boolean isGlob(String pattern) {
+        return pattern != null && pattern.chars().anyMatch(c -> "*?[]{}".indexOf(c) >= 0);
+    }
+
+    public static List<Path> expand(String pattern) throws IOException {
+        if (!isGlob(pattern)) {
+            Path path = Paths.get(pattern);
+            return Files.isRegularFile(path) ? List.of(path) : List.of();
+        }
+        // Walk from the deepest directory that has no wildcard in it
+        String[] parts = pattern.split("/", -1);
+        int firstGlob = 0;
+        while (!isGlob(parts[firstGlob])) {
+            firstGlob++;
+        }
+        String baseText = String.join("/", Arrays.copyOf(parts, firstGlob));
+        Path base = baseText.isEmpty() ? Paths.get(pattern.startsWith("/") ? "/" : ".") : Paths.get(baseText);
+        if (!Files.isDirectory(base)) {
+            return List.of();
+        }
+        int depth = pattern.contains("**") ? Integer.MAX_VALUE : parts.length - firstGlob;
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+        boolean relativeToCurrent = baseText.isEmpty() && !pattern.startsWith("/");
+        try (Stream<Path> files = Files.walk(base, depth)) {
+            return files
+                    .filter(Files::isRegularFile)
+                    .map(file -> relativeToCurrent ? base.relativize(file) : file)
+                    .filter(matcher::matches)
+                    .sorted()
+                    .toList();
+        }
+    }
+}
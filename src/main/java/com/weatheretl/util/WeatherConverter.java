@@ -84,22 +84,6 @@ public class WeatherConverter {
         return sum;
     }
 
-    public static List<Integer> getDaylightIndices(List<Long> timestamps,
-                                                   Long sunriseTimestamp, Long sunsetTimestamp) {
-        if (timestamps == null || sunriseTimestamp == null || sunsetTimestamp == null) {
-            return List.of();
-        }
-        return java.util.stream.IntStream.range(0, timestamps.size())
-                .filter(i -> {
-                    Long timestamp = timestamps.get(i);
-                    return timestamp != null &&
-                            timestamp >= sunriseTimestamp &&
-                            timestamp <= sunsetTimestamp;
-                })
-                .boxed()
-                .collect(java.util.stream.Collectors.toList());
-    }
-
     public static Double calculateDaylightAverage(List<? extends Number> values,
                                                   List<Long> timestamps,
                                                   Long sunriseTimestamp,
@@ -109,17 +93,16 @@ public class WeatherConverter {
                 values.size() != timestamps.size()) {
             return null;
         }
-        List<Integer> daylightIndices = getDaylightIndices(timestamps, sunriseTimestamp, sunsetTimestamp);
-        if (daylightIndices.isEmpty()) {
-            return null;
-        }
         double sum = 0.0;
         int count = 0;
-        for (Integer index : daylightIndices) {
-            Number value = values.get(index);
-            if (value != null) {
-                sum += value.doubleValue();
-                count++;
+        for (int i = 0; i < timestamps.size(); i++) {
+            Long timestamp = timestamps.get(i);
+            if (timestamp != null && timestamp >= sunriseTimestamp && timestamp <= sunsetTimestamp) {
+                Number value = values.get(i);
+                if (value != null) {
+                    sum += value.doubleValue();
+                    count++;
+                }
             }
         }
         return count > 0 ? sum / count : null;
@@ -134,20 +117,29 @@ public class WeatherConverter {
                 values.size() != timestamps.size()) {
             return null;
         }
-
-        List<Integer> daylightIndices = getDaylightIndices(timestamps, sunriseTimestamp, sunsetTimestamp);
-
-        if (daylightIndices.isEmpty()) {
-            return null;
-        }
         double sum = 0.0;
-        for (Integer index : daylightIndices) {
-            Number value = values.get(index);
-            if (value != null) {
-                sum += value.doubleValue();
+        boolean daylight = false;
+        for (int i = 0; i < timestamps.size(); i++) {
+            Long timestamp = timestamps.get(i);
+            if (timestamp != null && timestamp >= sunriseTimestamp && timestamp <= sunsetTimestamp) {
+                daylight = true;
+                Number value = values.get(i);
+                if (value != null) {
+                    sum += value.doubleValue();
+                }
             }
         }
-        return sum;
+        return daylight ? sum : null;
+    }
+
+    public static DaylightWindow findDaylightWindow(long[] sortedTimestamps, long sunriseTimestamp,
+                                                    long sunsetTimestamp) {
+        if (sortedTimestamps == null || sunsetTimestamp < sunriseTimestamp) {
+            return DaylightWindow.EMPTY;
+        }
+        int from = firstIndexAtOrAfter(sortedTimestamps, sunriseTimestamp);
+        int to = firstIndexAtOrAfter(sortedTimestamps, sunsetTimestamp + 1);
+        return new DaylightWindow(from, to);
     }
 
     public static Double round(Double value, int decimals) {
@@ -157,4 +149,26 @@ public class WeatherConverter {
         double multiplier = Math.pow(10, decimals);
         return Math.round(value * multiplier) / multiplier;
     }
+
+    private static int firstIndexAtOrAfter(long[] sortedTimestamps, long timestamp) {
+        int low = 0;
+        int high = sortedTimestamps.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedTimestamps[mid] < timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public record DaylightWindow(int from, int to) {
+        public static final DaylightWindow EMPTY = new DaylightWindow(0, 0);
+
+        public boolean isEmpty() {
+            return from >= to;
+        }
+    }
 }
\ No newline at end of file
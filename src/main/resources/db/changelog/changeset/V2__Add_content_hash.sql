@@ -0,0 +1,4 @@
+-- Хеш значений агрегатов для пропуска неизменившихся строк при повторной загрузке
+ALTER TABLE weather_data ADD COLUMN IF NOT EXISTS content_hash BIGINT;
+
+COMMENT ON COLUMN weather_data.content_hash IS '64-битный хеш значений агрегатов (без даты и координат)';
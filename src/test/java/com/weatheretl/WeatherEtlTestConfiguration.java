@@ -31,6 +31,7 @@ public class WeatherEtlTestConfiguration {
         WeatherEtlConfig.OutputConfig outputConfig = new WeatherEtlConfig.OutputConfig();
         outputConfig.setCsvPath("./output/test_weather_data.csv");
         outputConfig.setBatchSize(50);
+        outputConfig.setLoadMode(WeatherEtlConfig.LoadMode.ENTITY);
         config.setOutput(outputConfig);
 
         return config;
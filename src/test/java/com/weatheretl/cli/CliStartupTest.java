@@ -0,0 +1,50 @@
+package com.weatheretl.cli;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CLI Startup Tests")
+class CliStartupTest {
+
+    @Test
+    @DisplayName("Should treat any argument as a CLI invocation")
+    void shouldTreatAnyArgumentAsCliInvocation() {
+        assertThat(CliStartup.isCliInvocation(new String[0])).isFalse();
+        assertThat(CliStartup.isCliInvocation(new String[]{"--source=api"})).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should skip the database bootstrap for CSV output and help")
+    void shouldSkipDatabaseForCsvOutputAndHelp() {
+        Map<String, Object> csv = CliStartup.defaultProperties(new String[]{"--source=api", "--output=CSV"});
+        Map<String, Object> help = CliStartup.defaultProperties(new String[]{"--help"});
+
+        assertThat((String) csv.get("spring.autoconfigure.exclude"))
+                .contains("HibernateJpaAutoConfiguration", "FlywayAutoConfiguration", "LiquibaseAutoConfiguration");
+        assertThat(help).containsKey("spring.autoconfigure.exclude");
+    }
+
+    @Test
+    @DisplayName("Should keep the database bootstrap for database outputs")
+    void shouldKeepDatabaseForDatabaseOutputs() {
+        assertThat(CliStartup.defaultProperties(new String[]{"--source=api", "--output=database"})).isEmpty();
+        assertThat(CliStartup.defaultProperties(new String[]{"--source=json", "--output=all"})).isEmpty();
+        assertThat(CliStartup.defaultProperties(new String[]{"--source=api"})).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should start without a web server")
+    void shouldStartWithoutWebServer() {
+        SpringApplication application = new SpringApplication(CliStartupTest.class);
+
+        CliStartup.configure(application, new String[]{"--source=api", "--output=csv"});
+
+        assertThat(application.getWebApplicationType()).isEqualTo(WebApplicationType.NONE);
+    }
+}
@@ -1,7 +1,8 @@
 package com.weatheretl.cli;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.weatheretl.model.api.WeatherApiModels.WeatherApiResponse;
+import com.weatheretl.config.WeatherEtlConfig.LoadMode;
+import com.weatheretl.model.api.WeatherApiModels.ColumnarWeatherResponse;
 import com.weatheretl.service.WeatherEtlService;
 import com.weatheretl.service.WeatherEtlService.EtlResult;
 import org.junit.jupiter.api.AfterEach;
@@ -21,6 +22,7 @@ import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -146,6 +148,23 @@ class WeatherEtlCliTest {
         assertThat(output).contains("Database saved: ❌");
     }
 
+    @Test
+    @DisplayName("Should replay stored responses for store source")
+    void shouldReplayStoredResponsesForStoreSource() {
+        when(weatherEtlService.executeReplay(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 3),
+                true, true, "/tmp/replay.csv", null)).thenReturn(successResult);
+        assertDoesNotThrow(() -> weatherEtlCli.run(
+                "--source=store",
+                "--output=all",
+                "--start-date=2024-01-01",
+                "--end-date=2024-01-03",
+                "--csv-path=/tmp/replay.csv"
+        ));
+        verify(weatherEtlService).executeReplay(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 3),
+                true, true, "/tmp/replay.csv", null);
+        assertThat(outputStream.toString()).contains("✅ SUCCESS");
+    }
+
     @Test
     @DisplayName("Should execute API to CSV with custom path")
     void shouldExecuteApiToCsvWithCustomPath() {
@@ -203,6 +222,79 @@ class WeatherEtlCliTest {
         assertThat(output).contains("Database saved: ✅");
     }
 
+    @Test
+    @DisplayName("Should pass COPY load mode to database load")
+    void shouldPassCopyLoadModeToDatabaseLoad() {
+        EtlResult dbResult = EtlResult.builder()
+                .startDate(LocalDate.of(2024, 1, 1))
+                .endDate(LocalDate.of(2024, 1, 3))
+                .success(true)
+                .recordsTransformed(15)
+                .databaseSaved(true)
+                .build();
+        when(weatherEtlService.executeApiToDatabase(
+                LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 1, 3),
+                LoadMode.COPY
+        )).thenReturn(dbResult);
+        assertDoesNotThrow(() -> weatherEtlCli.run(
+                "--source=api",
+                "--output=database",
+                "--start-date=2024-01-01",
+                "--end-date=2024-01-03",
+                "--load-mode=copy"
+        ));
+        verify(weatherEtlService).executeApiToDatabase(
+                LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 1, 3),
+                LoadMode.COPY
+        );
+        assertThat(outputStream.toString()).contains("Database saved: ✅");
+    }
+
+    @Test
+    @DisplayName("Should run incremental load for API to database")
+    void shouldRunIncrementalLoadForApiToDatabase() {
+        successResult.setDaysSkipped(2);
+        when(weatherEtlService.executeIncrementalToDatabase(
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 3), null)).thenReturn(successResult);
+        assertDoesNotThrow(() -> weatherEtlCli.run(
+                "--source=api",
+                "--output=database",
+                "--start-date=2024-01-01",
+                "--end-date=2024-01-03",
+                "--incremental"
+        ));
+        assertThat(outputStream.toString()).contains("Days already loaded: 2");
+    }
+
+    @Test
+    @DisplayName("Should reject incremental load for CSV output")
+    void shouldRejectIncrementalLoadForCsvOutput() {
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> weatherEtlCli.run(
+                "--source=api",
+                "--output=csv",
+                "--start-date=2024-01-01",
+                "--end-date=2024-01-03",
+                "--incremental"
+        ));
+        assertThat(exception.getMessage()).contains("--incremental is only supported with --output=database");
+        verifyNoInteractions(weatherEtlService);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown load mode")
+    void shouldRejectUnknownLoadMode() {
+        assertThrows(RuntimeException.class, () -> weatherEtlCli.run(
+                "--source=api",
+                "--output=database",
+                "--start-date=2024-01-01",
+                "--end-date=2024-01-03",
+                "--load-mode=bulk"
+        ));
+        verifyNoInteractions(weatherEtlService);
+    }
+
     @Test
     @DisplayName("Should execute API to All (CSV + Database) successfully")
     void shouldExecuteApiToAllSuccessfully() {
@@ -239,16 +331,65 @@ class WeatherEtlCliTest {
         assertThat(output).contains("Database saved: ✅");
     }
 
+    @Test
+    @DisplayName("Should stream JSON file when streaming mode is requested")
+    void shouldStreamJsonFileWhenStreamingModeIsRequested() throws Exception {
+        Path jsonFile = tempDir.resolve("weather-archive.json");
+        Files.writeString(jsonFile, "{\"latitude\": 40.7128, \"longitude\": -74.0060}");
+        when(weatherEtlService.processJsonFile(jsonFile, true, true, null, LoadMode.COPY))
+                .thenReturn(successResult);
+        assertDoesNotThrow(() -> weatherEtlCli.run(
+                "--source=json",
+                "--output=all",
+                "--json-path=" + jsonFile,
+                "--json-mode=streaming",
+                "--load-mode=copy"
+        ));
+        verify(weatherEtlService).processJsonFile(jsonFile, true, true, null, LoadMode.COPY);
+        verifyNoInteractions(objectMapper);
+        assertThat(outputStream.toString()).contains("✅ SUCCESS");
+    }
+
+    @Test
+    @DisplayName("Should process every JSON file of a directory with parallel workers")
+    void shouldProcessJsonDirectoryWithParallelWorkers() throws Exception {
+        Path first = Files.writeString(tempDir.resolve("2024-01.json"), "{}");
+        Path second = Files.writeString(tempDir.resolve("2024-02.json"), "{}");
+        Files.writeString(tempDir.resolve("notes.txt"), "skip me");
+        when(weatherEtlService.processJsonFiles(List.of(first, second), false, true, null, null, 4))
+                .thenReturn(successResult);
+        assertDoesNotThrow(() -> weatherEtlCli.run(
+                "--source=json",
+                "--output=database",
+                "--json-dir=" + tempDir,
+                "--workers=4"
+        ));
+        verify(weatherEtlService).processJsonFiles(List.of(first, second), false, true, null, null, 4);
+        verifyNoInteractions(objectMapper);
+    }
+
+    @Test
+    @DisplayName("Should reject JSON glob that matches no files")
+    void shouldRejectJsonGlobThatMatchesNoFiles() {
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> weatherEtlCli.run(
+                "--source=json",
+                "--output=csv",
+                "--json-path=" + tempDir + "/*.json"
+        ));
+        assertThat(exception.getMessage()).contains("No JSON files matched");
+        verifyNoInteractions(weatherEtlService);
+    }
+
     @Test
     @DisplayName("Should process JSON file to CSV successfully")
     void shouldProcessJsonFileToCsvSuccessfully() throws Exception {
         Path jsonFile = tempDir.resolve("weather-data.json");
         Files.writeString(jsonFile, "{\"latitude\": 40.7128, \"longitude\": -74.0060}");
-        WeatherApiResponse mockResponse = WeatherApiResponse.builder()
+        ColumnarWeatherResponse mockResponse = ColumnarWeatherResponse.builder()
                 .latitude(40.7128)
                 .longitude(-74.0060)
                 .build();
-        when(objectMapper.readValue(any(File.class), eq(WeatherApiResponse.class)))
+        when(objectMapper.readValue(any(File.class), eq(ColumnarWeatherResponse.class)))
                 .thenReturn(mockResponse);
         when(weatherEtlService.processJsonData(mockResponse, true, false, null))
                 .thenReturn(successResult);
@@ -257,7 +398,7 @@ class WeatherEtlCliTest {
                 "--output=csv",
                 "--json-path=" + jsonFile
         ));
-        verify(objectMapper).readValue(any(File.class), eq(WeatherApiResponse.class));
+        verify(objectMapper).readValue(any(File.class), eq(ColumnarWeatherResponse.class));
         verify(weatherEtlService).processJsonData(mockResponse, true, false, null);
         String output = outputStream.toString();
         assertThat(output).contains("✅ SUCCESS");
@@ -268,11 +409,11 @@ class WeatherEtlCliTest {
     void shouldProcessJsonFileToDatabaseSuccessfully() throws Exception {
         Path jsonFile = tempDir.resolve("weather-data.json");
         Files.writeString(jsonFile, "{\"latitude\": 40.7128, \"longitude\": -74.0060}");
-        WeatherApiResponse mockResponse = WeatherApiResponse.builder()
+        ColumnarWeatherResponse mockResponse = ColumnarWeatherResponse.builder()
                 .latitude(40.7128)
                 .longitude(-74.0060)
                 .build();
-        when(objectMapper.readValue(any(File.class), eq(WeatherApiResponse.class)))
+        when(objectMapper.readValue(any(File.class), eq(ColumnarWeatherResponse.class)))
                 .thenReturn(mockResponse);
         when(weatherEtlService.processJsonData(mockResponse, false, true, null))
                 .thenReturn(successResult);
@@ -289,11 +430,11 @@ class WeatherEtlCliTest {
     void shouldProcessJsonFileToAllSuccessfully() throws Exception {
         Path jsonFile = tempDir.resolve("weather-data.json");
         Files.writeString(jsonFile, "{\"latitude\": 40.7128, \"longitude\": -74.0060}");
-        WeatherApiResponse mockResponse = WeatherApiResponse.builder()
+        ColumnarWeatherResponse mockResponse = ColumnarWeatherResponse.builder()
                 .latitude(40.7128)
                 .longitude(-74.0060)
                 .build();
-        when(objectMapper.readValue(any(File.class), eq(WeatherApiResponse.class)))
+        when(objectMapper.readValue(any(File.class), eq(ColumnarWeatherResponse.class)))
                 .thenReturn(mockResponse);
         when(weatherEtlService.processJsonData(mockResponse, true, true, null))
                 .thenReturn(successResult);
@@ -449,7 +590,7 @@ class WeatherEtlCliTest {
     void shouldHandleJsonParsingException() throws Exception {
         Path jsonFile = tempDir.resolve("invalid.json");
         Files.writeString(jsonFile, "invalid json content");
-        when(objectMapper.readValue(any(File.class), eq(WeatherApiResponse.class)))
+        when(objectMapper.readValue(any(File.class), eq(ColumnarWeatherResponse.class)))
                 .thenThrow(new IOException("Invalid JSON format"));
         RuntimeException exception = assertThrows(RuntimeException.class, () -> weatherEtlCli.run(
                 "--source=json",
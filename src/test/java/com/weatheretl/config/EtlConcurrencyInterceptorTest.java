@@ -0,0 +1,88 @@
+package com.weatheretl.config;
+
+import com.weatheretl.service.EtlConcurrencyLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ETL Concurrency Interceptor Tests")
+class EtlConcurrencyInterceptorTest {
+
+    private static final String EXECUTE_URI = "/api/v1/weather-etl/execute/api-to-csv";
+    private static final String REACTIVE_URI = "/api/v1/weather-etl/reactive/api-to-csv";
+
+    private EtlConcurrencyLimiter limiter;
+    private EtlConcurrencyInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        WeatherEtlConfig config = new WeatherEtlConfig();
+        config.getExecution().setMaxConcurrentJobs(1);
+        config.getExecution().setAcquireTimeout(Duration.ofMillis(50));
+        limiter = new EtlConcurrencyLimiter(config);
+        interceptor = new EtlConcurrencyInterceptor(limiter);
+    }
+
+    @Test
+    @DisplayName("Should hold a permit for the request and release it on completion")
+    void shouldHoldPermitUntilCompletion() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", EXECUTE_URI);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(request, response, new Object())).isTrue();
+        assertThat(limiter.availablePermits()).isZero();
+
+        interceptor.afterCompletion(request, response, new Object(), null);
+        assertThat(limiter.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should answer 503 when no permit frees up within the acquire timeout")
+    void shouldRejectWhenNoPermitInTime() throws Exception {
+        MockHttpServletRequest first = new MockHttpServletRequest("POST", EXECUTE_URI);
+        interceptor.preHandle(first, new MockHttpServletResponse(), new Object());
+
+        MockHttpServletRequest second = new MockHttpServletRequest("POST", EXECUTE_URI);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(second, response, new Object())).isFalse();
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+
+        interceptor.afterCompletion(second, response, new Object(), null);
+        assertThat(limiter.availablePermits()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep a single permit across the async dispatch of a reactive request")
+    void shouldKeepPermitAcrossAsyncDispatch() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", REACTIVE_URI);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(request, response, new Object())).isTrue();
+        interceptor.afterConcurrentHandlingStarted(request, response, new Object());
+        assertThat(limiter.availablePermits()).isZero();
+
+        assertThat(interceptor.preHandle(request, response, new Object())).isTrue();
+        interceptor.afterCompletion(request, response, new Object(), null);
+        assertThat(limiter.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should let read-only requests through without a permit")
+    void shouldSkipNonPostRequests() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", EXECUTE_URI);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(request, response, new Object())).isTrue();
+        interceptor.afterCompletion(request, response, new Object(), null);
+        assertThat(limiter.availablePermits()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,48 @@
+package com.weatheretl.config;
+
+import com.weatheretl.model.api.HourlyColumnsDeserializer;
+import com.weatheretl.model.api.HourlyColumnsSerializer;
+import com.weatheretl.model.api.WeatherApiModels.ColumnarWeatherResponse;
+import com.weatheretl.model.api.WeatherApiModels.DailyData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Weather ETL Runtime Hints Tests")
+class WeatherEtlRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new WeatherEtlRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Should register Jackson binding for API models and their nested types")
+    void shouldRegisterBindingForApiModels() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(ColumnarWeatherResponse.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(DailyData.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(HourlyColumnsDeserializer.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(HourlyColumnsSerializer.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Should register the PostgreSQL driver and Liquibase changelogs")
+    void shouldRegisterDriverAndChangelogs() {
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of(WeatherEtlRuntimeHints.POSTGRES_DRIVER))
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/changelog/db.changelog-master.yaml"))
+                .accepts(hints);
+    }
+}
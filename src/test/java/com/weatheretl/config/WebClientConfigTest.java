@@ -0,0 +1,74 @@
+package com.weatheretl.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Web Client Config Tests")
+class WebClientConfigTest {
+
+    private WeatherEtlConfig config;
+    private WebClientConfig webClientConfig;
+    private ConnectionProvider connectionProvider;
+
+    @BeforeEach
+    void setUp() {
+        config = new WeatherEtlConfig();
+        config.getApi().getHttp().setMaxConnections(8);
+        config.getApi().getHttp().setMetrics(false);
+        webClientConfig = new WebClientConfig(config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (connectionProvider != null) {
+            connectionProvider.dispose();
+        }
+    }
+
+    @Test
+    @DisplayName("Should size the connection pool from configuration")
+    void shouldSizeConnectionPoolFromConfiguration() {
+        connectionProvider = webClientConfig.weatherConnectionProvider();
+
+        assertThat(connectionProvider.name()).isEqualTo(WebClientConfig.POOL_NAME);
+        assertThat(connectionProvider.maxConnections()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Should request compressed responses and offer HTTP/2")
+    void shouldRequestCompressedResponsesAndOfferHttp2() {
+        connectionProvider = webClientConfig.weatherConnectionProvider();
+
+        HttpClient client = webClientConfig.httpClient(connectionProvider);
+
+        assertThat(client.configuration().isAcceptGzip()).isTrue();
+        assertThat(client.configuration().protocols()).containsExactlyInAnyOrder(HttpProtocol.H2, HttpProtocol.HTTP11);
+    }
+
+    @Test
+    @DisplayName("Should stay on HTTP/1.1 without compression when disabled")
+    void shouldStayOnHttp11WhenDisabled() {
+        config.getApi().getHttp().setHttp2(false);
+        config.getApi().getHttp().setCompression(false);
+        connectionProvider = webClientConfig.weatherConnectionProvider();
+
+        HttpClient client = webClientConfig.httpClient(connectionProvider);
+
+        assertThat(client.configuration().isAcceptGzip()).isFalse();
+        assertThat(client.configuration().protocols()).containsExactly(HttpProtocol.HTTP11);
+    }
+
+    @Test
+    @DisplayName("Should drop the query string from metric URI tags")
+    void shouldDropQueryStringFromUriTags() {
+        assertThat(WebClientConfig.uriTag("/v1/forecast?latitude=55.03&longitude=82.94")).isEqualTo("/v1/forecast");
+        assertThat(WebClientConfig.uriTag("/v1/forecast")).isEqualTo("/v1/forecast");
+    }
+}
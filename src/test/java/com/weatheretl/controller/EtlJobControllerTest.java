@@ -0,0 +1,155 @@
+package com.weatheretl.controller;
+
+import com.weatheretl.config.WeatherEtlConfig;
+import com.weatheretl.config.WeatherEtlConfig.LoadMode;
+import com.weatheretl.service.EtlConcurrencyLimiter;
+import com.weatheretl.service.EtlJobService;
+import com.weatheretl.service.EtlJobService.EtlJobRequest;
+import com.weatheretl.service.EtlJobService.EtlJobStatus;
+import com.weatheretl.service.EtlJobService.JobRejectedException;
+import com.weatheretl.service.EtlJobService.JobState;
+import com.weatheretl.service.EtlJobService.JobType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(EtlJobController.class)
+@Import({WeatherEtlConfig.class, EtlConcurrencyLimiter.class})
+@DisplayName("ETL Job Controller Tests")
+class EtlJobControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EtlJobService etlJobService;
+
+    private EtlJobStatus queuedStatus;
+
+    @BeforeEach
+    void setUp() {
+        queuedStatus = EtlJobStatus.builder()
+                .id("job-1")
+                .type(JobType.API_TO_DATABASE)
+                .state(JobState.QUEUED)
+                .startDate(LocalDate.of(2024, 1, 1))
+                .endDate(LocalDate.of(2024, 12, 31))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should accept a job and point to its status")
+    void shouldAcceptJobAndPointToStatus() throws Exception {
+        when(etlJobService.submit(argThat((EtlJobRequest request) -> request.getType() == JobType.API_TO_DATABASE
+                && request.getLoadMode() == LoadMode.COPY && request.isIncremental())))
+                .thenReturn(queuedStatus);
+
+        mockMvc.perform(post("/api/v1/weather-etl/jobs/api-to-database")
+                        .param("startDate", "2024-01-01")
+                        .param("endDate", "2024-12-31")
+                        .param("loadMode", "copy")
+                        .param("incremental", "true"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/v1/weather-etl/jobs/job-1"))
+                .andExpect(jsonPath("$.id", is("job-1")))
+                .andExpect(jsonPath("$.state", is("QUEUED")));
+    }
+
+    @Test
+    @DisplayName("Should answer 429 when the job queue is full")
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        when(etlJobService.submit(any(EtlJobRequest.class)))
+                .thenThrow(new JobRejectedException("ETL job queue is full (20 jobs waiting, 2 running)"));
+
+        mockMvc.perform(post("/api/v1/weather-etl/jobs/api-to-csv")
+                        .param("startDate", "2024-01-01")
+                        .param("endDate", "2024-12-31"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.errorMessage", containsString("queue is full")));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown load mode without submitting")
+    void shouldRejectUnknownLoadMode() throws Exception {
+        mockMvc.perform(post("/api/v1/weather-etl/jobs/api-to-all")
+                        .param("startDate", "2024-01-01")
+                        .param("endDate", "2024-12-31")
+                        .param("loadMode", "bulk"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorMessage", containsString("Invalid load mode")));
+        verifyNoInteractions(etlJobService);
+    }
+
+    @Test
+    @DisplayName("Should return job status and list jobs")
+    void shouldReturnJobStatusAndListJobs() throws Exception {
+        queuedStatus.setState(JobState.RUNNING);
+        queuedStatus.setDaysTotal(366);
+        queuedStatus.setDaysLoaded(31);
+        when(etlJobService.getJob("job-1")).thenReturn(Optional.of(queuedStatus));
+        when(etlJobService.getJobs()).thenReturn(List.of(queuedStatus));
+
+        mockMvc.perform(get("/api/v1/weather-etl/jobs/job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state", is("RUNNING")))
+                .andExpect(jsonPath("$.daysTotal", is(366)))
+                .andExpect(jsonPath("$.daysLoaded", is(31)));
+        mockMvc.perform(get("/api/v1/weather-etl/jobs"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("Should answer 404 for unknown jobs")
+    void shouldAnswerNotFoundForUnknownJobs() throws Exception {
+        when(etlJobService.getJob("missing")).thenReturn(Optional.empty());
+        when(etlJobService.cancel("missing")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v1/weather-etl/jobs/missing"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/v1/weather-etl/jobs/missing"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should accept cancellation of an active job and refuse a finished one")
+    void shouldCancelActiveJobAndRefuseFinishedOne() throws Exception {
+        queuedStatus.setCancelRequested(true);
+        EtlJobStatus finished = EtlJobStatus.builder()
+                .id("job-2")
+                .state(JobState.SUCCEEDED)
+                .build();
+        when(etlJobService.cancel("job-1")).thenReturn(Optional.of(queuedStatus));
+        when(etlJobService.cancel("job-2")).thenReturn(Optional.of(finished));
+
+        mockMvc.perform(delete("/api/v1/weather-etl/jobs/job-1"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.cancelRequested", is(true)));
+        mockMvc.perform(delete("/api/v1/weather-etl/jobs/job-2"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.state", is("SUCCEEDED")));
+    }
+}
@@ -1,5 +1,8 @@
 package com.weatheretl.controller;
 
+import com.weatheretl.config.WeatherEtlConfig;
+import com.weatheretl.config.WeatherEtlConfig.LoadMode;
+import com.weatheretl.service.EtlConcurrencyLimiter;
 import com.weatheretl.service.WeatherDatabaseService;
 import com.weatheretl.service.WeatherEtlService;
 import com.weatheretl.service.WeatherEtlService.EtlResult;
@@ -10,8 +13,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -23,12 +29,15 @@ import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(WeatherEtlController.class)
+@Import({WeatherEtlConfig.class, EtlConcurrencyLimiter.class})
 @DisplayName("Weather ETL Controller Tests")
 class WeatherEtlControllerTest {
 
@@ -332,4 +341,73 @@ class WeatherEtlControllerTest {
                 .andExpect(jsonPath("$.success", is(true)))
                 .andExpect(jsonPath("$.recordsTransformed", is(1)));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should execute reactive API to database asynchronously")
+    void shouldExecuteReactiveApiToDatabase() throws Exception {
+        when(weatherEtlService.executeReactive(startDate, endDate, false, true, null, LoadMode.COPY))
+                .thenReturn(Mono.just(successResult));
+        MvcResult mvcResult = mockMvc.perform(post("/api/v1/weather-etl/reactive/api-to-database")
+                        .param("startDate", "2024-01-01")
+                        .param("endDate", "2024-01-03")
+                        .param("loadMode", "copy"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success", is(true)))
+                .andExpect(jsonPath("$.recordsTransformed", is(10)));
+    }
+
+    @Test
+    @DisplayName("Should return 500 when reactive ETL fails")
+    void shouldReturnErrorWhenReactiveEtlFails() throws Exception {
+        when(weatherEtlService.executeReactive(startDate, endDate, true, true, null, null))
+                .thenReturn(Mono.just(failureResult));
+        MvcResult mvcResult = mockMvc.perform(post("/api/v1/weather-etl/reactive/api-to-all")
+                        .param("startDate", "2024-01-01")
+                        .param("endDate", "2024-01-03"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.errorMessage", is("API connection failed")));
+    }
+
+    @Test
+    @DisplayName("Should pass load mode to API to Database")
+    void shouldPassLoadModeToApiToDatabase() throws Exception {
+        when(weatherEtlService.executeApiToDatabase(startDate, endDate, LoadMode.COPY))
+                .thenReturn(successResult);
+        mockMvc.perform(post("/api/v1/weather-etl/execute/api-to-database")
+                        .param("startDate", "2024-01-01")
+                        .param("endDate", "2024-01-03")
+                        .param("loadMode", "copy"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success", is(true)));
+    }
+
+    @Test
+    @DisplayName("Should run incremental API to Database when requested")
+    void shouldRunIncrementalApiToDatabase() throws Exception {
+        when(weatherEtlService.executeIncrementalToDatabase(startDate, endDate, null))
+                .thenReturn(successResult);
+        mockMvc.perform(post("/api/v1/weather-etl/execute/api-to-database")
+                        .param("startDate", "2024-01-01")
+                        .param("endDate", "2024-01-03")
+                        .param("incremental", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success", is(true)));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown load mode")
+    void shouldRejectUnknownLoadMode() throws Exception {
+        mockMvc.perform(post("/api/v1/weather-etl/execute/api-to-all")
+                        .param("startDate", "2024-01-01")
+                        .param("endDate", "2024-01-03")
+                        .param("loadMode", "bulk"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorMessage", containsString("Invalid load mode")));
+    }
+}
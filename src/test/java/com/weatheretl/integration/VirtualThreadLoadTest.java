@@ -0,0 +1,163 @@
+package com.weatheretl.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import com.weatheretl.config.WeatherEtlConfig;
+import com.weatheretl.model.api.WeatherApiModels.ColumnarWeatherResponse;
+import com.weatheretl.service.ApiRateLimiter;
+import com.weatheretl.service.EtlConcurrencyLimiter;
+import com.weatheretl.service.RawResponseStore;
+import com.weatheretl.service.WeatherApiClient;
+import com.weatheretl.service.WeatherResponseCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sends 500 concurrent ETL requests through {@link EtlConcurrencyLimiter} to a local stub API with
+ * a fixed latency, comparing Tomcat's default 200 platform threads with one virtual thread per
+ * request (what {@code spring.threads.virtual.enabled} switches Tomcat to). The platform pool
+ * needs three rounds of stub latency for 500 requests, virtual threads about one.
+ * Run with {@code ./gradlew loadTest}.
+ */
+@Tag("load")
+@DisplayName("Virtual Thread Load Test")
+class VirtualThreadLoadTest {
+
+    private static final int CONCURRENT_REQUESTS = 500;
+    private static final int PLATFORM_POOL_SIZE = 200;
+    private static final long STUB_LATENCY_MS = 2000;
+    private static final byte[] STUB_BODY =
+            "{\"latitude\":55.0344,\"longitude\":82.9434,\"generationtime_ms\":0.1}".getBytes(StandardCharsets.UTF_8);
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    private HttpServer stubServer;
+    private ExecutorService stubExecutor;
+    private WeatherApiClient weatherApiClient;
+    private WeatherEtlConfig config;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stubExecutor = Executors.newCachedThreadPool();
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), CONCURRENT_REQUESTS);
+        stubServer.createContext("/v1/forecast", exchange -> {
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(STUB_LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, STUB_BODY.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(STUB_BODY);
+            }
+        });
+        stubServer.setExecutor(stubExecutor);
+        stubServer.start();
+
+        config = new WeatherEtlConfig();
+        config.getApi().setBaseUrl("http://127.0.0.1:" + stubServer.getAddress().getPort() + "/v1/forecast");
+        config.getApi().setTimeout(Duration.ofSeconds(60));
+        config.getExecution().setAcquireTimeout(Duration.ofMinutes(1));
+        ConnectionProvider connections = ConnectionProvider.builder("load-test")
+                .maxConnections(CONCURRENT_REQUESTS)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        WebClient webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connections)))
+                .build();
+        // Every request must reach the stub API, unpaced
+        config.getApi().getCache().setEnabled(false);
+        config.getApi().getRateLimit().setEnabled(false);
+        weatherApiClient = new WeatherApiClient(webClient, config,
+                new WeatherResponseCache(new NoOpCacheManager(), config),
+                new RawResponseStore(config, new ObjectMapper()),
+                new ApiRateLimiter(config));
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Virtual threads should sustain higher throughput than the platform pool")
+    void virtualThreadsShouldOutperformPlatformPool() throws Exception {
+        config.getExecution().setMaxConcurrentJobs(CONCURRENT_REQUESTS);
+        runRequests(Executors.newVirtualThreadPerTaskExecutor());
+
+        LoadRun platform = runRequests(Executors.newFixedThreadPool(PLATFORM_POOL_SIZE));
+        LoadRun virtual = runRequests(Executors.newVirtualThreadPerTaskExecutor());
+
+        System.out.printf("Platform pool (%d threads): %.1f req/s, peak %d; virtual threads: %.1f req/s, peak %d%n",
+                PLATFORM_POOL_SIZE, platform.throughput(), platform.peakInFlight(),
+                virtual.throughput(), virtual.peakInFlight());
+        assertThat(platform.peakInFlight()).isLessThanOrEqualTo(PLATFORM_POOL_SIZE);
+        assertThat(virtual.peakInFlight()).isGreaterThan(PLATFORM_POOL_SIZE);
+        assertThat(virtual.throughput()).isGreaterThan(platform.throughput() * 1.5);
+    }
+
+    @Test
+    @DisplayName("Virtual threads should still respect max-concurrent-jobs")
+    void virtualThreadsShouldRespectConcurrencyCap() throws Exception {
+        config.getExecution().setMaxConcurrentJobs(100);
+
+        assertThat(runRequests(Executors.newVirtualThreadPerTaskExecutor()).peakInFlight()).isLessThanOrEqualTo(100);
+    }
+
+    private LoadRun runRequests(ExecutorService executor) throws Exception {
+        EtlConcurrencyLimiter limiter = new EtlConcurrencyLimiter(config);
+        peakInFlight.set(0);
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        List<Future<ColumnarWeatherResponse>> futures = new ArrayList<>(CONCURRENT_REQUESTS);
+        long started = System.nanoTime();
+        try (executor) {
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    assertThat(limiter.tryAcquire()).isTrue();
+                    try {
+                        return weatherApiClient.fetchWeatherData(55.0344, 82.9434, date, date);
+                    } finally {
+                        limiter.release();
+                    }
+                }));
+            }
+            for (Future<ColumnarWeatherResponse> future : futures) {
+                assertThat(future.get(1, TimeUnit.MINUTES).getLatitude()).isEqualTo(55.0344);
+            }
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        return new LoadRun(CONCURRENT_REQUESTS / seconds, peakInFlight.get());
+    }
+
+    private record LoadRun(double throughput, int peakInFlight) {
+    }
+}
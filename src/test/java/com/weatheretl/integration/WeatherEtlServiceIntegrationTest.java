@@ -1,6 +1,8 @@
 package com.weatheretl.integration;
 
 import com.weatheretl.config.WeatherEtlConfig;
+import com.weatheretl.model.api.HourlyColumns;
+import com.weatheretl.model.api.WeatherApiModels.ColumnarWeatherResponse;
 import com.weatheretl.model.api.WeatherApiModels.DailyData;
 import com.weatheretl.model.api.WeatherApiModels.HourlyData;
 import com.weatheretl.model.api.WeatherApiModels.WeatherApiResponse;
@@ -66,7 +68,7 @@ class WeatherEtlServiceIntegrationTest {
     @Test
     @DisplayName("Should execute full ETL pipeline from API to CSV integration")
     void shouldExecuteFullEtlPipelineApiToCsv() throws Exception {
-        when(weatherApiClient.fetchWeatherData(startDate, endDate)).thenReturn(mockApiResponse);
+        when(weatherApiClient.fetchWeatherData(startDate, endDate)).thenReturn(columnar(mockApiResponse));
         String csvPath = tempDir.resolve("integration_test.csv").toString();
         WeatherEtlService.EtlResult result = weatherEtlService.executeApiToCsv(startDate, endDate, csvPath);
         assertTrue(result.isSuccess(), "ETL process should succeed");
@@ -92,7 +94,7 @@ class WeatherEtlServiceIntegrationTest {
     @Test
     @DisplayName("Should execute full ETL pipeline from API to Database integration")
     void shouldExecuteFullEtlPipelineApiToDatabase() {
-        when(weatherApiClient.fetchWeatherData(startDate, endDate)).thenReturn(mockApiResponse);
+        when(weatherApiClient.fetchWeatherData(startDate, endDate)).thenReturn(columnar(mockApiResponse));
         WeatherEtlService.EtlResult result = weatherEtlService.executeApiToDatabase(startDate, endDate);
         assertTrue(result.isSuccess());
         assertTrue(result.isApiResponseReceived());
@@ -126,7 +128,7 @@ class WeatherEtlServiceIntegrationTest {
     void shouldHandleProcessingJsonDataDirectly() {
         String csvPath = tempDir.resolve("json_processing_test.csv").toString();
         WeatherEtlService.EtlResult result = weatherEtlService.processJsonData(
-                mockApiResponse, true, false, csvPath);
+                columnar(mockApiResponse), true, false, csvPath);
         assertTrue(result.isSuccess());
         assertTrue(result.isApiResponseReceived());
         assertTrue(result.isCsvExported());
@@ -172,7 +174,7 @@ class WeatherEtlServiceIntegrationTest {
     @Test
     @DisplayName("Should handle end-to-end error scenarios gracefully")
     void shouldHandleEndToEndErrorScenariosGracefully() {
-        WeatherApiResponse corruptedResponse = WeatherApiResponse.builder()
+        ColumnarWeatherResponse corruptedResponse = ColumnarWeatherResponse.builder()
                 .latitude(40.7128)
                 .longitude(-74.0060)
                 .hourly(null)
@@ -211,7 +213,7 @@ class WeatherEtlServiceIntegrationTest {
         WeatherApiResponse multiLocationResponse = createMultiLocationApiResponse();
         String csvPath = tempDir.resolve("multi_location_test.csv").toString();
         WeatherEtlService.EtlResult result = weatherEtlService.processJsonData(
-                multiLocationResponse, true, false, csvPath);
+                columnar(multiLocationResponse), true, false, csvPath);
         assertTrue(result.isSuccess(), "ETL process should succeed");
         assertEquals(1, result.getRecordsTransformed(), "Should transform 1 record");
         assertTrue(Files.exists(Path.of(csvPath)), "CSV file should be created");
@@ -233,7 +235,7 @@ class WeatherEtlServiceIntegrationTest {
     void shouldValidateCsvContentStructure() throws Exception {
         String csvPath = tempDir.resolve("structure_test.csv").toString();
         WeatherEtlService.EtlResult result = weatherEtlService.processJsonData(
-                mockApiResponse, true, false, csvPath);
+                columnar(mockApiResponse), true, false, csvPath);
         assertTrue(result.isSuccess());
         assertTrue(Files.exists(Path.of(csvPath)));
         List<String> lines = Files.readAllLines(Path.of(csvPath));
@@ -247,6 +249,16 @@ class WeatherEtlServiceIntegrationTest {
         }
     }
 
+    private static ColumnarWeatherResponse columnar(WeatherApiResponse response) {
+        return ColumnarWeatherResponse.builder()
+                .latitude(response.getLatitude())
+                .longitude(response.getLongitude())
+                .timezone(response.getTimezone())
+                .hourly(HourlyColumns.from(response.getHourly()))
+                .daily(response.getDaily())
+                .build();
+    }
+
     private WeatherApiResponse createRealisticApiResponse() {
         return WeatherApiResponse.builder()
                 .latitude(40.7128)
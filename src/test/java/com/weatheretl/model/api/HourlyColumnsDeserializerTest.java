@@ -0,0 +1,117 @@
+package com.weatheretl.model.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.weatheretl.model.api.WeatherApiModels.ColumnarWeatherResponse;
+import com.weatheretl.model.api.WeatherApiModels.HourlyData;
+import com.weatheretl.util.DayBuckets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("HourlyColumns Deserializer Tests")
+class HourlyColumnsDeserializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should read hourly arrays into primitive columns")
+    void shouldReadHourlyArraysIntoPrimitiveColumns() throws Exception {
+        String json = """
+                {
+                  "time": [1704067200, 1704070800, 1704074400],
+                  "temperature_2m": [20.5, null, 22.0],
+                  "relative_humidity_2m": [65, 63, 68],
+                  "unknown_series": [{"nested": true}, 1]
+                }
+                """;
+        HourlyColumns columns = objectMapper.readValue(json, HourlyColumns.class);
+        assertThat(columns.size()).isEqualTo(3);
+        assertThat(columns.getTime()).containsExactly(1704067200L, 1704070800L, 1704074400L);
+        assertThat(columns.value(HourlyVariable.TEMPERATURE_2M, 0)).isEqualTo(20.5);
+        assertThat(columns.value(HourlyVariable.TEMPERATURE_2M, 1)).isNaN();
+        assertThat(columns.value(HourlyVariable.RELATIVE_HUMIDITY_2M, 2)).isEqualTo(68.0);
+        assertThat(columns.get(HourlyVariable.RAIN)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should mark null timestamps as missing")
+    void shouldMarkNullTimestampsAsMissing() throws Exception {
+        HourlyColumns columns = objectMapper.readValue("{\"time\": [1704067200, null]}", HourlyColumns.class);
+        assertThat(columns.time(1)).isEqualTo(DayBuckets.MISSING_TIMESTAMP);
+    }
+
+    @Test
+    @DisplayName("Should deserialize full columnar response and ignore unit blocks")
+    void shouldDeserializeColumnarResponse() throws Exception {
+        String json = """
+                {
+                  "latitude": 55.0344,
+                  "longitude": 82.9434,
+                  "generationtime_ms": 1.5,
+                  "hourly_units": {"time": "unixtime"},
+                  "hourly": {"time": [1704067200], "rain": [0.1]},
+                  "daily": {"time": [1704067200], "sunrise": [1704090600], "sunset": [1704132900],
+                            "daylight_duration": [38400]}
+                }
+                """;
+        ColumnarWeatherResponse response = objectMapper.readValue(json, ColumnarWeatherResponse.class);
+        assertThat(response.getLatitude()).isEqualTo(55.0344);
+        assertThat(response.getHourly().value(HourlyVariable.RAIN, 0)).isEqualTo(0.1);
+        assertThat(response.getDaily().getDaylightDuration()).containsExactly(38400);
+    }
+
+    @Test
+    @DisplayName("Should reject non-numeric timestamps")
+    void shouldRejectNonNumericTimestamps() {
+        assertThrows(MismatchedInputException.class, () ->
+                objectMapper.readValue("{\"time\": [\"2024-01-01T00:00\"]}", HourlyColumns.class));
+    }
+
+    @Test
+    @DisplayName("Should convert boxed hourly data to columns")
+    void shouldConvertBoxedHourlyDataToColumns() {
+        HourlyData hourlyData = HourlyData.builder()
+                .time(Arrays.asList(1704067200L, null))
+                .windSpeed10m(Arrays.asList(5.0, null))
+                .build();
+        HourlyColumns columns = HourlyColumns.from(hourlyData);
+        assertThat(columns.time(1)).isEqualTo(DayBuckets.MISSING_TIMESTAMP);
+        assertThat(columns.value(HourlyVariable.WIND_SPEED_10M, 0)).isEqualTo(5.0);
+        assertThat(columns.value(HourlyVariable.WIND_SPEED_10M, 1)).isNaN();
+        assertThat(columns.get(HourlyVariable.TEMPERATURE_2M)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should write columns back in the layout it reads")
+    void shouldRoundTripThroughSerializer() throws Exception {
+        HourlyColumns columns = objectMapper.readValue(
+                "{\"time\": [1704067200, null], \"rain\": [0.1, null]}", HourlyColumns.class);
+
+        HourlyColumns copy = objectMapper.readValue(objectMapper.writeValueAsString(columns), HourlyColumns.class);
+
+        assertThat(copy.getTime()).containsExactly(1704067200L, DayBuckets.MISSING_TIMESTAMP);
+        assertThat(copy.value(HourlyVariable.RAIN, 0)).isEqualTo(0.1);
+        assertThat(copy.value(HourlyVariable.RAIN, 1)).isNaN();
+        assertThat(copy.get(HourlyVariable.SNOWFALL)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should select and concatenate hours, padding absent series with NaN")
+    void shouldSelectAndConcatenateHours() throws Exception {
+        HourlyColumns first = objectMapper.readValue(
+                "{\"time\": [10, 20, 30], \"rain\": [1.0, 2.0, 3.0]}", HourlyColumns.class);
+        HourlyColumns second = objectMapper.readValue("{\"time\": [40]}", HourlyColumns.class);
+
+        HourlyColumns joined = HourlyColumns.concat(List.of(first.select(new int[]{2, 0}), second));
+
+        assertThat(joined.getTime()).containsExactly(30L, 10L, 40L);
+        assertThat(joined.get(HourlyVariable.RAIN)).containsExactly(3.0, 1.0, Double.NaN);
+        assertThat(joined.get(HourlyVariable.SHOWERS)).isNull();
+    }
+}
@@ -0,0 +1,165 @@
+package com.weatheretl.repository;
+
+import com.weatheretl.model.output.WeatherRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Weather Batch Repository Tests")
+class WeatherBatchRepositoryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private WeatherBatchRepository weatherBatchRepository;
+
+    @Test
+    @DisplayName("Should build upsert statement keyed on date and location")
+    void shouldBuildUpsertStatementKeyedOnDateAndLocation() {
+        String sql = WeatherBatchRepository.UPSERT_SQL;
+        assertThat(sql).startsWith("INSERT INTO weather_data (date, latitude, longitude, ");
+        assertThat(sql).contains("ON CONFLICT (date, latitude, longitude) DO UPDATE SET");
+        assertThat(sql).contains("sunrise_iso = EXCLUDED.sunrise_iso");
+        assertThat(sql).doesNotContain("date = EXCLUDED.date");
+        assertThat(sql).doesNotContain("latitude = EXCLUDED.latitude");
+        assertThat(sql.chars().filter(c -> c == '?').count())
+                .isEqualTo(WeatherDataColumn.values().length + 2);
+    }
+
+    @Test
+    @DisplayName("Should update only rows whose content hash changed")
+    void shouldUpdateOnlyRowsWhoseContentHashChanged() {
+        assertThat(WeatherBatchRepository.UPSERT_SQL)
+                .contains("content_hash = EXCLUDED.content_hash")
+                .endsWith("WHERE weather_data.content_hash IS DISTINCT FROM EXCLUDED.content_hash");
+    }
+
+    @Test
+    @DisplayName("Should execute records as JDBC batches of configured size")
+    @SuppressWarnings("unchecked")
+    void shouldExecuteRecordsAsJdbcBatches() {
+        List<WeatherRecord> records = List.of(
+                WeatherRecord.builder().date(LocalDate.of(2024, 1, 1)).latitude(55.0).longitude(82.0).build(),
+                WeatherRecord.builder().date(LocalDate.of(2024, 1, 2)).latitude(55.0).longitude(82.0).build(),
+                WeatherRecord.builder().date(LocalDate.of(2024, 1, 3)).latitude(55.0).longitude(82.0).build()
+        );
+        when(jdbcTemplate.batchUpdate(eq(WeatherBatchRepository.UPSERT_SQL), eq(records), eq(2),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][]{{1, 1}, {1}});
+        assertThat(weatherBatchRepository.upsertAll(records, 2)).isEqualTo(new UpsertCounts(3, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Should send only new and changed records to the batch")
+    @SuppressWarnings("unchecked")
+    void shouldSendOnlyNewAndChangedRecords() throws SQLException {
+        WeatherRecord unchanged = record(LocalDate.of(2024, 1, 1), 1.0);
+        WeatherRecord changed = record(LocalDate.of(2024, 1, 2), 2.0);
+        WeatherRecord added = record(LocalDate.of(2024, 1, 3), 3.0);
+        ResultSet stored = mock(ResultSet.class);
+        when(stored.getDate(1)).thenReturn(Date.valueOf(unchanged.getDate()), Date.valueOf(changed.getDate()));
+        when(stored.getDouble(2)).thenReturn(55.0);
+        when(stored.getDouble(3)).thenReturn(82.0);
+        when(stored.getObject(4, Long.class)).thenReturn(
+                WeatherDataColumn.contentHash(unchanged), WeatherDataColumn.contentHash(added));
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(stored);
+            handler.processRow(stored);
+            return null;
+        }).when(jdbcTemplate).query(eq(WeatherBatchRepository.storedHashesSql(3)), any(RowCallbackHandler.class),
+                any(Object[].class));
+        when(jdbcTemplate.batchUpdate(eq(WeatherBatchRepository.UPSERT_SQL), eq(List.of(changed, added)), eq(100),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][]{{1, 1}});
+
+        UpsertCounts counts = weatherBatchRepository.upsertAll(List.of(unchanged, changed, added), 100);
+
+        assertThat(counts).isEqualTo(new UpsertCounts(1, 1, 1));
+    }
+
+    @Test
+    @DisplayName("Should skip the batch when every record is unchanged")
+    @SuppressWarnings("unchecked")
+    void shouldSkipBatchWhenEveryRecordIsUnchanged() throws SQLException {
+        WeatherRecord unchanged = record(LocalDate.of(2024, 1, 1), 1.0);
+        ResultSet stored = mock(ResultSet.class);
+        when(stored.getDate(1)).thenReturn(Date.valueOf(unchanged.getDate()));
+        when(stored.getDouble(2)).thenReturn(55.0);
+        when(stored.getDouble(3)).thenReturn(82.0);
+        when(stored.getObject(4, Long.class)).thenReturn(WeatherDataColumn.contentHash(unchanged));
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(stored);
+            return null;
+        }).when(jdbcTemplate).query(eq(WeatherBatchRepository.storedHashesSql(1)), any(RowCallbackHandler.class),
+                any(Object[].class));
+
+        assertThat(weatherBatchRepository.upsertAll(List.of(unchanged), 100)).isEqualTo(UpsertCounts.UNCHANGED);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("Should look up stored hashes by exact key in bounded groups")
+    void shouldLookUpStoredHashesByKeyInGroups() {
+        List<WeatherRecord> records = LocalDate.of(2024, 1, 1)
+                .datesUntil(LocalDate.of(2024, 1, 1).plusDays(WeatherBatchRepository.KEY_LOOKUP_SIZE + 1))
+                .map(date -> record(date, 1.0))
+                .toList();
+        when(jdbcTemplate.batchUpdate(eq(WeatherBatchRepository.UPSERT_SQL), eq(records), eq(100),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[0][]);
+
+        weatherBatchRepository.upsertAll(records, 100);
+
+        verify(jdbcTemplate).query(eq(WeatherBatchRepository.storedHashesSql(WeatherBatchRepository.KEY_LOOKUP_SIZE)),
+                any(RowCallbackHandler.class), any(Object[].class));
+        verify(jdbcTemplate).query(eq(WeatherBatchRepository.storedHashesSql(1)), any(RowCallbackHandler.class),
+                eq(Date.valueOf(records.get(records.size() - 1).getDate())), eq(55.0), eq(82.0));
+        assertThat(WeatherBatchRepository.storedHashesSql(2))
+                .endsWith("WHERE (date, latitude, longitude) IN (VALUES (?::date, ?::float8, ?::float8), (?::date, ?::float8, ?::float8))");
+    }
+
+    @Test
+    @DisplayName("Should skip empty record lists")
+    void shouldSkipEmptyRecordLists() {
+        assertThat(weatherBatchRepository.upsertAll(List.of(), 100)).isEqualTo(UpsertCounts.NONE);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private static WeatherRecord record(LocalDate date, double rain) {
+        return WeatherRecord.builder()
+                .date(date)
+                .latitude(55.0)
+                .longitude(82.0)
+                .totalRain24h(rain)
+                .build();
+    }
+}
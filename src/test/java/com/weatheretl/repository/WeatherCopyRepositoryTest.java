@@ -0,0 +1,59 @@
+package com.weatheretl.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Weather Copy Repository Tests")
+class WeatherCopyRepositoryTest {
+
+    @Test
+    @DisplayName("Should copy every value column into the staging table")
+    void shouldCopyEveryValueColumnIntoStagingTable() {
+        assertThat(WeatherCopyRepository.CREATE_STAGING_SQL)
+                .startsWith("CREATE TEMP TABLE weather_data_staging (seq BIGINT, date DATE, latitude DOUBLE PRECISION")
+                .contains("sunrise_iso TEXT");
+        assertThat(WeatherCopyRepository.COPY_SQL)
+                .startsWith("COPY weather_data_staging (seq, date, latitude, longitude, ")
+                .endsWith(", created_at) FROM STDIN WITH (FORMAT csv)");
+    }
+
+    @Test
+    @DisplayName("Should merge staging rows keeping the last duplicate")
+    void shouldMergeStagingRowsKeepingLastDuplicate() {
+        assertThat(WeatherCopyRepository.MERGE_SQL)
+                .contains("SELECT DISTINCT ON (date, latitude, longitude)")
+                .contains("ORDER BY date, latitude, longitude, seq DESC")
+                .contains("ON CONFLICT (date, latitude, longitude) DO UPDATE SET")
+                .doesNotContain("date = EXCLUDED.date");
+    }
+
+    @Test
+    @DisplayName("Should skip unchanged rows and count inserts apart from updates")
+    void shouldSkipUnchangedRowsAndCountInsertsApartFromUpdates() {
+        assertThat(WeatherCopyRepository.CREATE_STAGING_SQL).contains("content_hash BIGINT");
+        assertThat(WeatherCopyRepository.COPY_SQL).contains(", content_hash, created_at)");
+        assertThat(WeatherCopyRepository.MERGE_SQL)
+                .startsWith("WITH merged AS (INSERT INTO weather_data (")
+                .contains("WHERE weather_data.content_hash IS DISTINCT FROM EXCLUDED.content_hash")
+                .contains("RETURNING (xmax = 0) AS inserted")
+                .endsWith("FROM merged");
+    }
+
+    @Test
+    @DisplayName("Should encode CSV values for COPY")
+    void shouldEncodeCsvValuesForCopy() {
+        StringBuilder line = new StringBuilder();
+        WeatherCopyRepository.appendCsvValue(line, WeatherDataColumn.DATE, LocalDate.of(2024, 1, 1));
+        line.append(',');
+        WeatherCopyRepository.appendCsvValue(line, WeatherDataColumn.RAIN_MM, null);
+        line.append(',');
+        WeatherCopyRepository.appendCsvValue(line, WeatherDataColumn.AVG_TEMPERATURE_2M_24H, -3.5);
+        line.append(',');
+        WeatherCopyRepository.appendCsvValue(line, WeatherDataColumn.SUNRISE_ISO, "2024-01-01T\"08:00\"");
+        assertThat(line.toString()).isEqualTo("2024-01-01,,-3.5,\"2024-01-01T\"\"08:00\"\"\"");
+    }
+}
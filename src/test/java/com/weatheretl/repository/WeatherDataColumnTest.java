@@ -0,0 +1,52 @@
+package com.weatheretl.repository;
+
+import com.weatheretl.model.output.WeatherRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Weather Data Column Tests")
+class WeatherDataColumnTest {
+
+    @Test
+    @DisplayName("Should hash equal values equally regardless of date and location")
+    void shouldHashEqualValuesEqually() {
+        WeatherRecord record = record(LocalDate.of(2024, 1, 1), 55.0, 0.5, "2024-01-01T08:00");
+        WeatherRecord sameValues = record(LocalDate.of(2024, 1, 2), 56.0, 0.5, "2024-01-01T08:00");
+
+        assertThat(WeatherDataColumn.contentHash(record)).isEqualTo(WeatherDataColumn.contentHash(sameValues));
+    }
+
+    @Test
+    @DisplayName("Should change the hash when any value changes")
+    void shouldChangeHashWhenValueChanges() {
+        long hash = WeatherDataColumn.contentHash(record(LocalDate.of(2024, 1, 1), 55.0, 0.5, "2024-01-01T08:00"));
+
+        assertThat(WeatherDataColumn.contentHash(record(LocalDate.of(2024, 1, 1), 55.0, 0.6, "2024-01-01T08:00")))
+                .isNotEqualTo(hash);
+        assertThat(WeatherDataColumn.contentHash(record(LocalDate.of(2024, 1, 1), 55.0, 0.5, "2024-01-01T08:01")))
+                .isNotEqualTo(hash);
+    }
+
+    @Test
+    @DisplayName("Should hash null differently from zero")
+    void shouldHashNullDifferentlyFromZero() {
+        WeatherRecord zero = WeatherRecord.builder().totalRain24h(0.0).build();
+        WeatherRecord missing = WeatherRecord.builder().build();
+
+        assertThat(WeatherDataColumn.contentHash(zero)).isNotEqualTo(WeatherDataColumn.contentHash(missing));
+    }
+
+    private static WeatherRecord record(LocalDate date, double latitude, double rain, String sunrise) {
+        return WeatherRecord.builder()
+                .date(date)
+                .latitude(latitude)
+                .longitude(82.0)
+                .totalRain24h(rain)
+                .sunriseIso(sunrise)
+                .build();
+    }
+}
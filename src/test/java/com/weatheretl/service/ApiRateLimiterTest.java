@@ -0,0 +1,133 @@
+package com.weatheretl.service;
+
+import com.weatheretl.config.WeatherEtlConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("API Rate Limiter Tests")
+class ApiRateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong now = new AtomicLong();
+
+    private WeatherEtlConfig config;
+
+    @BeforeEach
+    void setUp() {
+        config = new WeatherEtlConfig();
+        config.getApi().getRateLimit().setRequestsPerSecond(2);
+        config.getApi().getRateLimit().setBurst(2);
+        config.getApi().getRateLimit().setInitialConcurrency(4);
+        config.getApi().getRateLimit().setMaxConcurrency(8);
+    }
+
+    @Test
+    @DisplayName("Should allow a burst and then pace requests at the configured rate")
+    void shouldAllowBurstThenPaceRequests() {
+        ApiRateLimiter limiter = new ApiRateLimiter(config, now::get);
+
+        assertThat(limiter.tryAcquire(0)).isZero();
+        assertThat(limiter.tryAcquire(0)).isZero();
+        assertThat(limiter.tryAcquire(0)).isEqualTo(SECOND / 2);
+        assertThat(limiter.tryAcquire(SECOND / 2)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should report a missing slot once the concurrency limit is reached")
+    void shouldReportMissingSlotAtConcurrencyLimit() {
+        config.getApi().getRateLimit().setInitialConcurrency(1);
+        ApiRateLimiter limiter = new ApiRateLimiter(config, now::get);
+
+        assertThat(limiter.tryAcquire(0)).isZero();
+        assertThat(limiter.tryAcquire(0)).isEqualTo(ApiRateLimiter.SLOT_UNAVAILABLE);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should cut concurrency on 429 and grow it back additively")
+    void shouldCutConcurrencyOnThrottlingAndGrowAdditively() {
+        ApiRateLimiter limiter = new ApiRateLimiter(config, now::get);
+
+        limiter.onFailure(throttled(null));
+        assertThat(limiter.getConcurrencyLimit()).isEqualTo(2.0);
+
+        limiter.onSuccess();
+        limiter.onSuccess();
+        assertThat(limiter.getConcurrencyLimit()).isBetween(2.8, 3.0);
+
+        limiter.onFailure(WebClientResponseException.create(404, "Not Found", null, new byte[0], null));
+        assertThat(limiter.getConcurrencyLimit()).isBetween(2.8, 3.0);
+    }
+
+    @Test
+    @DisplayName("Should keep the limit within the configured bounds")
+    void shouldKeepLimitWithinBounds() {
+        ApiRateLimiter limiter = new ApiRateLimiter(config, now::get);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.onFailure(throttled(null));
+        }
+        assertThat(limiter.getConcurrencyLimit()).isEqualTo(1.0);
+        for (int i = 0; i < 200; i++) {
+            limiter.onSuccess();
+        }
+        assertThat(limiter.getConcurrencyLimit()).isEqualTo(8.0);
+    }
+
+    @Test
+    @DisplayName("Should pause every request until Retry-After has passed")
+    void shouldPauseUntilRetryAfter() {
+        ApiRateLimiter limiter = new ApiRateLimiter(config, now::get);
+
+        limiter.onFailure(throttled("3"));
+
+        assertThat(limiter.tryAcquire(SECOND)).isEqualTo(2 * SECOND);
+        assertThat(limiter.tryAcquire(3 * SECOND)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should run queued requests as slots free up")
+    void shouldRunQueuedRequestsAsSlotsFreeUp() {
+        config.getApi().getRateLimit().setInitialConcurrency(1);
+        config.getApi().getRateLimit().setMaxConcurrency(1);
+        config.getApi().getRateLimit().setRequestsPerSecond(1_000);
+        config.getApi().getRateLimit().setBurst(10);
+        ApiRateLimiter limiter = new ApiRateLimiter(config);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        Flux<Integer> requests = Flux.range(0, 5)
+                .flatMap(i -> limiter.execute(Mono.delay(Duration.ofMillis(10))
+                        .doOnSubscribe(subscription -> maxRunning.accumulateAndGet(
+                                running.incrementAndGet(), Math::max))
+                        .doOnTerminate(running::decrementAndGet)
+                        .thenReturn(i)));
+
+        StepVerifier.create(requests)
+                .expectNextCount(5)
+                .verifyComplete();
+        assertThat(maxRunning.get()).isEqualTo(1);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    private static WebClientResponseException throttled(String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        if (retryAfter != null) {
+            headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        }
+        return WebClientResponseException.create(429, "Too Many Requests", headers, new byte[0], null);
+    }
+}
@@ -12,8 +12,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
@@ -226,6 +228,55 @@ class CsvExportServiceTest {
         assertEquals(mockWeatherRecords.size(), info.getRecordCount());
     }
 
+    @Test
+    @DisplayName("Should write sidecar index with row count and date offsets")
+    void shouldWriteSidecarIndexWithRowCountAndDateOffsets() throws Exception {
+        csvExportService.exportToCsv(mockWeatherRecords, testCsvPath);
+        Path csv = Path.of(testCsvPath);
+        assertTrue(Files.exists(CsvIndex.sidecarOf(csv)));
+
+        CsvExportService.CsvFileInfo info = csvExportService.getCsvFileInfo(testCsvPath);
+        assertNotNull(info.getChecksum());
+        byte[] content = Files.readAllBytes(csv);
+        LocalDate firstDate = mockWeatherRecords.get(0).getDate();
+        int offset = info.getDateOffsets().get(firstDate).intValue();
+        String row = new String(content, offset, 12, StandardCharsets.UTF_8);
+        assertEquals("\"" + firstDate + "\"", row);
+    }
+
+    @Test
+    @DisplayName("Should index a CSV stream only once it is finished")
+    void shouldIndexCsvStreamOnlyOnceFinished() throws Exception {
+        Path csv = Path.of(testCsvPath);
+        try (CsvExportService.CsvWriteStream stream = csvExportService.openCsv(testCsvPath)) {
+            stream.write(mockWeatherRecords.get(0));
+        }
+        assertFalse(Files.exists(CsvIndex.sidecarOf(csv)));
+
+        try (CsvExportService.CsvWriteStream stream = csvExportService.openCsv(testCsvPath)) {
+            for (WeatherRecord record : mockWeatherRecords) {
+                stream.write(record);
+            }
+            assertEquals(mockWeatherRecords.size(), stream.finish());
+        }
+        assertTrue(Files.exists(CsvIndex.sidecarOf(csv)));
+        assertEquals(mockWeatherRecords.size(), csvExportService.getCsvFileInfo(testCsvPath).getRecordCount());
+    }
+
+    @Test
+    @DisplayName("Should count lines when sidecar index is missing or stale")
+    void shouldCountLinesWhenSidecarIndexIsMissingOrStale() throws Exception {
+        csvExportService.exportToCsv(mockWeatherRecords, testCsvPath);
+        Path csv = Path.of(testCsvPath);
+
+        Files.writeString(csv, "\"extra\"\n", StandardOpenOption.APPEND);
+        assertEquals(mockWeatherRecords.size() + 1, csvExportService.getCsvFileSize(testCsvPath));
+        assertNull(csvExportService.getCsvFileInfo(testCsvPath).getChecksum());
+
+        Files.delete(CsvIndex.sidecarOf(csv));
+        assertEquals(mockWeatherRecords.size() + 1, csvExportService.getCsvFileSize(testCsvPath));
+    }
+
     @Test
     @DisplayName("Should get CSV file info for non-existent file")
     void shouldGetCsvFileInfoForNonExistentFile() {
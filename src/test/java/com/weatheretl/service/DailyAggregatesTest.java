@@ -0,0 +1,95 @@
+package com.weatheretl.service;
+
+import com.weatheretl.model.api.HourlyColumns;
+import com.weatheretl.model.api.HourlyVariable;
+import com.weatheretl.model.api.WeatherApiModels.HourlyData;
+import com.weatheretl.util.DayBuckets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Daily Aggregates Tests")
+class DailyAggregatesTest {
+
+    @Test
+    @DisplayName("Should compute day and daylight aggregates in one sweep")
+    void shouldComputeDayAndDaylightAggregates() {
+        HourlyColumns hourly = HourlyColumns.from(HourlyData.builder()
+                .time(Arrays.asList(1704067200L, 1704090600L, 1704106200L, 1704132900L, 1704150000L))
+                .temperature2m(Arrays.asList(10.0, 20.0, null, 30.0, 40.0))
+                .rain(Arrays.asList(0.1, 0.2, 0.3, 0.4, 0.5))
+                .build());
+        DayBuckets buckets = DayBuckets.of(hourly.getTime());
+        DailyAggregates aggregates = DailyAggregates.compute(hourly, buckets, 0, 1704090600L, 1704132900L);
+
+        assertThat(aggregates.average(HourlyVariable.TEMPERATURE_2M)).isEqualTo(25.0);
+        assertThat(aggregates.sum(HourlyVariable.RAIN)).isEqualTo(1.5);
+        assertThat(aggregates.daylightAverage(HourlyVariable.TEMPERATURE_2M)).isEqualTo(25.0);
+        assertThat(aggregates.daylightSum(HourlyVariable.RAIN)).isEqualTo(0.9);
+        assertThat(aggregates.average(HourlyVariable.VISIBILITY)).isNull();
+        assertThat(aggregates.sum(HourlyVariable.SNOWFALL)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should include daylight hours that fall after UTC midnight")
+    void shouldIncludeDaylightHoursAfterUtcMidnight() {
+        HourlyColumns hourly = HourlyColumns.from(HourlyData.builder()
+                .time(Arrays.asList(1704128400L, 1704150000L, 1704153600L, 1704157200L))
+                .temperature2m(Arrays.asList(10.0, 20.0, 30.0, 40.0))
+                .build());
+        DayBuckets buckets = DayBuckets.of(hourly.getTime());
+        // Daylight from 2024-01-01 17:00 to 2024-01-02 00:30 UTC
+        DailyAggregates aggregates = DailyAggregates.compute(hourly, buckets, 0, 1704128400L, 1704155400L);
+
+        assertThat(aggregates.average(HourlyVariable.TEMPERATURE_2M)).isEqualTo(15.0);
+        assertThat(aggregates.daylightAverage(HourlyVariable.TEMPERATURE_2M)).isEqualTo(20.0);
+    }
+
+    @Test
+    @DisplayName("Should skip daylight aggregates for series not aligned with time")
+    void shouldSkipDaylightAggregatesForMisalignedSeries() {
+        HourlyColumns hourly = HourlyColumns.from(HourlyData.builder()
+                .time(Arrays.asList(1704090600L, 1704094200L, 1704097800L))
+                .temperature2m(Arrays.asList(20.0, 21.0))
+                .build());
+        DayBuckets buckets = DayBuckets.of(hourly.getTime());
+        DailyAggregates aggregates = DailyAggregates.compute(hourly, buckets, 0, 1704090600L, 1704132900L);
+
+        assertThat(aggregates.average(HourlyVariable.TEMPERATURE_2M)).isEqualTo(20.5);
+        assertThat(aggregates.daylightAverage(HourlyVariable.TEMPERATURE_2M)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should aggregate unordered series")
+    void shouldAggregateUnorderedSeries() {
+        HourlyColumns hourly = HourlyColumns.from(HourlyData.builder()
+                .time(Arrays.asList(1704153600L, 1704067200L, null, 1704070800L))
+                .temperature2m(Arrays.asList(99.0, 10.0, 50.0, 20.0))
+                .build());
+        DayBuckets buckets = DayBuckets.of(hourly.getTime());
+        DailyAggregates aggregates = DailyAggregates.compute(hourly, buckets, 0, null, null);
+
+        assertThat(aggregates.average(HourlyVariable.TEMPERATURE_2M)).isEqualTo(15.0);
+        assertThat(aggregates.daylightAverage(HourlyVariable.TEMPERATURE_2M)).isNull();
+        assertThat(aggregates.daylightSum(HourlyVariable.TEMPERATURE_2M)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should match daylight across day buckets for unordered series")
+    void shouldMatchDaylightAcrossBucketsForUnorderedSeries() {
+        HourlyColumns hourly = HourlyColumns.from(HourlyData.builder()
+                .time(Arrays.asList(1704153600L, 1704128400L, null, 1704150000L, 1704067200L))
+                .temperature2m(Arrays.asList(30.0, 10.0, 50.0, 20.0, 90.0))
+                .build());
+        DayBuckets buckets = DayBuckets.of(hourly.getTime());
+        // Daylight from 2024-01-01 17:00 to 2024-01-02 00:30 UTC
+        DailyAggregates aggregates = DailyAggregates.compute(hourly, buckets, 0, 1704128400L, 1704155400L);
+
+        assertThat(buckets.isTimeOrdered()).isFalse();
+        assertThat(aggregates.average(HourlyVariable.TEMPERATURE_2M)).isEqualTo(40.0);
+        assertThat(aggregates.daylightAverage(HourlyVariable.TEMPERATURE_2M)).isEqualTo(20.0);
+    }
+}
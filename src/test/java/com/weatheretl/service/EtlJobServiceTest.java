@@ -0,0 +1,216 @@
+package com.weatheretl.service;
+
+import com.weatheretl.config.WeatherEtlConfig;
+import com.weatheretl.config.WeatherEtlConfig.LoadMode;
+import com.weatheretl.service.EtlJobService.EtlJobRequest;
+import com.weatheretl.service.EtlJobService.EtlJobStatus;
+import com.weatheretl.service.EtlJobService.JobRejectedException;
+import com.weatheretl.service.EtlJobService.JobState;
+import com.weatheretl.service.EtlJobService.JobType;
+import com.weatheretl.service.WeatherEtlService.EtlResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ETL Job Service Tests")
+class EtlJobServiceTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2024, 1, 3);
+
+    @Mock
+    private WeatherEtlService weatherEtlService;
+
+    private EtlConcurrencyLimiter limiter;
+    private EtlJobService etlJobService;
+
+    @BeforeEach
+    void setUp() {
+        WeatherEtlConfig config = new WeatherEtlConfig();
+        config.getJobs().setWorkers(1);
+        config.getJobs().setQueueCapacity(1);
+        config.getExecution().setMaxConcurrentJobs(1);
+        limiter = new EtlConcurrencyLimiter(config);
+        etlJobService = new EtlJobService(weatherEtlService, config, limiter);
+    }
+
+    @AfterEach
+    void tearDown() {
+        etlJobService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should run a submitted job in the background and keep its result")
+    void shouldRunSubmittedJobInBackground() throws Exception {
+        EtlResult result = EtlResult.builder().success(true).recordsTransformed(72).build();
+        when(weatherEtlService.executeApiToDatabase(eq(START_DATE), eq(END_DATE), eq(LoadMode.COPY),
+                any(EtlProgress.class))).thenAnswer(invocation -> {
+                    EtlProgress progress = invocation.getArgument(3);
+                    progress.start(3);
+                    progress.fetched(3);
+                    progress.transformed(3, 72);
+                    progress.loaded(3, 72);
+                    return result;
+                });
+
+        EtlJobStatus submitted = etlJobService.submit(request(JobType.API_TO_DATABASE, LoadMode.COPY));
+
+        assertThat(submitted.getId()).isNotBlank();
+        EtlJobStatus status = awaitState(submitted.getId(), JobState.SUCCEEDED);
+        assertThat(status.getDaysTotal()).isEqualTo(3);
+        assertThat(status.getDaysLoaded()).isEqualTo(3);
+        assertThat(status.getRecordsLoaded()).isEqualTo(72);
+        assertThat(status.getResult()).isSameAs(result);
+        assertThat(status.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should route incremental database jobs to the incremental load")
+    void shouldRouteIncrementalJobs() throws Exception {
+        when(weatherEtlService.executeIncrementalToDatabase(eq(START_DATE), eq(END_DATE), isNull(),
+                any(EtlProgress.class))).thenReturn(EtlResult.builder().success(false).errorMessage("boom").build());
+
+        EtlJobStatus submitted = etlJobService.submit(EtlJobRequest.builder()
+                .type(JobType.API_TO_DATABASE)
+                .startDate(START_DATE)
+                .endDate(END_DATE)
+                .incremental(true)
+                .build());
+
+        assertThat(awaitState(submitted.getId(), JobState.FAILED).getErrorMessage()).isEqualTo("boom");
+    }
+
+    @Test
+    @DisplayName("Should reject jobs once the workers are busy and the queue is full")
+    void shouldRejectJobsWhenSaturated() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(weatherEtlService.executeApiToCsv(eq(START_DATE), eq(END_DATE), isNull(), any(EtlProgress.class)))
+                .thenAnswer(invocation -> {
+                    started.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return EtlResult.builder().success(true).build();
+                });
+
+        etlJobService.submit(request(JobType.API_TO_CSV, null));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        etlJobService.submit(request(JobType.API_TO_CSV, null));
+
+        assertThat(etlJobService.getQueueDepth()).isEqualTo(1);
+        assertThatThrownBy(() -> etlJobService.submit(request(JobType.API_TO_CSV, null)))
+                .isInstanceOf(JobRejectedException.class)
+                .hasMessageContaining("queue is full");
+        assertThat(etlJobService.getJobs()).hasSize(2);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Should cancel a queued job before it starts and signal a running one")
+    void shouldCancelQueuedAndRunningJobs() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        when(weatherEtlService.executeApiToCsvAndDatabase(eq(START_DATE), eq(END_DATE), isNull(), isNull(),
+                any(EtlProgress.class))).thenAnswer(invocation -> {
+                    EtlProgress progress = invocation.getArgument(4);
+                    started.countDown();
+                    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                    while (!progress.isCancelled() && System.nanoTime() < deadline) {
+                        Thread.sleep(10);
+                    }
+                    return EtlResult.builder().success(false).errorMessage("Cancelled").build();
+                });
+
+        EtlJobStatus running = etlJobService.submit(request(JobType.API_TO_ALL, null));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        EtlJobStatus queued = etlJobService.submit(request(JobType.API_TO_CSV, null));
+
+        EtlJobStatus queuedCancelled = etlJobService.cancel(queued.getId()).orElseThrow();
+        assertThat(queuedCancelled.getState()).isEqualTo(JobState.CANCELLED);
+        assertThat(etlJobService.getQueueDepth()).isZero();
+
+        assertThat(etlJobService.cancel(running.getId()).orElseThrow().isCancelRequested()).isTrue();
+        awaitState(running.getId(), JobState.CANCELLED);
+        verify(weatherEtlService, never()).executeApiToCsv(any(), any(), any(), any(EtlProgress.class));
+    }
+
+    @Test
+    @DisplayName("Should hold a job until a shared ETL permit is free")
+    void shouldWaitForSharedPermit() throws Exception {
+        when(weatherEtlService.executeApiToCsv(eq(START_DATE), eq(END_DATE), isNull(), any(EtlProgress.class)))
+                .thenReturn(EtlResult.builder().success(true).build());
+        limiter.acquire();
+
+        EtlJobStatus submitted = etlJobService.submit(request(JobType.API_TO_CSV, null));
+        Thread.sleep(100);
+        assertThat(etlJobService.getJob(submitted.getId()).orElseThrow().getState()).isEqualTo(JobState.QUEUED);
+        verify(weatherEtlService, never()).executeApiToCsv(any(), any(), any(), any(EtlProgress.class));
+
+        limiter.release();
+        awaitState(submitted.getId(), JobState.SUCCEEDED);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should free the worker when a job waiting for a permit is cancelled")
+    void shouldFreeWorkerWhenWaitingJobIsCancelled() throws Exception {
+        when(weatherEtlService.executeApiToCsv(eq(START_DATE), eq(END_DATE), isNull(), any(EtlProgress.class)))
+                .thenReturn(EtlResult.builder().success(true).build());
+        limiter.acquire();
+
+        EtlJobStatus waiting = etlJobService.submit(request(JobType.API_TO_CSV, null));
+        Thread.sleep(100);
+        EtlJobStatus next = etlJobService.submit(request(JobType.API_TO_CSV, null));
+        assertThat(etlJobService.cancel(waiting.getId()).orElseThrow().getState()).isEqualTo(JobState.CANCELLED);
+
+        limiter.release();
+        awaitState(next.getId(), JobState.SUCCEEDED);
+        assertThat(etlJobService.getJob(waiting.getId()).orElseThrow().getState()).isEqualTo(JobState.CANCELLED);
+        verify(weatherEtlService, times(1)).executeApiToCsv(any(), any(), any(), any(EtlProgress.class));
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should report unknown jobs as absent")
+    void shouldReportUnknownJobsAsAbsent() {
+        assertThat(etlJobService.getJob("missing")).isEmpty();
+        assertThat(etlJobService.cancel("missing")).isEmpty();
+    }
+
+    private EtlJobStatus awaitState(String id, JobState state) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        EtlJobStatus status = etlJobService.getJob(id).orElseThrow();
+        while (status.getState() != state && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            status = etlJobService.getJob(id).orElseThrow();
+        }
+        assertThat(status.getState()).isEqualTo(state);
+        return status;
+    }
+
+    private static EtlJobRequest request(JobType type, LoadMode loadMode) {
+        return EtlJobRequest.builder()
+                .type(type)
+                .startDate(START_DATE)
+                .endDate(END_DATE)
+                .loadMode(loadMode)
+                .build();
+    }
+}
@@ -0,0 +1,202 @@
+package com.weatheretl.service;
+
+import com.weatheretl.config.WeatherEtlConfig;
+import com.weatheretl.config.WeatherEtlConfig.LocationConfig;
+import com.weatheretl.service.WeatherEtlService.EtlResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Ingestion Scheduler Tests")
+class IngestionSchedulerTest {
+
+    private static final Instant START = Instant.parse("2024-06-10T00:00:00Z");
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 10);
+
+    @Mock
+    private WeatherEtlService weatherEtlService;
+
+    private final MutableClock clock = new MutableClock(START);
+
+    private WeatherEtlConfig config;
+
+    private EtlConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        config = new WeatherEtlConfig();
+        config.getSchedule().setJitter(Duration.ZERO);
+        config.getSchedule().setInterval(Duration.ofHours(1));
+        config.getSchedule().setLookbackDays(2);
+        config.getSchedule().setCatchUpDays(30);
+        config.setLocations(List.of(location("novosibirsk", null), location("tomsk", Duration.ofHours(6))));
+        config.getExecution().setMaxConcurrentJobs(2);
+        limiter = new EtlConcurrencyLimiter(config);
+        lenient().when(weatherEtlService.executeIncrementalToDatabase(any(LocationConfig.class), any(), any(), any(),
+                any(EtlProgress.class))).thenReturn(EtlResult.builder().success(true).build());
+    }
+
+    @Test
+    @DisplayName("Should catch up on the first run and then load only the recent window")
+    void shouldCatchUpOnFirstRunThenLoadRecentWindow() {
+        IngestionScheduler scheduler = new IngestionScheduler(weatherEtlService, config, limiter, clock, Runnable::run);
+
+        scheduler.tick();
+        clock.advance(Duration.ofHours(1));
+        scheduler.tick();
+
+        verify(weatherEtlService).executeIncrementalToDatabase(named("novosibirsk"), eq(TODAY.minusDays(30)),
+                eq(TODAY), isNull(), any(EtlProgress.class));
+        verify(weatherEtlService).executeIncrementalToDatabase(named("novosibirsk"), eq(TODAY.minusDays(2)),
+                eq(TODAY), isNull(), any(EtlProgress.class));
+    }
+
+    @Test
+    @DisplayName("Should follow the cadence configured per location")
+    void shouldFollowPerLocationCadence() {
+        IngestionScheduler scheduler = new IngestionScheduler(weatherEtlService, config, limiter, clock, Runnable::run);
+
+        for (int hour = 0; hour < 6; hour++) {
+            scheduler.tick();
+            clock.advance(Duration.ofHours(1));
+        }
+        scheduler.tick();
+
+        verify(weatherEtlService, times(7)).executeIncrementalToDatabase(named("novosibirsk"), any(), any(), any(),
+                any(EtlProgress.class));
+        verify(weatherEtlService, times(2)).executeIncrementalToDatabase(named("tomsk"), any(), any(), any(),
+                any(EtlProgress.class));
+    }
+
+    @Test
+    @DisplayName("Should not start a location again while its previous run is in progress")
+    void shouldNotOverlapRunsForSameLocation() {
+        List<Runnable> pending = new ArrayList<>();
+        IngestionScheduler scheduler = new IngestionScheduler(weatherEtlService, config, limiter, clock, pending::add);
+
+        scheduler.tick();
+        clock.advance(Duration.ofHours(1));
+        scheduler.tick();
+
+        assertThat(pending).hasSize(2);
+        pending.forEach(Runnable::run);
+        scheduler.tick();
+        assertThat(pending).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should leave due locations for the next tick while no ETL permit is free")
+    void shouldWaitForFreePermit() throws Exception {
+        List<Runnable> pending = new ArrayList<>();
+        IngestionScheduler scheduler = new IngestionScheduler(weatherEtlService, config, limiter, clock, pending::add);
+        limiter.acquire();
+
+        scheduler.tick();
+        assertThat(pending).hasSize(1);
+        assertThat(limiter.availablePermits()).isZero();
+
+        pending.get(0).run();
+        scheduler.tick();
+        assertThat(pending).hasSize(2);
+        pending.get(1).run();
+        limiter.release();
+        assertThat(limiter.availablePermits()).isEqualTo(2);
+        verify(weatherEtlService).executeIncrementalToDatabase(named("tomsk"), any(), any(), any(),
+                any(EtlProgress.class));
+    }
+
+    @Test
+    @DisplayName("Should keep the last successful day as window start after failures")
+    void shouldReachBackToLastSuccessAfterFailures() {
+        assertThat(IngestionScheduler.windowStart(null, TODAY, 2, 30)).isEqualTo(TODAY.minusDays(30));
+        assertThat(IngestionScheduler.windowStart(TODAY.minusDays(1), TODAY, 2, 30)).isEqualTo(TODAY.minusDays(2));
+        assertThat(IngestionScheduler.windowStart(TODAY.minusDays(9), TODAY, 2, 30)).isEqualTo(TODAY.minusDays(9));
+        assertThat(IngestionScheduler.windowStart(TODAY.minusDays(90), TODAY, 2, 30)).isEqualTo(TODAY.minusDays(30));
+    }
+
+    @Test
+    @DisplayName("Should collapse missed windows into a single run")
+    void shouldCollapseMissedWindows() {
+        Duration hour = Duration.ofHours(1);
+
+        assertThat(IngestionScheduler.nextRunAt(START, START.plusSeconds(10), hour)).isEqualTo(START.plus(hour));
+        assertThat(IngestionScheduler.nextRunAt(START, START.plus(Duration.ofMinutes(330)), hour))
+                .isEqualTo(START.plus(Duration.ofHours(6)));
+    }
+
+    @Test
+    @DisplayName("Should not call the service before a location is due")
+    void shouldWaitUntilLocationIsDue() {
+        config.getSchedule().setJitter(Duration.ofMinutes(10));
+        IngestionScheduler scheduler = new IngestionScheduler(weatherEtlService, config, limiter, clock, Runnable::run);
+        clock.advance(Duration.ofSeconds(-1));
+
+        scheduler.tick();
+
+        verify(weatherEtlService, never()).executeIncrementalToDatabase(any(LocationConfig.class), any(), any(),
+                any(), any(EtlProgress.class));
+    }
+
+    private static LocationConfig named(String name) {
+        return argThat(location -> location != null && name.equals(location.getName()));
+    }
+
+    private static LocationConfig location(String name, Duration interval) {
+        LocationConfig location = new LocationConfig();
+        location.setName(name);
+        location.setLatitude(55.0);
+        location.setLongitude(83.0);
+        location.setInterval(interval);
+        return location;
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
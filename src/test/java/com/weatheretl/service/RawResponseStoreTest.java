@@ -0,0 +1,174 @@
+package com.weatheretl.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.weatheretl.config.WeatherEtlConfig;
+import com.weatheretl.model.api.HourlyColumns;
+import com.weatheretl.model.api.WeatherApiModels.ColumnarWeatherResponse;
+import com.weatheretl.model.api.WeatherApiModels.DailyData;
+import com.weatheretl.model.api.WeatherApiModels.HourlyData;
+import com.weatheretl.util.DateRange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Raw Response Store Tests")
+class RawResponseStoreTest {
+
+    private static final double LATITUDE = 55.0344;
+    private static final double LONGITUDE = 82.9434;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+
+    private final WeatherTransformer transformer = new WeatherTransformer();
+
+    @TempDir
+    Path tempDir;
+
+    private WeatherEtlConfig config;
+    private RawResponseStore store;
+
+    @BeforeEach
+    void setUp() {
+        config = new WeatherEtlConfig();
+        config.getApi().getStore().setEnabled(true);
+        config.getApi().getStore().setDirectory(tempDir.toString());
+        store = new RawResponseStore(config, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Should write one compressed file per day and rebuild the same records")
+    void shouldRebuildSameRecordsFromDayFiles() throws Exception {
+        ColumnarWeatherResponse response = response(FIRST_DAY, 3);
+
+        store.save(LATITUDE, LONGITUDE, response);
+
+        try (var files = Files.list(tempDir.resolve("55.0344_82.9434"))) {
+            assertThat(files.map(file -> file.getFileName().toString()))
+                    .containsExactlyInAnyOrder("2024-01-01.json.gz", "2024-01-02.json.gz", "2024-01-03.json.gz");
+        }
+        ColumnarWeatherResponse stored = store.load(LATITUDE, LONGITUDE,
+                new DateRange(FIRST_DAY, FIRST_DAY.plusDays(2)));
+        assertThat(transformer.transformColumnarData(stored))
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("createdAt")
+                .containsExactlyElementsOf(transformer.transformColumnarData(response));
+    }
+
+    @Test
+    @DisplayName("Should keep concurrent saves of the same days from clashing")
+    void shouldSaveSameDaysConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> saves = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                saves.add(executor.submit(() -> store.save(LATITUDE, LONGITUDE, response(FIRST_DAY, 2))));
+            }
+            for (Future<?> save : saves) {
+                save.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        try (var files = Files.list(tempDir.resolve("55.0344_82.9434"))) {
+            assertThat(files.map(file -> file.getFileName().toString()))
+                    .containsExactlyInAnyOrder("2024-01-01.json.gz", "2024-01-02.json.gz");
+        }
+        assertThat(store.load(LATITUDE, LONGITUDE, new DateRange(FIRST_DAY, FIRST_DAY.plusDays(1)))
+                .getHourly().size()).isEqualTo(48);
+    }
+
+    @Test
+    @DisplayName("Should load only stored days and report missing ones")
+    void shouldLoadStoredDaysAndReportMissingOnes() {
+        store.save(LATITUDE, LONGITUDE, response(FIRST_DAY, 2));
+        DateRange period = new DateRange(FIRST_DAY.plusDays(1), FIRST_DAY.plusDays(3));
+
+        ColumnarWeatherResponse stored = store.load(LATITUDE, LONGITUDE, period);
+
+        assertThat(stored.getHourly().size()).isEqualTo(24);
+        assertThat(stored.getDaily().getTime()).hasSize(1);
+        assertThat(store.missingDays(LATITUDE, LONGITUDE, period))
+                .containsExactly(FIRST_DAY.plusDays(2), FIRST_DAY.plusDays(3));
+        assertThat(store.load(LATITUDE, LONGITUDE, new DateRange(FIRST_DAY.plusDays(5), FIRST_DAY.plusDays(6))))
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used days when over the size limit")
+    void shouldEvictLeastRecentlyUsedDays() {
+        for (int day = 0; day < 3; day++) {
+            store.save(LATITUDE, LONGITUDE, response(FIRST_DAY.plusDays(day), 1));
+        }
+        store.load(LATITUDE, LONGITUDE, new DateRange(FIRST_DAY, FIRST_DAY));
+        config.getApi().getStore().setMaxSize(DataSize.ofBytes(store.getStoredBytes()));
+
+        store.save(LATITUDE, LONGITUDE, response(FIRST_DAY.plusDays(3), 1));
+
+        assertThat(store.missingDays(LATITUDE, LONGITUDE, new DateRange(FIRST_DAY, FIRST_DAY.plusDays(3))))
+                .startsWith(FIRST_DAY.plusDays(1))
+                .doesNotContain(FIRST_DAY, FIRST_DAY.plusDays(3));
+        assertThat(store.getStoredBytes()).isLessThanOrEqualTo(config.getApi().getStore().getMaxSize().toBytes());
+    }
+
+    @Test
+    @DisplayName("Should write nothing when disabled")
+    void shouldWriteNothingWhenDisabled() throws Exception {
+        config.getApi().getStore().setEnabled(false);
+
+        store.save(LATITUDE, LONGITUDE, response(FIRST_DAY, 1));
+
+        try (var files = Files.list(tempDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private static ColumnarWeatherResponse response(LocalDate firstDay, int days) {
+        long dayStart = firstDay.toEpochDay() * 86_400L;
+        List<Long> time = new ArrayList<>();
+        List<Double> temperature = new ArrayList<>();
+        List<Integer> humidity = new ArrayList<>();
+        List<Double> rain = new ArrayList<>();
+        for (int hour = 0; hour < days * 24; hour++) {
+            time.add(dayStart + hour * 3_600L);
+            temperature.add(30.0 + hour % 24);
+            humidity.add(50 + hour % 10);
+            rain.add(hour % 5 == 0 ? 0.1 : 0.0);
+        }
+        List<Long> dailyTime = new ArrayList<>();
+        List<Long> sunrise = new ArrayList<>();
+        List<Long> sunset = new ArrayList<>();
+        List<Integer> daylight = new ArrayList<>();
+        for (int day = 0; day < days; day++) {
+            long midnight = dayStart + day * 86_400L;
+            dailyTime.add(midnight);
+            sunrise.add(midnight + 8 * 3_600L);
+            sunset.add(midnight + 17 * 3_600L);
+            daylight.add(9 * 3_600);
+        }
+        return ColumnarWeatherResponse.builder()
+                .latitude(LATITUDE)
+                .longitude(LONGITUDE)
+                .timezone("GMT")
+                .hourly(HourlyColumns.from(HourlyData.builder()
+                        .time(time)
+                        .temperature2m(temperature)
+                        .relativeHumidity2m(humidity)
+                        .rain(rain)
+                        .build()))
+                .daily(new DailyData(dailyTime, sunrise, sunset, daylight))
+                .build();
+    }
+}
@@ -0,0 +1,118 @@
+package com.weatheretl.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.weatheretl.model.api.WeatherApiModels.DailyData;
+import com.weatheretl.model.api.WeatherApiModels.HourlyData;
+import com.weatheretl.model.api.WeatherApiModels.WeatherApiResponse;
+import com.weatheretl.model.output.WeatherRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Streaming JSON Reader Tests")
+class StreamingJsonReaderTest {
+
+    private static final long DAY_START = 1_704_067_200L;
+    private static final int DAYS = 4;
+
+    private final WeatherTransformer transformer = new WeatherTransformer();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should stream the same records as the in-memory transformer")
+    void shouldStreamSameRecordsAsInMemoryTransformer() throws Exception {
+        WeatherApiResponse response = response(true);
+        List<WeatherRecord> streamed = stream(write(response));
+        List<WeatherRecord> expected = transformer.transformWeatherData(response);
+        assertThat(streamed).hasSize(DAYS);
+        assertThat(streamed)
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("createdAt")
+                .containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("Should emit every hourly day when daily data is missing")
+    void shouldEmitEveryHourlyDayWhenDailyDataIsMissing() throws Exception {
+        WeatherApiResponse response = response(false);
+        List<WeatherRecord> streamed = stream(write(response));
+        assertThat(streamed)
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("createdAt")
+                .containsExactlyElementsOf(transformer.transformWeatherData(response));
+    }
+
+    @Test
+    @DisplayName("Should reject hourly timestamps that are not ascending")
+    void shouldRejectHourlyTimestampsThatAreNotAscending() throws Exception {
+        Path json = tempDir.resolve("unordered.json");
+        Files.writeString(json, "{\"latitude\": 1.0, \"longitude\": 2.0, \"hourly\": {"
+                + "\"time\": [" + (DAY_START + 7_200) + ", " + DAY_START + "], \"temperature_2m\": [1.0, 2.0]}}");
+        try (StreamingJsonReader reader = StreamingJsonReader.open(json, transformer)) {
+            assertThrows(IllegalStateException.class, reader::hasNext);
+        }
+    }
+
+    private List<WeatherRecord> stream(Path json) throws Exception {
+        List<WeatherRecord> records = new ArrayList<>();
+        try (StreamingJsonReader reader = StreamingJsonReader.open(json, transformer)) {
+            reader.forEachRemaining(records::add);
+            assertThat(reader.getHoursRead()).isEqualTo(DAYS * 24L);
+        }
+        return records;
+    }
+
+    private Path write(WeatherApiResponse response) throws Exception {
+        Path json = tempDir.resolve("weather.json");
+        objectMapper.writeValue(json.toFile(), response);
+        return json;
+    }
+
+    private WeatherApiResponse response(boolean withDaily) {
+        List<Long> time = new ArrayList<>();
+        List<Double> temperature = new ArrayList<>();
+        List<Integer> humidity = new ArrayList<>();
+        List<Double> windSpeed = new ArrayList<>();
+        List<Double> rain = new ArrayList<>();
+        for (int hour = 0; hour < DAYS * 24; hour++) {
+            time.add(DAY_START + hour * 3_600L);
+            temperature.add(30.0 + hour % 24);
+            humidity.add(50 + hour % 10);
+            windSpeed.add(hour % 7 == 0 ? null : 5.0 + hour % 5);
+            rain.add(hour % 5 == 0 ? 0.1 : 0.0);
+        }
+        List<Long> days = new ArrayList<>();
+        List<Long> sunrise = new ArrayList<>();
+        List<Long> sunset = new ArrayList<>();
+        List<Integer> daylight = new ArrayList<>();
+        for (int day = 0; day < DAYS; day++) {
+            long midnight = DAY_START + day * 86_400L;
+            days.add(midnight);
+            sunrise.add(midnight + 8 * 3_600L);
+            // Sunset after UTC midnight: the daylight window reaches into the next day
+            sunset.add(midnight + 25 * 3_600L);
+            daylight.add(17 * 3_600);
+        }
+        return WeatherApiResponse.builder()
+                .latitude(55.0344)
+                .longitude(82.9434)
+                .hourly(HourlyData.builder()
+                        .time(time)
+                        .temperature2m(temperature)
+                        .relativeHumidity2m(humidity)
+                        .windSpeed10m(windSpeed)
+                        .rain(rain)
+                        .build())
+                .daily(withDaily ? new DailyData(days, sunrise, sunset, daylight) : null)
+                .build();
+    }
+}
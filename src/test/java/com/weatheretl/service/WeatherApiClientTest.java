@@ -1,7 +1,7 @@
 package com.weatheretl.service;
 
 import com.weatheretl.config.WeatherEtlConfig;
-import com.weatheretl.model.api.WeatherApiModels.WeatherApiResponse;
+import com.weatheretl.model.api.WeatherApiModels.ColumnarWeatherResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,12 +9,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.time.Duration;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -22,10 +27,16 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,6 +55,15 @@ class WeatherApiClientTest {
     @Mock
     private WeatherEtlConfig.ApiConfig apiConfig;
 
+    @Mock
+    private WeatherResponseCache responseCache;
+
+    @Mock
+    private RawResponseStore responseStore;
+
+    @Mock
+    private ApiRateLimiter rateLimiter;
+
     @InjectMocks
     private WeatherApiClient weatherApiClient;
 
@@ -58,18 +78,24 @@ class WeatherApiClientTest {
 
     private LocalDate startDate;
     private LocalDate endDate;
-    private WeatherApiResponse mockResponse;
+    private ColumnarWeatherResponse mockResponse;
 
     @BeforeEach
     void setUp() {
         startDate = LocalDate.of(2024, 1, 1);
         endDate = LocalDate.of(2024, 1, 3);
 
-        mockResponse = WeatherApiResponse.builder()
+        mockResponse = ColumnarWeatherResponse.builder()
                 .latitude(40.7128)
                 .longitude(-74.0060)
                 .generationTimeMs(123.45)
                 .build();
+
+        WeatherEtlConfig.RetryConfig retryConfig = new WeatherEtlConfig.RetryConfig();
+        retryConfig.setDelay(Duration.ofMillis(1));
+        retryConfig.setMaxRetryAfter(Duration.ofMillis(5));
+        lenient().when(apiConfig.getRetry()).thenReturn(retryConfig);
+        lenient().when(rateLimiter.execute(any())).thenAnswer(invocation -> invocation.getArgument(0));
     }
 
     @Test
@@ -77,7 +103,7 @@ class WeatherApiClientTest {
     void shouldFetchWeatherDataWithDefaultLocation() {
         setupConfigMocks();
         setupSuccessfulWebClientMock();
-        WeatherApiResponse result = weatherApiClient.fetchWeatherData(startDate, endDate);
+        ColumnarWeatherResponse result = weatherApiClient.fetchWeatherData(startDate, endDate);
         assertNotNull(result);
         assertEquals(mockResponse.getLatitude(), result.getLatitude());
         assertEquals(mockResponse.getLongitude(), result.getLongitude());
@@ -92,7 +118,7 @@ class WeatherApiClientTest {
         double customLon = -118.2437;
         setupApiConfigMocks();
         setupSuccessfulWebClientMock();
-        WeatherApiResponse result = weatherApiClient.fetchWeatherData(
+        ColumnarWeatherResponse result = weatherApiClient.fetchWeatherData(
                 customLat, customLon, startDate, endDate);
         assertNotNull(result);
         verify(webClient).get();
@@ -107,7 +133,7 @@ class WeatherApiClientTest {
         when(webClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(anyString(), any(Function.class))).thenReturn(requestHeadersSpec);
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.bodyToMono(WeatherApiResponse.class)).thenReturn(Mono.error(exception));
+        when(responseSpec.bodyToMono(ColumnarWeatherResponse.class)).thenReturn(Mono.error(exception));
         WeatherApiClient.WeatherApiException apiException = assertThrows(
                 WeatherApiClient.WeatherApiException.class,
                 () -> weatherApiClient.fetchWeatherData(startDate, endDate)
@@ -123,7 +149,7 @@ class WeatherApiClientTest {
         when(webClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(anyString(), any(Function.class))).thenReturn(requestHeadersSpec);
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.bodyToMono(WeatherApiResponse.class))
+        when(responseSpec.bodyToMono(ColumnarWeatherResponse.class))
                 .thenReturn(Mono.error(new RuntimeException("Timeout")));
         WeatherApiClient.WeatherApiException apiException = assertThrows(
                 WeatherApiClient.WeatherApiException.class,
@@ -137,7 +163,7 @@ class WeatherApiClientTest {
     void shouldRetryOnWebClientException() {
         setupConfigMocks();
         setupSuccessfulWebClientMock();
-        WeatherApiResponse result = weatherApiClient.fetchWeatherData(startDate, endDate);
+        ColumnarWeatherResponse result = weatherApiClient.fetchWeatherData(startDate, endDate);
         assertNotNull(result);
         verify(webClient, atLeastOnce()).get();
     }
@@ -150,7 +176,7 @@ class WeatherApiClientTest {
         weatherApiClient.fetchWeatherData(40.7128, -74.0060, startDate, endDate);
         verify(requestHeadersUriSpec).uri(eq("https://api.weather.com"), any(Function.class));
         verify(requestHeadersSpec).retrieve();
-        verify(responseSpec).bodyToMono(WeatherApiResponse.class);
+        verify(responseSpec).bodyToMono(ColumnarWeatherResponse.class);
     }
 
     @Test
@@ -164,6 +190,190 @@ class WeatherApiClientTest {
         verify(requestHeadersUriSpec).uri(eq("https://api.weather.com"), any(Function.class));
     }
 
+    @Test
+    @DisplayName("Should fetch weather data reactively without blocking")
+    void shouldFetchWeatherDataReactively() {
+        setupConfigMocks();
+        setupSuccessfulWebClientMock();
+        StepVerifier.create(weatherApiClient.fetchWeatherDataReactive(startDate, endDate))
+                .assertNext(result -> assertEquals(mockResponse.getLatitude(), result.getLatitude()))
+                .verifyComplete();
+        verify(webClient).get();
+    }
+
+    @Test
+    @DisplayName("Should map reactive errors to WeatherApiException")
+    void shouldMapReactiveErrorsToApiException() {
+        setupApiConfigMocks();
+        when(webClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(anyString(), any(Function.class))).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(ColumnarWeatherResponse.class))
+                .thenReturn(Mono.error(new RuntimeException("Timeout")));
+        StepVerifier.create(weatherApiClient.fetchWeatherDataReactive(40.7128, -74.0060, startDate, endDate))
+                .expectErrorSatisfies(error -> {
+                    assertTrue(error instanceof WeatherApiClient.WeatherApiException);
+                    assertTrue(error.getMessage().contains("Unexpected error"));
+                })
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should return cached response without calling the API")
+    void shouldReturnCachedResponseWithoutCallingApi() {
+        when(responseCache.get(eq(40.7128), eq(-74.0060), eq(startDate), eq(endDate), anyMap()))
+                .thenReturn(mockResponse);
+
+        ColumnarWeatherResponse result = weatherApiClient.fetchWeatherData(40.7128, -74.0060, startDate, endDate);
+
+        assertEquals(mockResponse, result);
+        verifyNoInteractions(webClient);
+    }
+
+    @Test
+    @DisplayName("Should store fetched response in cache")
+    void shouldStoreFetchedResponseInCache() {
+        setupApiConfigMocks();
+        setupSuccessfulWebClientMock();
+
+        weatherApiClient.fetchWeatherData(40.7128, -74.0060, startDate, endDate);
+
+        verify(responseCache).put(eq(40.7128), eq(-74.0060), eq(startDate), eq(endDate), anyMap(), eq(mockResponse));
+    }
+
+    @Test
+    @DisplayName("Should keep fetched response in the raw response store")
+    void shouldKeepFetchedResponseInRawStore() {
+        setupApiConfigMocks();
+        setupSuccessfulWebClientMock();
+        doThrow(new RawResponseStore.RawStoreException("Disk full", null))
+                .when(responseStore).save(40.7128, -74.0060, mockResponse);
+
+        ColumnarWeatherResponse result = weatherApiClient.fetchWeatherData(40.7128, -74.0060, startDate, endDate);
+
+        assertEquals(mockResponse, result);
+        verify(responseStore).save(40.7128, -74.0060, mockResponse);
+    }
+
+    @Test
+    @DisplayName("Should serve reactive requests from cache")
+    void shouldServeReactiveRequestsFromCache() {
+        when(responseCache.get(anyDouble(), anyDouble(), eq(startDate), eq(endDate), anyMap()))
+                .thenReturn(mockResponse);
+
+        StepVerifier.create(weatherApiClient.fetchWeatherDataReactive(40.7128, -74.0060, startDate, endDate))
+                .expectNext(mockResponse)
+                .verifyComplete();
+        verifyNoInteractions(webClient);
+    }
+
+    @Test
+    @DisplayName("Should serve a location batch from cache without calling the API")
+    void shouldServeLocationBatchFromCache() {
+        ColumnarWeatherResponse london = ColumnarWeatherResponse.builder().latitude(51.5).longitude(-0.125).build();
+        when(responseCache.get(eq(40.7128), eq(-74.0060), eq(startDate), eq(endDate), anyMap()))
+                .thenReturn(mockResponse);
+        when(responseCache.get(eq(51.5074), eq(-0.1278), eq(startDate), eq(endDate), anyMap()))
+                .thenReturn(london);
+
+        List<ColumnarWeatherResponse> result = weatherApiClient.fetchWeatherData(
+                List.of(location(40.7128, -74.0060), location(51.5074, -0.1278)), startDate, endDate);
+
+        assertEquals(List.of(mockResponse, london), result);
+        verifyNoInteractions(webClient);
+    }
+
+    @Test
+    @DisplayName("Should request only uncached locations of a batch and cache them")
+    void shouldRequestOnlyUncachedLocationsOfBatch() {
+        ColumnarWeatherResponse london = ColumnarWeatherResponse.builder().latitude(51.5).longitude(-0.125).build();
+        setupApiConfigMocks();
+        when(responseCache.get(eq(40.7128), eq(-74.0060), eq(startDate), eq(endDate), anyMap()))
+                .thenReturn(mockResponse);
+        when(webClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(anyString(), any(Function.class))).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToFlux(ColumnarWeatherResponse.class)).thenReturn(Flux.just(london));
+
+        List<ColumnarWeatherResponse> result = weatherApiClient.fetchWeatherData(
+                List.of(location(40.7128, -74.0060), location(51.5074, -0.1278)), startDate, endDate);
+
+        assertEquals(List.of(mockResponse, london), result);
+        verify(webClient).get();
+        verify(responseCache).put(eq(51.5074), eq(-0.1278), eq(startDate), eq(endDate), anyMap(), eq(london));
+        verify(responseCache, never()).put(eq(40.7128), anyDouble(), any(), any(), anyMap(), any());
+    }
+
+    @Test
+    @DisplayName("Should retry throttled requests through the rate limiter")
+    void shouldRetryThrottledRequestsThroughRateLimiter() {
+        setupApiConfigMocks();
+        AtomicInteger attempts = new AtomicInteger();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "1");
+        WebClientResponseException tooManyRequests = WebClientResponseException.create(
+                429, "Too Many Requests", headers, new byte[0], null);
+        when(webClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(anyString(), any(Function.class))).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(ColumnarWeatherResponse.class)).thenReturn(Mono.defer(() ->
+                attempts.incrementAndGet() == 1 ? Mono.error(tooManyRequests) : Mono.just(mockResponse)));
+
+        ColumnarWeatherResponse result = weatherApiClient.fetchWeatherData(40.7128, -74.0060, startDate, endDate);
+
+        assertEquals(mockResponse, result);
+        assertEquals(2, attempts.get());
+        verify(rateLimiter).execute(any());
+    }
+
+    @Test
+    @DisplayName("Should not retry client errors other than 429")
+    void shouldNotRetryClientErrors() {
+        setupApiConfigMocks();
+        AtomicInteger attempts = new AtomicInteger();
+        WebClientResponseException badRequest = WebClientResponseException.create(
+                400, "Bad Request", null, new byte[0], null);
+        when(webClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(anyString(), any(Function.class))).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(ColumnarWeatherResponse.class)).thenReturn(Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(badRequest);
+        }));
+
+        assertThrows(WeatherApiClient.WeatherApiException.class,
+                () -> weatherApiClient.fetchWeatherData(40.7128, -74.0060, startDate, endDate));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    @DisplayName("Should wait for Retry-After or back off exponentially")
+    void shouldWaitForRetryAfterOrBackOffExponentially() {
+        WeatherEtlConfig.RetryConfig retry = new WeatherEtlConfig.RetryConfig();
+        retry.setJitter(0);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "7");
+        WebClientResponseException throttled = WebClientResponseException.create(
+                429, "Too Many Requests", headers, new byte[0], null);
+        WebClientResponseException unavailable = WebClientResponseException.create(
+                502, "Bad Gateway", null, new byte[0], null);
+
+        assertEquals(Duration.ofSeconds(7), WeatherApiClient.retryDelay(retry, throttled, 1));
+        assertEquals(Duration.ofSeconds(1), WeatherApiClient.retryDelay(retry, unavailable, 1));
+        assertEquals(Duration.ofSeconds(4), WeatherApiClient.retryDelay(retry, unavailable, 3));
+        retry.setMaxDelay(Duration.ofSeconds(3));
+        assertEquals(Duration.ofSeconds(3), WeatherApiClient.retryDelay(retry, unavailable, 3));
+        retry.setRespectRetryAfter(false);
+        assertEquals(Duration.ofSeconds(1), WeatherApiClient.retryDelay(retry, throttled, 1));
+    }
+
+    private static WeatherEtlConfig.LocationConfig location(double latitude, double longitude) {
+        WeatherEtlConfig.LocationConfig location = new WeatherEtlConfig.LocationConfig();
+        location.setLatitude(latitude);
+        location.setLongitude(longitude);
+        return location;
+    }
+
     private void setupConfigMocks() {
         when(config.getDefaultLocation()).thenReturn(defaultLocationConfig);
         when(config.getApi()).thenReturn(apiConfig);
@@ -183,7 +393,7 @@ class WeatherApiClientTest {
         when(webClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(anyString(), any(Function.class))).thenReturn(requestHeadersSpec);
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.bodyToMono(WeatherApiResponse.class))
+        when(responseSpec.bodyToMono(ColumnarWeatherResponse.class))
                 .thenReturn(Mono.just(mockResponse).timeout(Duration.ofSeconds(30)));
     }
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.weatheretl.service;
+
+import com.weatheretl.model.output.WeatherRecord;
+import com.weatheretl.repository.WeatherDataColumn;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Weather CSV Writer Tests")
+class WeatherCsvWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should write quoted header in table column order")
+    void shouldWriteQuotedHeaderInColumnOrder() throws Exception {
+        Path path = tempDir.resolve("header.csv");
+        try (WeatherCsvWriter ignored = WeatherCsvWriter.open(path)) {
+            // header only
+        }
+        String header = Files.readAllLines(path, StandardCharsets.UTF_8).get(0);
+        assertThat(header).startsWith("\"DATE\",\"LATITUDE\",\"LONGITUDE\",\"AVG_TEMPERATURE_2M_24H\"");
+        assertThat(header.split(",")).hasSize(WeatherDataColumn.values().length);
+    }
+
+    @Test
+    @DisplayName("Should encode values, nulls and escaped quotes")
+    void shouldEncodeValuesNullsAndEscapedQuotes() throws Exception {
+        Path path = tempDir.resolve("values.csv");
+        WeatherRecord record = WeatherRecord.builder()
+                .date(LocalDate.of(2024, 1, 5))
+                .latitude(55.0344)
+                .longitude(82.9434)
+                .avgTemperature2m24h(-3.5)
+                .sunriseIso("2024-01-05T\"09:12\"")
+                .sunsetIso("Ünïcode")
+                .build();
+        try (WeatherCsvWriter writer = WeatherCsvWriter.open(path)) {
+            writer.write(record);
+            assertThat(writer.getRowsWritten()).isEqualTo(1);
+        }
+        List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(1))
+                .startsWith("\"2024-01-05\",\"55.0344\",\"82.9434\",\"-3.5\",\"\",")
+                .endsWith(",\"Ünïcode\",\"2024-01-05T\\\"09:12\\\"\"");
+    }
+
+    @Test
+    @DisplayName("Should flush rows across buffer boundaries")
+    void shouldFlushRowsAcrossBufferBoundaries() throws Exception {
+        Path path = tempDir.resolve("small-buffer.csv");
+        try (WeatherCsvWriter writer = WeatherCsvWriter.open(path, 64)) {
+            for (int day = 1; day <= 30; day++) {
+                writer.write(WeatherRecord.builder()
+                        .date(LocalDate.of(2024, 1, day))
+                        .latitude(55.0)
+                        .longitude(82.0)
+                        .build());
+            }
+        }
+        List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        assertThat(lines).hasSize(31);
+        assertThat(lines.get(30)).startsWith("\"2024-01-30\",\"55.0\",\"82.0\"");
+    }
+}
@@ -2,6 +2,10 @@ package com.weatheretl.service;
 
 import com.weatheretl.config.WeatherEtlConfig;
 import com.weatheretl.model.output.WeatherRecord;
+import com.weatheretl.repository.UpsertCounts;
+import com.weatheretl.repository.WeatherBatchRepository;
+import com.weatheretl.repository.WeatherCopyRepository;
+import com.weatheretl.repository.WeatherDataColumn;
 import com.weatheretl.repository.WeatherRepository;
 import com.weatheretl.service.WeatherDatabaseService.DatabaseOperationException;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +21,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -24,7 +29,9 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -43,6 +50,12 @@ class WeatherDatabaseServiceTest {
     @Mock
     private WeatherEtlConfig.OutputConfig outputConfig;
 
+    @Mock
+    private WeatherBatchRepository weatherBatchRepository;
+
+    @Mock
+    private WeatherCopyRepository weatherCopyRepository;
+
     @InjectMocks
     private WeatherDatabaseService weatherDatabaseService;
 
@@ -99,6 +112,37 @@ class WeatherDatabaseServiceTest {
         verify(weatherRepository, times(3)).save(any(WeatherRecord.class));
     }
 
+    @Test
+    @DisplayName("Should upsert records through JDBC batches in batch load mode")
+    void shouldUpsertRecordsThroughJdbcBatches() {
+        when(outputConfig.getLoadMode()).thenReturn(WeatherEtlConfig.LoadMode.BATCH);
+        when(weatherBatchRepository.upsertAll(mockWeatherRecords, 100)).thenReturn(new UpsertCounts(2, 0, 1));
+        UpsertCounts counts = weatherDatabaseService.saveWeatherRecords(mockWeatherRecords);
+        assertEquals(new UpsertCounts(2, 0, 1), counts);
+        verify(weatherBatchRepository).upsertAll(mockWeatherRecords, 100);
+        verifyNoInteractions(weatherRepository);
+    }
+
+    @Test
+    @DisplayName("Should wrap JDBC batch failures in DatabaseOperationException")
+    void shouldWrapJdbcBatchFailures() {
+        when(outputConfig.getLoadMode()).thenReturn(WeatherEtlConfig.LoadMode.BATCH);
+        when(weatherBatchRepository.upsertAll(mockWeatherRecords, 100))
+                .thenThrow(new RuntimeException("Connection reset"));
+        assertThrows(WeatherDatabaseService.DatabaseOperationException.class,
+                () -> weatherDatabaseService.saveWeatherRecords(mockWeatherRecords));
+        verifyNoInteractions(weatherRepository);
+    }
+
+    @Test
+    @DisplayName("Should bulk load records through COPY when requested explicitly")
+    void shouldBulkLoadRecordsThroughCopy() {
+        when(weatherCopyRepository.copyUpsertAll(mockWeatherRecords)).thenReturn(new UpsertCounts(3, 0, 0));
+        weatherDatabaseService.saveWeatherRecords(mockWeatherRecords, WeatherEtlConfig.LoadMode.COPY);
+        verify(weatherCopyRepository).copyUpsertAll(mockWeatherRecords);
+        verifyNoInteractions(weatherRepository, weatherBatchRepository);
+    }
+
     @Test
     @DisplayName("Should upsert new weather record")
     void shouldUpsertNewWeatherRecord() {
@@ -114,6 +158,8 @@ class WeatherDatabaseServiceTest {
                 mockWeatherRecord.getLatitude(),
                 mockWeatherRecord.getLongitude());
         verify(weatherRepository).save(mockWeatherRecord);
+        verify(weatherRepository).updateContentHash(mockWeatherRecord.getDate(), mockWeatherRecord.getLatitude(),
+                mockWeatherRecord.getLongitude(), WeatherDataColumn.contentHash(mockWeatherRecord));
     }
 
     @Test
@@ -129,9 +175,40 @@ class WeatherDatabaseServiceTest {
         when(weatherRepository.save(any(WeatherRecord.class))).thenReturn(existingRecord);
         weatherDatabaseService.upsertWeatherRecord(mockWeatherRecord);
         verify(weatherRepository).save(existingRecord);
+        verify(weatherRepository).updateContentHash(existingRecord.getDate(), existingRecord.getLatitude(),
+                existingRecord.getLongitude(), WeatherDataColumn.contentHash(mockWeatherRecord));
         assertEquals(mockWeatherRecord.getAvgTemperature2m24h(), existingRecord.getAvgTemperature2m24h());
     }
 
+    @Test
+    @DisplayName("Should skip saving existing record with identical values")
+    void shouldSkipSavingUnchangedRecord() {
+        when(weatherRepository.findByDateAndLatitudeAndLongitude(
+                mockWeatherRecord.getDate(),
+                mockWeatherRecord.getLatitude(),
+                mockWeatherRecord.getLongitude()))
+                .thenReturn(Optional.of(createMockWeatherRecord()));
+        assertEquals(UpsertCounts.UNCHANGED, weatherDatabaseService.upsertWeatherRecord(mockWeatherRecord));
+        verify(weatherRepository, never()).save(any(WeatherRecord.class));
+        verify(weatherRepository, never()).updateContentHash(any(), any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should count inserted, updated and unchanged records")
+    void shouldCountInsertedUpdatedAndUnchangedRecords() {
+        WeatherRecord changed = createMockWeatherRecord(LocalDate.of(2024, 1, 2));
+        changed.setTotalRain24h(4.2);
+        when(weatherRepository.findByDateAndLatitudeAndLongitude(any(), any(), any()))
+                .thenReturn(Optional.of(createMockWeatherRecord()))
+                .thenReturn(Optional.of(changed))
+                .thenReturn(Optional.empty());
+        when(weatherRepository.save(any(WeatherRecord.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        UpsertCounts counts = weatherDatabaseService.saveWeatherRecords(mockWeatherRecords);
+        assertEquals(new UpsertCounts(1, 1, 1), counts);
+        verify(weatherRepository, times(2)).save(any(WeatherRecord.class));
+    }
+
     @Test
     @DisplayName("Should handle database exception during upsert")
     void shouldHandleDatabaseExceptionDuringUpsert() {
@@ -200,6 +277,19 @@ class WeatherDatabaseServiceTest {
         verify(weatherRepository).existsByDateAndLatitudeAndLongitude(date, latitude, longitude);
     }
 
+    @Test
+    @DisplayName("Should look up loaded dates at the exact stored coordinates")
+    void shouldLookUpLoadedDatesAtExactCoordinates() {
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        LocalDate endDate = LocalDate.of(2024, 1, 31);
+        when(weatherRepository.findDatesAt(startDate, endDate, 55.0, 83.0))
+                .thenReturn(Set.of(startDate));
+
+        Set<LocalDate> loaded = weatherDatabaseService.getLoadedDates(startDate, endDate, 55.0, 83.0);
+
+        assertEquals(Set.of(startDate), loaded);
+    }
+
     @Test
     @DisplayName("Should get record count by date range")
     void shouldGetRecordCountByDateRange() {
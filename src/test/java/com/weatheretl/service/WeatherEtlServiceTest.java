@@ -1,32 +1,59 @@
 package com.weatheretl.service;
 
+import com.weatheretl.config.WeatherEtlConfig;
+import com.weatheretl.config.WeatherEtlConfig.LoadMode;
+import com.weatheretl.config.WeatherEtlConfig.LocationConfig;
+import com.weatheretl.model.api.HourlyColumns;
+import com.weatheretl.model.api.WeatherApiModels.ColumnarWeatherResponse;
 import com.weatheretl.model.api.WeatherApiModels.DailyData;
 import com.weatheretl.model.api.WeatherApiModels.HourlyData;
-import com.weatheretl.model.api.WeatherApiModels.WeatherApiResponse;
 import com.weatheretl.model.output.WeatherRecord;
+import com.weatheretl.repository.UpsertCounts;
 import com.weatheretl.service.CsvExportService.CsvExportException;
 import com.weatheretl.service.WeatherApiClient.WeatherApiException;
 import com.weatheretl.service.WeatherDatabaseService.DatabaseOperationException;
+import com.weatheretl.util.DateRange;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -47,12 +74,18 @@ class WeatherEtlServiceTest {
     @Mock
     private WeatherDatabaseService weatherDatabaseService;
 
+    @Mock
+    private RawResponseStore rawResponseStore;
+
+    @Spy
+    private WeatherEtlConfig config = new WeatherEtlConfig();
+
     @InjectMocks
     private WeatherEtlService weatherEtlService;
 
     private LocalDate startDate;
     private LocalDate endDate;
-    private WeatherApiResponse mockApiResponse;
+    private ColumnarWeatherResponse mockApiResponse;
     private List<WeatherRecord> mockWeatherRecords;
 
     @BeforeEach
@@ -67,7 +100,7 @@ class WeatherEtlServiceTest {
     @DisplayName("Should successfully execute API to CSV ETL process")
     void shouldExecuteApiToCsvSuccessfully() throws Exception {
         when(weatherApiClient.fetchWeatherData(startDate, endDate)).thenReturn(mockApiResponse);
-        when(weatherTransformer.transformWeatherData(mockApiResponse)).thenReturn(mockWeatherRecords);
+        when(weatherTransformer.transformColumnarData(mockApiResponse)).thenReturn(mockWeatherRecords);
         doNothing().when(csvExportService).exportToCsv(mockWeatherRecords);
         WeatherEtlService.EtlResult result = weatherEtlService.executeApiToCsv(startDate, endDate);
         assertTrue(result.isSuccess());
@@ -78,7 +111,7 @@ class WeatherEtlServiceTest {
         assertEquals(startDate, result.getStartDate());
         assertEquals(endDate, result.getEndDate());
         verify(weatherApiClient).fetchWeatherData(startDate, endDate);
-        verify(weatherTransformer).transformWeatherData(mockApiResponse);
+        verify(weatherTransformer).transformColumnarData(mockApiResponse);
         verify(csvExportService).exportToCsv(mockWeatherRecords);
     }
 
@@ -87,7 +120,7 @@ class WeatherEtlServiceTest {
     void shouldExecuteApiToCsvWithCustomPath() throws Exception {
         String customPath = "/custom/path/weather.csv";
         when(weatherApiClient.fetchWeatherData(startDate, endDate)).thenReturn(mockApiResponse);
-        when(weatherTransformer.transformWeatherData(mockApiResponse)).thenReturn(mockWeatherRecords);
+        when(weatherTransformer.transformColumnarData(mockApiResponse)).thenReturn(mockWeatherRecords);
         doNothing().when(csvExportService).exportToCsv(mockWeatherRecords, customPath);
         WeatherEtlService.EtlResult result = weatherEtlService.executeApiToCsv(startDate, endDate, customPath);
         assertTrue(result.isSuccess());
@@ -112,7 +145,7 @@ class WeatherEtlServiceTest {
     @DisplayName("Should handle CSV export exception")
     void shouldHandleCsvExportException() throws Exception {
         when(weatherApiClient.fetchWeatherData(startDate, endDate)).thenReturn(mockApiResponse);
-        when(weatherTransformer.transformWeatherData(mockApiResponse)).thenReturn(mockWeatherRecords);
+        when(weatherTransformer.transformColumnarData(mockApiResponse)).thenReturn(mockWeatherRecords);
         doThrow(new CsvExportException("CSV failed", new RuntimeException()))
                 .when(csvExportService).exportToCsv(mockWeatherRecords);
         WeatherEtlService.EtlResult result = weatherEtlService.executeApiToCsv(startDate, endDate);
@@ -126,7 +159,7 @@ class WeatherEtlServiceTest {
     @DisplayName("Should handle empty transformed records")
     void shouldHandleEmptyTransformedRecords() {
         when(weatherApiClient.fetchWeatherData(startDate, endDate)).thenReturn(mockApiResponse);
-        when(weatherTransformer.transformWeatherData(mockApiResponse)).thenReturn(Collections.emptyList());
+        when(weatherTransformer.transformColumnarData(mockApiResponse)).thenReturn(Collections.emptyList());
         WeatherEtlService.EtlResult result = weatherEtlService.executeApiToCsv(startDate, endDate);
         assertFalse(result.isSuccess());
         assertTrue(result.isApiResponseReceived());
@@ -140,13 +173,16 @@ class WeatherEtlServiceTest {
     @DisplayName("Should successfully execute API to Database ETL process")
     void shouldExecuteApiToDatabaseSuccessfully() {
         when(weatherApiClient.fetchWeatherData(startDate, endDate)).thenReturn(mockApiResponse);
-        when(weatherTransformer.transformWeatherData(mockApiResponse)).thenReturn(mockWeatherRecords);
-        doNothing().when(weatherDatabaseService).saveWeatherRecords(mockWeatherRecords);
+        when(weatherTransformer.transformColumnarData(mockApiResponse)).thenReturn(mockWeatherRecords);
+        when(weatherDatabaseService.saveWeatherRecords(mockWeatherRecords)).thenReturn(new UpsertCounts(1, 1, 1));
         WeatherEtlService.EtlResult result = weatherEtlService.executeApiToDatabase(startDate, endDate);
         assertTrue(result.isSuccess());
         assertTrue(result.isApiResponseReceived());
         assertTrue(result.isDatabaseSaved());
         assertEquals(3, result.getRecordsTransformed());
+        assertEquals(1, result.getRecordsInserted());
+        assertEquals(1, result.getRecordsUpdated());
+        assertEquals(1, result.getRecordsUnchanged());
         verify(weatherDatabaseService).saveWeatherRecords(mockWeatherRecords);
     }
 
@@ -154,7 +190,7 @@ class WeatherEtlServiceTest {
     @DisplayName("Should handle database exception")
     void shouldHandleDatabaseException() {
         when(weatherApiClient.fetchWeatherData(startDate, endDate)).thenReturn(mockApiResponse);
-        when(weatherTransformer.transformWeatherData(mockApiResponse)).thenReturn(mockWeatherRecords);
+        when(weatherTransformer.transformColumnarData(mockApiResponse)).thenReturn(mockWeatherRecords);
         doThrow(new DatabaseOperationException("Database failed", new RuntimeException()))
                 .when(weatherDatabaseService).saveWeatherRecords(mockWeatherRecords);
         WeatherEtlService.EtlResult result = weatherEtlService.executeApiToDatabase(startDate, endDate);
@@ -168,9 +204,9 @@ class WeatherEtlServiceTest {
     @DisplayName("Should execute API to CSV and Database successfully")
     void shouldExecuteApiToCsvAndDatabaseSuccessfully() throws Exception {
         when(weatherApiClient.fetchWeatherData(startDate, endDate)).thenReturn(mockApiResponse);
-        when(weatherTransformer.transformWeatherData(mockApiResponse)).thenReturn(mockWeatherRecords);
+        when(weatherTransformer.transformColumnarData(mockApiResponse)).thenReturn(mockWeatherRecords);
         doNothing().when(csvExportService).exportToCsv(mockWeatherRecords);
-        doNothing().when(weatherDatabaseService).saveWeatherRecords(mockWeatherRecords);
+        when(weatherDatabaseService.saveWeatherRecords(mockWeatherRecords)).thenReturn(new UpsertCounts(3, 0, 0));
         WeatherEtlService.EtlResult result = weatherEtlService.executeApiToCsvAndDatabase(startDate, endDate);
         assertTrue(result.isSuccess());
         assertTrue(result.isApiResponseReceived());
@@ -185,10 +221,10 @@ class WeatherEtlServiceTest {
     @DisplayName("Should continue with database save if CSV export fails")
     void shouldContinueWithDatabaseIfCsvFails() throws Exception {
         when(weatherApiClient.fetchWeatherData(startDate, endDate)).thenReturn(mockApiResponse);
-        when(weatherTransformer.transformWeatherData(mockApiResponse)).thenReturn(mockWeatherRecords);
+        when(weatherTransformer.transformColumnarData(mockApiResponse)).thenReturn(mockWeatherRecords);
         doThrow(new CsvExportException("CSV failed", new RuntimeException()))
                 .when(csvExportService).exportToCsv(mockWeatherRecords);
-        doNothing().when(weatherDatabaseService).saveWeatherRecords(mockWeatherRecords);
+        when(weatherDatabaseService.saveWeatherRecords(mockWeatherRecords)).thenReturn(new UpsertCounts(3, 0, 0));
         WeatherEtlService.EtlResult result = weatherEtlService.executeApiToCsvAndDatabase(startDate, endDate);
         assertTrue(result.isSuccess());
         assertFalse(result.isCsvExported());
@@ -199,9 +235,9 @@ class WeatherEtlServiceTest {
     @Test
     @DisplayName("Should process JSON data successfully")
     void shouldProcessJsonDataSuccessfully() throws Exception {
-        when(weatherTransformer.transformWeatherData(mockApiResponse)).thenReturn(mockWeatherRecords);
+        when(weatherTransformer.transformColumnarData(mockApiResponse)).thenReturn(mockWeatherRecords);
         doNothing().when(csvExportService).exportToCsv(mockWeatherRecords);
-        doNothing().when(weatherDatabaseService).saveWeatherRecords(mockWeatherRecords);
+        when(weatherDatabaseService.saveWeatherRecords(mockWeatherRecords)).thenReturn(new UpsertCounts(3, 0, 0));
         WeatherEtlService.EtlResult result = weatherEtlService.processJsonData(
                 mockApiResponse, true, true, null);
         assertTrue(result.isSuccess());
@@ -231,12 +267,526 @@ class WeatherEtlServiceTest {
         verify(weatherDatabaseService).getDatabaseStats();
     }
 
-    private WeatherApiResponse createMockApiResponse() {
-        return WeatherApiResponse.builder()
+    @Test
+    @DisplayName("Should fetch configured locations in batches and load each batch as it arrives")
+    void shouldExecuteApiForConfiguredLocationsInBatches() {
+        LocationConfig first = location("first", 40.7128, -74.0060);
+        LocationConfig second = location("second", 34.0522, -118.2437);
+        LocationConfig third = location("third", 51.5074, -0.1278);
+        config.setLocations(List.of(first, second, third));
+        config.getApi().setMaxLocationsPerRequest(2);
+        when(weatherApiClient.fetchWeatherData(List.of(first, second), startDate, endDate))
+                .thenReturn(List.of(mockApiResponse, mockApiResponse));
+        when(weatherApiClient.fetchWeatherData(List.of(third), startDate, endDate))
+                .thenReturn(List.of(mockApiResponse));
+        when(weatherTransformer.transformColumnarData(mockApiResponse)).thenReturn(mockWeatherRecords);
+        WeatherEtlService.EtlResult result = weatherEtlService.executeApiForLocations(
+                startDate, endDate, false, true, null);
+        assertTrue(result.isSuccess());
+        assertTrue(result.isDatabaseSaved());
+        assertEquals(3, result.getLocationsProcessed());
+        assertEquals(9, result.getRecordsTransformed());
+        verify(weatherDatabaseService).saveWeatherRecords(argThat(records -> records.size() == 6));
+        verify(weatherDatabaseService).saveWeatherRecords(argThat(records -> records.size() == 3));
+        verifyNoInteractions(csvExportService);
+    }
+
+    @Test
+    @DisplayName("Should keep earlier location batches saved when a later request fails")
+    void shouldKeepEarlierLocationBatchesWhenLaterRequestFails() {
+        LocationConfig first = location("first", 40.7128, -74.0060);
+        LocationConfig second = location("second", 34.0522, -118.2437);
+        config.setLocations(List.of(first, second));
+        config.getApi().setMaxLocationsPerRequest(1);
+        when(weatherApiClient.fetchWeatherData(List.of(first), startDate, endDate))
+                .thenReturn(List.of(mockApiResponse));
+        when(weatherApiClient.fetchWeatherData(List.of(second), startDate, endDate))
+                .thenThrow(new WeatherApiException("HTTP 500", null));
+        when(weatherTransformer.transformColumnarData(mockApiResponse)).thenReturn(mockWeatherRecords);
+        when(weatherDatabaseService.saveWeatherRecords(ArgumentMatchers.<WeatherRecord>anyList()))
+                .thenReturn(new UpsertCounts(3, 0, 0));
+
+        WeatherEtlService.EtlResult result = weatherEtlService.executeApiForLocations(
+                startDate, endDate, false, true, null);
+
+        assertFalse(result.isSuccess());
+        assertEquals(1, result.getLocationsProcessed());
+        assertEquals("API error: HTTP 500 (3 records already saved to the database)", result.getErrorMessage());
+        verify(weatherDatabaseService).saveWeatherRecords(ArgumentMatchers.<WeatherRecord>anyList());
+    }
+
+    @Test
+    @DisplayName("Should fall back to default location when no locations configured")
+    void shouldFallBackToDefaultLocationForBatch() {
+        when(weatherApiClient.fetchWeatherData(ArgumentMatchers.<List<LocationConfig>>argThat(
+                locations -> locations.size() == 1 && locations.get(0).getLatitude() == 55.0344),
+                eq(startDate), eq(endDate)))
+                .thenReturn(List.of(mockApiResponse));
+        when(weatherTransformer.transformColumnarData(mockApiResponse)).thenReturn(mockWeatherRecords);
+        WeatherEtlService.EtlResult result = weatherEtlService.executeApiForLocations(
+                startDate, endDate, false, true, null);
+        assertTrue(result.isSuccess());
+        assertEquals(1, result.getLocationsProcessed());
+    }
+
+    @Test
+    @DisplayName("Should run reactive ETL pipeline into CSV and database")
+    void shouldExecuteReactivePipeline() throws Exception {
+        config.getOutput().setBatchSize(2);
+        when(weatherApiClient.fetchWeatherDataReactive(startDate, endDate)).thenReturn(Mono.just(mockApiResponse));
+        when(weatherTransformer.streamColumnarData(mockApiResponse))
+                .thenAnswer(invocation -> mockWeatherRecords.stream());
+        CsvExportService.CsvWriteStream csv = mock(CsvExportService.CsvWriteStream.class);
+        when(csvExportService.openCsv(config.getOutput().getCsvPath())).thenReturn(csv);
+        StepVerifier.create(weatherEtlService.executeReactive(startDate, endDate, true, true, null))
+                .assertNext(result -> {
+                    assertTrue(result.isSuccess());
+                    assertTrue(result.isApiResponseReceived());
+                    assertTrue(result.isCsvExported());
+                    assertTrue(result.isDatabaseSaved());
+                    assertEquals(3, result.getRecordsTransformed());
+                    assertNull(result.getErrorMessage());
+                })
+                .verifyComplete();
+        verify(weatherDatabaseService).saveWeatherRecords(mockWeatherRecords.subList(0, 2));
+        verify(weatherDatabaseService).saveWeatherRecords(mockWeatherRecords.subList(2, 3));
+        verify(csv, times(3)).write(any());
+        verify(csv).finish();
+        verify(weatherTransformer, never()).transformColumnarData(any());
+    }
+
+    @Test
+    @DisplayName("Should save reactive batches in the requested load mode and report a partial load")
+    void shouldReportPartialReactiveLoad() {
+        config.getOutput().setBatchSize(2);
+        when(weatherApiClient.fetchWeatherDataReactive(startDate, endDate)).thenReturn(Mono.just(mockApiResponse));
+        when(weatherTransformer.streamColumnarData(mockApiResponse))
+                .thenAnswer(invocation -> mockWeatherRecords.stream());
+        when(weatherDatabaseService.saveWeatherRecords(ArgumentMatchers.<WeatherRecord>anyList(), eq(LoadMode.COPY)))
+                .thenReturn(new UpsertCounts(2, 0, 0))
+                .thenThrow(new DatabaseOperationException("Connection reset", new RuntimeException()));
+
+        StepVerifier.create(weatherEtlService.executeReactive(startDate, endDate, false, true, null, LoadMode.COPY))
+                .assertNext(result -> {
+                    assertFalse(result.isSuccess());
+                    assertFalse(result.isDatabaseSaved());
+                    assertEquals(2, result.getRecordsInserted());
+                    assertEquals("Database save failed: Connection reset "
+                            + "(2 records already saved to the database)", result.getErrorMessage());
+                })
+                .verifyComplete();
+        verify(weatherDatabaseService, times(2))
+                .saveWeatherRecords(ArgumentMatchers.<WeatherRecord>anyList(), eq(LoadMode.COPY));
+        verifyNoInteractions(csvExportService);
+    }
+
+    @Test
+    @DisplayName("Should map reactive API failure to failed result")
+    void shouldHandleReactiveApiFailure() {
+        when(weatherApiClient.fetchWeatherDataReactive(startDate, endDate))
+                .thenReturn(Mono.error(new WeatherApiException("API failed", new RuntimeException())));
+        StepVerifier.create(weatherEtlService.executeReactive(startDate, endDate, false, true, null))
+                .assertNext(result -> {
+                    assertFalse(result.isSuccess());
+                    assertFalse(result.isApiResponseReceived());
+                    assertEquals("API error: API failed", result.getErrorMessage());
+                })
+                .verifyComplete();
+        verifyNoInteractions(weatherTransformer, weatherDatabaseService, csvExportService);
+    }
+
+    private LocationConfig location(String name, double latitude, double longitude) {
+        LocationConfig location = new LocationConfig();
+        location.setName(name);
+        location.setLatitude(latitude);
+        location.setLongitude(longitude);
+        return location;
+    }
+
+    @Test
+    @DisplayName("Should fetch only days missing from the database")
+    void shouldFetchOnlyDaysMissingFromDatabase() {
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        LocalDate end = LocalDate.of(2024, 1, 10);
+        when(weatherApiClient.fetchWeatherData(anyDouble(), anyDouble(), eq(start), eq(start)))
+                .thenReturn(mockApiResponse);
+        when(weatherDatabaseService.getLoadedDates(start, end, 40.7128, -74.0060))
+                .thenReturn(Set.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 2),
+                        LocalDate.of(2024, 1, 5), LocalDate.of(2024, 1, 6), LocalDate.of(2024, 1, 7)));
+        when(weatherApiClient.fetchWeatherDataReactive(any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(Mono.just(mockApiResponse));
+        when(weatherTransformer.transformColumnarData(mockApiResponse)).thenReturn(mockWeatherRecords);
+
+        WeatherEtlService.EtlResult result = weatherEtlService.executeIncrementalToDatabase(start, end, null);
+
+        assertTrue(result.isSuccess());
+        assertEquals(5, result.getDaysSkipped());
+        verify(weatherApiClient).fetchWeatherDataReactive(LocalDate.of(2024, 1, 3), LocalDate.of(2024, 1, 4));
+        verify(weatherApiClient).fetchWeatherDataReactive(LocalDate.of(2024, 1, 8), LocalDate.of(2024, 1, 10));
+        verify(weatherDatabaseService, times(2)).saveWeatherRecords(mockWeatherRecords);
+    }
+
+    @Test
+    @DisplayName("Should skip the API when every day is already loaded")
+    void shouldSkipApiWhenEveryDayIsAlreadyLoaded() {
+        when(weatherApiClient.fetchWeatherData(anyDouble(), anyDouble(), eq(startDate), eq(startDate)))
+                .thenReturn(mockApiResponse);
+        when(weatherDatabaseService.getLoadedDates(eq(startDate), eq(endDate), anyDouble(), anyDouble()))
+                .thenReturn(Set.of(startDate, startDate.plusDays(1), endDate));
+
+        WeatherEtlService.EtlResult result = weatherEtlService.executeIncrementalToDatabase(startDate, endDate, null);
+
+        assertTrue(result.isSuccess());
+        assertEquals(3, result.getDaysSkipped());
+        assertEquals(0, result.getRecordsTransformed());
+        verify(weatherApiClient, never()).fetchWeatherDataReactive(any(LocalDate.class), any(LocalDate.class));
+    }
+
+    @Test
+    @DisplayName("Should resolve the grid cell of a location only once")
+    void shouldResolveGridCellOnce() {
+        when(weatherApiClient.fetchWeatherData(anyDouble(), anyDouble(), eq(startDate), eq(startDate)))
+                .thenReturn(mockApiResponse);
+        when(weatherDatabaseService.getLoadedDates(startDate, endDate, 40.7128, -74.0060))
+                .thenReturn(Set.of(startDate, startDate.plusDays(1), endDate));
+
+        weatherEtlService.executeIncrementalToDatabase(startDate, endDate, null);
+        weatherEtlService.executeIncrementalToDatabase(startDate, endDate, null);
+
+        verify(weatherApiClient, times(1)).fetchWeatherData(anyDouble(), anyDouble(), eq(startDate), eq(startDate));
+        verify(weatherDatabaseService, times(2)).getLoadedDates(startDate, endDate, 40.7128, -74.0060);
+    }
+
+    @Test
+    @DisplayName("Should load missing days for the given location")
+    void shouldLoadMissingDaysForGivenLocation() {
+        LocationConfig tomsk = new LocationConfig();
+        tomsk.setName("tomsk");
+        tomsk.setLatitude(56.49);
+        tomsk.setLongitude(84.95);
+        ColumnarWeatherResponse gridCell = ColumnarWeatherResponse.builder()
+                .latitude(56.5)
+                .longitude(84.9375)
+                .build();
+        when(weatherApiClient.fetchWeatherData(56.49, 84.95, startDate, startDate)).thenReturn(gridCell);
+        when(weatherDatabaseService.getLoadedDates(startDate, endDate, 56.5, 84.9375))
+                .thenReturn(Set.of(startDate));
+        when(weatherApiClient.fetchWeatherDataReactive(56.49, 84.95, startDate.plusDays(1), endDate))
+                .thenReturn(Mono.just(mockApiResponse));
+        when(weatherTransformer.transformColumnarData(mockApiResponse)).thenReturn(mockWeatherRecords);
+
+        WeatherEtlService.EtlResult result = weatherEtlService.executeIncrementalToDatabase(
+                tomsk, startDate, endDate, null, new EtlProgress());
+
+        assertTrue(result.isSuccess());
+        assertEquals(1, result.getDaysSkipped());
+        verify(weatherDatabaseService).saveWeatherRecords(mockWeatherRecords);
+    }
+
+    @Test
+    @DisplayName("Should always refetch recent days even when they are loaded")
+    void shouldAlwaysRefetchRecentDays() {
+        LocalDate today = LocalDate.of(2024, 6, 15);
+        DateRange period = new DateRange(today.minusDays(5), today.plusDays(2));
+        Set<LocalDate> loaded = Set.of(today.minusDays(5), today.minusDays(4), today.minusDays(3),
+                today.minusDays(2), today, today.plusDays(1));
+
+        List<DateRange> gaps = WeatherEtlService.planIncremental(period, loaded, today, 2);
+
+        assertEquals(List.of(new DateRange(today.minusDays(2), today.plusDays(2))), gaps);
+    }
+
+    @Test
+    @DisplayName("Should rebuild records from the raw response store without calling the API")
+    void shouldReplayStoredResponses() throws Exception {
+        ColumnarWeatherResponse stored = new ColumnarWeatherResponse();
+        when(rawResponseStore.missingDays(anyDouble(), anyDouble(), any())).thenReturn(List.of());
+        when(rawResponseStore.load(anyDouble(), anyDouble(), any())).thenReturn(stored);
+        when(weatherTransformer.transformColumnarData(stored)).thenReturn(mockWeatherRecords);
+
+        WeatherEtlService.EtlResult result = weatherEtlService.executeReplay(
+                startDate, endDate, true, false, "/tmp/replay.csv", null);
+
+        assertTrue(result.isSuccess());
+        assertTrue(result.isCsvExported());
+        assertEquals(3, result.getRecordsTransformed());
+        verify(csvExportService).exportToCsv(mockWeatherRecords, "/tmp/replay.csv");
+        verifyNoInteractions(weatherApiClient, weatherDatabaseService);
+    }
+
+    @Test
+    @DisplayName("Should load stored days and report days missing from the store")
+    void shouldReportDaysMissingFromStore() {
+        ColumnarWeatherResponse stored = new ColumnarWeatherResponse();
+        when(rawResponseStore.missingDays(anyDouble(), anyDouble(), any())).thenReturn(List.of(endDate));
+        when(rawResponseStore.load(anyDouble(), anyDouble(), any())).thenReturn(stored);
+        when(weatherTransformer.transformColumnarData(stored)).thenReturn(mockWeatherRecords);
+
+        WeatherEtlService.EtlResult result = weatherEtlService.executeReplay(
+                startDate, endDate, false, true, null, null);
+
+        assertFalse(result.isSuccess());
+        assertTrue(result.isDatabaseSaved());
+        assertEquals("Missing stored responses for 1 days: " + endDate, result.getErrorMessage());
+        verify(weatherDatabaseService).saveWeatherRecords(mockWeatherRecords);
+    }
+
+    @Test
+    @DisplayName("Should fail replay when nothing is stored for the period")
+    void shouldFailReplayWhenNothingIsStored() {
+        when(rawResponseStore.missingDays(anyDouble(), anyDouble(), any())).thenReturn(List.of(startDate));
+        when(rawResponseStore.load(anyDouble(), anyDouble(), any())).thenReturn(null);
+
+        WeatherEtlService.EtlResult result = weatherEtlService.executeReplay(
+                startDate, endDate, true, true, null, null);
+
+        assertFalse(result.isSuccess());
+        assertTrue(result.getErrorMessage().startsWith("No stored responses for period"));
+        verifyNoInteractions(csvExportService, weatherDatabaseService);
+    }
+
+    @Test
+    @DisplayName("Should stop a JSON file on CSV failure and report the batches already saved")
+    void shouldReportSavedBatchesWhenCsvFailsWhileStreamingJson(@TempDir Path tempDir) throws Exception {
+        Path jsonFile = writeHourlyJson(tempDir.resolve("archive.json"), 3);
+        config.getOutput().setBatchSize(1);
+        when(weatherTransformer.transformDay(anyDouble(), anyDouble(), any(), any(), anyInt(),
+                isNull(), isNull(), isNull()))
+                .thenReturn(mockWeatherRecords.get(0));
+        CsvExportService.CsvWriteStream csv = mock(CsvExportService.CsvWriteStream.class);
+        when(csvExportService.openCsv("/tmp/archive.csv")).thenReturn(csv);
+        doNothing().doNothing().doThrow(new CsvExportException("No space left on device", null))
+                .when(csv).write(any());
+        when(weatherDatabaseService.saveWeatherRecords(ArgumentMatchers.<WeatherRecord>anyList()))
+                .thenReturn(new UpsertCounts(1, 0, 0));
+
+        WeatherEtlService.EtlResult result = weatherEtlService.processJsonFile(
+                jsonFile, true, true, "/tmp/archive.csv", null);
+
+        assertFalse(result.isSuccess());
+        assertFalse(result.isCsvExported());
+        assertFalse(result.isDatabaseSaved());
+        assertEquals("CSV export failed: No space left on device (2 records already saved to the database)",
+                result.getErrorMessage());
+        verify(weatherDatabaseService, times(2)).saveWeatherRecords(ArgumentMatchers.<WeatherRecord>anyList());
+        verify(csv, never()).finish();
+        verify(csv).close();
+    }
+
+    @Test
+    @DisplayName("Should aggregate results of parallel JSON file workers")
+    void shouldAggregateResultsOfParallelJsonFileWorkers(@TempDir Path tempDir) throws Exception {
+        Path first = writeHourlyJson(tempDir.resolve("first.json"), 2);
+        Path second = writeHourlyJson(tempDir.resolve("second.json"), 3);
+        Path empty = tempDir.resolve("empty.json");
+        Files.writeString(empty, "{\"latitude\": 1.0, \"longitude\": 2.0}");
+        when(weatherTransformer.transformDay(anyDouble(), anyDouble(), any(), any(), anyInt(),
+                isNull(), isNull(), isNull()))
+                .thenReturn(mockWeatherRecords.get(0));
+
+        WeatherEtlService.EtlResult result = weatherEtlService.processJsonFiles(
+                List.of(first, second, empty), false, true, null, null, 2);
+
+        assertFalse(result.isSuccess());
+        assertEquals(3, result.getFilesProcessed());
+        assertEquals(1, result.getFilesFailed());
+        assertEquals(5, result.getRecordsTransformed());
+        assertEquals("empty.json: No records were transformed from JSON data", result.getErrorMessage());
+        assertFalse(result.isDatabaseSaved());
+        verify(weatherDatabaseService, times(2)).saveWeatherRecords(ArgumentMatchers.<WeatherRecord>anyList());
+    }
+
+    @Test
+    @DisplayName("Should load long periods in independent chunks and retry a failed chunk alone")
+    void shouldLoadLongPeriodsInChunksAndRetryFailedChunkAlone() {
+        config.getApi().getChunk().setDays(31);
+        config.getApi().getRetry().setDelay(Duration.ofMillis(1));
+        LocalDate longStart = LocalDate.of(2024, 1, 1);
+        LocalDate longEnd = LocalDate.of(2024, 3, 10);
+        when(weatherApiClient.fetchWeatherDataReactive(any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(Mono.just(mockApiResponse));
+        when(weatherTransformer.transformColumnarData(mockApiResponse)).thenReturn(mockWeatherRecords);
+        when(weatherDatabaseService.saveWeatherRecords(mockWeatherRecords))
+                .thenThrow(new DatabaseOperationException("Connection reset", new RuntimeException()))
+                .thenReturn(UpsertCounts.NONE);
+
+        WeatherEtlService.EtlResult result = weatherEtlService.executeApiToDatabase(longStart, longEnd);
+
+        assertTrue(result.isSuccess());
+        assertTrue(result.isDatabaseSaved());
+        assertEquals(mockWeatherRecords.size() * 3, result.getRecordsTransformed());
+        verify(weatherApiClient, times(3)).fetchWeatherDataReactive(any(LocalDate.class), any(LocalDate.class));
+        verify(weatherTransformer, times(3)).transformColumnarData(mockApiResponse);
+        verify(weatherDatabaseService, times(4)).saveWeatherRecords(mockWeatherRecords);
+        verify(weatherApiClient, never()).fetchWeatherData(longStart, longEnd);
+    }
+
+    @Test
+    @DisplayName("Should remember the default location's grid cell from a chunked full load")
+    void shouldRememberDefaultGridCellFromChunkedLoad() {
+        config.getApi().getChunk().setDays(31);
+        LocalDate longStart = LocalDate.of(2024, 1, 1);
+        LocalDate longEnd = LocalDate.of(2024, 2, 15);
+        ColumnarWeatherResponse gridCell = ColumnarWeatherResponse.builder()
+                .latitude(40.75)
+                .longitude(-74.0)
+                .build();
+        when(weatherApiClient.fetchWeatherDataReactive(any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(Mono.just(gridCell));
+        when(weatherTransformer.transformColumnarData(gridCell)).thenReturn(mockWeatherRecords);
+        when(weatherDatabaseService.getLoadedDates(longStart, longEnd, 40.75, -74.0))
+                .thenReturn(longStart.datesUntil(longEnd.plusDays(1)).collect(Collectors.toSet()));
+
+        assertTrue(weatherEtlService.executeApiToDatabase(longStart, longEnd).isSuccess());
+        WeatherEtlService.EtlResult result = weatherEtlService.executeIncrementalToDatabase(longStart, longEnd, null);
+
+        assertTrue(result.isSuccess());
+        assertEquals(46, result.getDaysSkipped());
+        verify(weatherApiClient, never()).fetchWeatherData(anyDouble(), anyDouble(), any(LocalDate.class),
+                any(LocalDate.class));
+    }
+
+    @Test
+    @DisplayName("Should write chunk records to one CSV file in period order")
+    void shouldStreamChunksToOneCsvInOrder() throws Exception {
+        config.getApi().getChunk().setDays(31);
+        LocalDate longStart = LocalDate.of(2024, 1, 1);
+        LocalDate longEnd = LocalDate.of(2024, 2, 15);
+        ColumnarWeatherResponse february = ColumnarWeatherResponse.builder().build();
+        WeatherRecord februaryRecord = new WeatherRecord();
+        februaryRecord.setDate(LocalDate.of(2024, 2, 1));
+        when(weatherApiClient.fetchWeatherDataReactive(longStart, LocalDate.of(2024, 1, 31)))
+                .thenReturn(Mono.just(mockApiResponse).delayElement(Duration.ofMillis(50)));
+        when(weatherApiClient.fetchWeatherDataReactive(LocalDate.of(2024, 2, 1), longEnd))
+                .thenReturn(Mono.just(february));
+        when(weatherTransformer.transformColumnarData(mockApiResponse)).thenReturn(mockWeatherRecords);
+        when(weatherTransformer.transformColumnarData(february)).thenReturn(List.of(februaryRecord));
+        CsvExportService.CsvWriteStream csv = mock(CsvExportService.CsvWriteStream.class);
+        when(csvExportService.openCsv("/tmp/long.csv")).thenReturn(csv);
+
+        WeatherEtlService.EtlResult result = weatherEtlService.executeApiToCsv(longStart, longEnd, "/tmp/long.csv");
+
+        assertTrue(result.isSuccess());
+        assertTrue(result.isCsvExported());
+        InOrder inOrder = inOrder(csv);
+        for (WeatherRecord record : mockWeatherRecords) {
+            inOrder.verify(csv).write(record);
+        }
+        inOrder.verify(csv).write(februaryRecord);
+        inOrder.verify(csv).finish();
+        verify(csvExportService).openCsv("/tmp/long.csv");
+        verify(csvExportService, never()).exportToCsv(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should not retry chunks whose API request failed")
+    void shouldNotRetryChunksWhoseApiRequestFailed() {
+        config.getApi().getChunk().setDays(31);
+        config.getApi().getRetry().setDelay(Duration.ofMillis(1));
+        LocalDate longStart = LocalDate.of(2024, 1, 1);
+        LocalDate longEnd = LocalDate.of(2024, 2, 15);
+        when(weatherApiClient.fetchWeatherDataReactive(longStart, LocalDate.of(2024, 1, 31)))
+                .thenReturn(Mono.just(mockApiResponse));
+        when(weatherApiClient.fetchWeatherDataReactive(LocalDate.of(2024, 2, 1), longEnd))
+                .thenReturn(Mono.error(new WeatherApiException("HTTP 429", null)));
+        when(weatherTransformer.transformColumnarData(mockApiResponse)).thenReturn(mockWeatherRecords);
+
+        WeatherEtlService.EtlResult result = weatherEtlService.executeApiToDatabase(longStart, longEnd);
+
+        assertFalse(result.isSuccess());
+        assertEquals("1 of 2 chunks failed: 2024-02-01..2024-02-15: HTTP 429", result.getErrorMessage());
+        verify(weatherApiClient).fetchWeatherDataReactive(LocalDate.of(2024, 2, 1), longEnd);
+    }
+
+    @Test
+    @DisplayName("Should report failed chunks while keeping the loaded ones")
+    void shouldReportFailedChunksWhileKeepingLoadedOnes() {
+        config.getApi().getChunk().setDays(31);
+        config.getApi().getChunk().setMaxAttempts(1);
+        LocalDate longStart = LocalDate.of(2024, 1, 1);
+        LocalDate longEnd = LocalDate.of(2024, 2, 15);
+        when(weatherApiClient.fetchWeatherDataReactive(longStart, LocalDate.of(2024, 1, 31)))
+                .thenReturn(Mono.just(mockApiResponse));
+        when(weatherApiClient.fetchWeatherDataReactive(LocalDate.of(2024, 2, 1), longEnd))
+                .thenReturn(Mono.error(new WeatherApiException("HTTP 500", null)));
+        when(weatherTransformer.transformColumnarData(mockApiResponse)).thenReturn(mockWeatherRecords);
+
+        WeatherEtlService.EtlResult result = weatherEtlService.executeApiToDatabase(longStart, longEnd);
+
+        assertFalse(result.isSuccess());
+        assertFalse(result.isDatabaseSaved());
+        assertEquals(mockWeatherRecords.size(), result.getRecordsTransformed());
+        assertEquals("1 of 2 chunks failed: 2024-02-01..2024-02-15: HTTP 500", result.getErrorMessage());
+        verify(weatherDatabaseService).saveWeatherRecords(mockWeatherRecords);
+    }
+
+    @Test
+    @DisplayName("Should track fetched, transformed and loaded days per chunk")
+    void shouldTrackProgressPerChunk() {
+        config.getApi().getChunk().setDays(31);
+        LocalDate longStart = LocalDate.of(2024, 1, 1);
+        LocalDate longEnd = LocalDate.of(2024, 2, 15);
+        when(weatherApiClient.fetchWeatherDataReactive(longStart, LocalDate.of(2024, 1, 31)))
+                .thenReturn(Mono.just(mockApiResponse));
+        when(weatherApiClient.fetchWeatherDataReactive(LocalDate.of(2024, 2, 1), longEnd))
+                .thenReturn(Mono.just(mockApiResponse));
+        when(weatherTransformer.transformColumnarData(mockApiResponse)).thenReturn(mockWeatherRecords);
+        EtlProgress progress = new EtlProgress();
+
+        WeatherEtlService.EtlResult result = weatherEtlService.executeApiToDatabase(longStart, longEnd, null,
+                progress);
+
+        assertTrue(result.isSuccess());
+        assertEquals(46, progress.getDaysTotal());
+        assertEquals(46, progress.getDaysFetched());
+        assertEquals(46, progress.getDaysTransformed());
+        assertEquals(46, progress.getDaysLoaded());
+        assertEquals(mockWeatherRecords.size() * 2, progress.getRecordsLoaded());
+    }
+
+    @Test
+    @DisplayName("Should stop starting chunks once the run is cancelled")
+    void shouldStopStartingChunksOnceCancelled() {
+        config.getApi().getChunk().setDays(31);
+        config.getApi().getChunk().setParallelism(1);
+        LocalDate longStart = LocalDate.of(2024, 1, 1);
+        LocalDate longEnd = LocalDate.of(2024, 2, 15);
+        EtlProgress progress = new EtlProgress();
+        when(weatherApiClient.fetchWeatherDataReactive(longStart, LocalDate.of(2024, 1, 31)))
+                .thenReturn(Mono.just(mockApiResponse));
+        when(weatherTransformer.transformColumnarData(mockApiResponse)).thenReturn(mockWeatherRecords);
+        when(weatherDatabaseService.saveWeatherRecords(mockWeatherRecords)).thenAnswer(invocation -> {
+            progress.cancel();
+            return UpsertCounts.NONE;
+        });
+
+        WeatherEtlService.EtlResult result = weatherEtlService.executeApiToDatabase(longStart, longEnd, null,
+                progress);
+
+        assertFalse(result.isSuccess());
+        assertEquals("Cancelled after loading 31 of 46 days", result.getErrorMessage());
+        verify(weatherApiClient, never()).fetchWeatherDataReactive(LocalDate.of(2024, 2, 1), longEnd);
+    }
+
+    private Path writeHourlyJson(Path path, int days) throws Exception {
+        StringBuilder time = new StringBuilder();
+        StringBuilder temperature = new StringBuilder();
+        for (int hour = 0; hour < days * 24; hour++) {
+            String separator = hour == 0 ? "" : ",";
+            time.append(separator).append(1_704_067_200L + hour * 3_600L);
+            temperature.append(separator).append(40.0 + hour % 24);
+        }
+        Files.writeString(path, "{\"latitude\": 55.0, \"longitude\": 82.0, \"hourly\": {\"time\": [" + time
+                + "], \"temperature_2m\": [" + temperature + "]}}");
+        return path;
+    }
+
+    private ColumnarWeatherResponse createMockApiResponse() {
+        return ColumnarWeatherResponse.builder()
                 .latitude(40.7128)
                 .longitude(-74.0060)
                 .generationTimeMs(123.45)
-                .hourly(createMockHourlyData())
+                .hourly(HourlyColumns.from(createMockHourlyData()))
                 .daily(createMockDailyData())
                 .build();
     }
@@ -0,0 +1,93 @@
+package com.weatheretl.service;
+
+import com.weatheretl.config.ResponseCacheConfig;
+import com.weatheretl.config.WeatherEtlConfig;
+import com.weatheretl.model.api.WeatherApiModels.ColumnarWeatherResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Weather Response Cache Tests")
+class WeatherResponseCacheTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END = LocalDate.of(2024, 1, 31);
+    private static final Map<String, Object> PARAMS = Map.of(
+            "latitude", 55.0344,
+            "longitude", 82.9434,
+            "hourly", "temperature_2m,rain",
+            "timezone", "GMT");
+
+    private WeatherEtlConfig config;
+    private WeatherResponseCache responseCache;
+    private ColumnarWeatherResponse response;
+
+    @BeforeEach
+    void setUp() {
+        config = new WeatherEtlConfig();
+        responseCache = new WeatherResponseCache(new ResponseCacheConfig().cacheManager(config), config);
+        response = ColumnarWeatherResponse.builder().latitude(55.0344).longitude(82.9434).build();
+    }
+
+    @Test
+    @DisplayName("Should return stored response for the same location, period and variables")
+    void shouldReturnStoredResponseForSameKey() {
+        assertThat(responseCache.get(55.0344, 82.9434, START, END, PARAMS)).isNull();
+
+        responseCache.put(55.0344, 82.9434, START, END, PARAMS, response);
+
+        assertThat(responseCache.get(55.0344, 82.9434, START, END, PARAMS)).isSameAs(response);
+        assertThat(responseCache.get(55.0344, 82.9434, START, END.minusDays(1), PARAMS)).isNull();
+        assertThat(responseCache.get(55.0, 82.9434, START, END, PARAMS)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should key entries by requested variable set")
+    void shouldKeyEntriesByRequestedVariableSet() {
+        responseCache.put(55.0344, 82.9434, START, END, PARAMS, response);
+
+        Map<String, Object> otherVariables = Map.of("hourly", "temperature_2m", "timezone", "GMT");
+        assertThat(responseCache.get(55.0344, 82.9434, START, END, otherVariables)).isNull();
+        Map<String, Object> sameVariables = Map.of("timezone", "GMT", "hourly", "temperature_2m,rain");
+        assertThat(responseCache.get(55.0344, 82.9434, START, END, sameVariables)).isSameAs(response);
+    }
+
+    @Test
+    @DisplayName("Should bypass cache when disabled")
+    void shouldBypassCacheWhenDisabled() {
+        config.getApi().getCache().setEnabled(false);
+
+        responseCache.put(55.0344, 82.9434, START, END, PARAMS, response);
+
+        assertThat(responseCache.get(55.0344, 82.9434, START, END, PARAMS)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should expire recent ranges after forecast TTL and archived ranges after historical TTL")
+    void shouldChooseTtlByRangeEnd() {
+        Clock clock = Clock.fixed(Instant.parse("2024-06-15T12:00:00Z"), ZoneOffset.UTC);
+        WeatherResponseCache.TtlPolicy policy = new WeatherResponseCache.TtlPolicy(
+                Duration.ofMinutes(15), Duration.ofHours(24), clock);
+
+        assertThat(policy.expireAfterCreate(key(LocalDate.of(2024, 6, 1)), response, 0))
+                .isEqualTo(Duration.ofHours(24).toNanos());
+        assertThat(policy.expireAfterCreate(key(LocalDate.of(2024, 6, 14)), response, 0))
+                .isEqualTo(Duration.ofMinutes(15).toNanos());
+        assertThat(policy.expireAfterCreate(key(LocalDate.of(2024, 6, 20)), response, 0))
+                .isEqualTo(Duration.ofMinutes(15).toNanos());
+        assertThat(policy.expireAfterRead(key(LocalDate.of(2024, 6, 1)), response, 0, 42L)).isEqualTo(42L);
+    }
+
+    private static WeatherResponseCache.ResponseKey key(LocalDate endDate) {
+        return WeatherResponseCache.ResponseKey.of(55.0344, 82.9434, START, endDate, PARAMS);
+    }
+}
@@ -1,5 +1,7 @@
 package com.weatheretl.service;
 
+import com.weatheretl.model.api.HourlyColumns;
+import com.weatheretl.model.api.WeatherApiModels.ColumnarWeatherResponse;
 import com.weatheretl.model.api.WeatherApiModels.DailyData;
 import com.weatheretl.model.api.WeatherApiModels.HourlyData;
 import com.weatheretl.model.api.WeatherApiModels.WeatherApiResponse;
@@ -326,6 +328,23 @@ class WeatherTransformerTest {
         }
     }
 
+    @Test
+    @DisplayName("Should produce the same records from columnar hourly data")
+    void shouldProduceSameRecordsFromColumnarHourlyData() {
+        ColumnarWeatherResponse columnarResponse = ColumnarWeatherResponse.builder()
+                .latitude(40.7128)
+                .longitude(-74.0060)
+                .hourly(HourlyColumns.from(validHourlyData))
+                .daily(validDailyData)
+                .build();
+        List<WeatherRecord> expected = weatherTransformer.transformWeatherData(validApiResponse);
+        List<WeatherRecord> records = weatherTransformer.transformColumnarData(columnarResponse);
+        assertThat(records).hasSize(expected.size());
+        assertThat(records)
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("createdAt")
+                .containsExactlyElementsOf(expected);
+    }
+
     private WeatherApiResponse createValidApiResponse() {
         return WeatherApiResponse.builder()
                 .latitude(40.7128)
@@ -0,0 +1,61 @@
+package com.weatheretl.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Date Range Tests")
+class DateRangeTest {
+
+    @Test
+    @DisplayName("Should split range into consecutive chunks with a shorter tail")
+    void shouldSplitRangeIntoConsecutiveChunks() {
+        DateRange range = new DateRange(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 10));
+
+        List<DateRange> chunks = range.split(31);
+
+        assertThat(chunks).containsExactly(
+                new DateRange(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)),
+                new DateRange(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 2)),
+                new DateRange(LocalDate.of(2024, 3, 3), LocalDate.of(2024, 3, 10)));
+        assertThat(chunks.stream().mapToLong(DateRange::days).sum()).isEqualTo(range.days());
+    }
+
+    @Test
+    @DisplayName("Should keep a single range when chunking is disabled or not needed")
+    void shouldKeepSingleRangeWhenChunkingIsDisabledOrNotNeeded() {
+        DateRange range = new DateRange(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 3));
+
+        assertThat(range.split(0)).containsExactly(range);
+        assertThat(range.split(3)).containsExactly(range);
+        assertThat(range.days()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should return consecutive gaps around excluded days")
+    void shouldReturnConsecutiveGapsAroundExcludedDays() {
+        DateRange range = new DateRange(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 10));
+
+        List<DateRange> gaps = range.without(Set.of(
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 4), LocalDate.of(2024, 1, 5),
+                LocalDate.of(2024, 1, 10), LocalDate.of(2023, 12, 31)));
+
+        assertThat(gaps).containsExactly(
+                new DateRange(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 3)),
+                new DateRange(LocalDate.of(2024, 1, 6), LocalDate.of(2024, 1, 9)));
+        assertThat(range.without(Set.of())).containsExactly(range);
+    }
+
+    @Test
+    @DisplayName("Should reject start after end")
+    void shouldRejectStartAfterEnd() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DateRange(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 1)));
+    }
+}
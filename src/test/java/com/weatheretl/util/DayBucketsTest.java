@@ -0,0 +1,91 @@
+package com.weatheretl.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DayBuckets Tests")
+class DayBucketsTest {
+
+    @Test
+    @DisplayName("Should group sorted hourly timestamps into contiguous day ranges")
+    void shouldGroupSortedTimestampsIntoContiguousRanges() {
+        DayBuckets buckets = DayBuckets.of(Arrays.asList(
+                1704067200L, // 2024-01-01 00:00:00 UTC
+                1704070800L, // 2024-01-01 01:00:00 UTC
+                1704153600L, // 2024-01-02 00:00:00 UTC
+                1704157200L, // 2024-01-02 01:00:00 UTC
+                1704240000L  // 2024-01-03 00:00:00 UTC
+        ));
+        assertThat(buckets.size()).isEqualTo(3);
+        assertThat(buckets.date(0)).isEqualTo(LocalDate.of(2024, 1, 1));
+        assertThat(buckets.start(0)).isEqualTo(0);
+        assertThat(buckets.end(0)).isEqualTo(2);
+        assertThat(buckets.date(1)).isEqualTo(LocalDate.of(2024, 1, 2));
+        assertThat(buckets.start(1)).isEqualTo(2);
+        assertThat(buckets.end(1)).isEqualTo(4);
+        assertThat(buckets.date(2)).isEqualTo(LocalDate.of(2024, 1, 3));
+        assertThat(buckets.start(2)).isEqualTo(4);
+        assertThat(buckets.end(2)).isEqualTo(5);
+        assertThat(buckets.hourIndex(3)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should find bucket by date")
+    void shouldFindBucketByDate() {
+        DayBuckets buckets = DayBuckets.of(Arrays.asList(1704067200L, 1704153600L));
+        assertThat(buckets.indexOf(LocalDate.of(2024, 1, 1))).isEqualTo(0);
+        assertThat(buckets.indexOf(LocalDate.of(2024, 1, 2))).isEqualTo(1);
+        assertThat(buckets.indexOf(LocalDate.of(2024, 1, 5))).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should group unsorted timestamps and skip null entries")
+    void shouldGroupUnsortedTimestampsAndSkipNulls() {
+        DayBuckets buckets = DayBuckets.of(Arrays.asList(
+                1704153600L, // 2024-01-02
+                1704067200L, // 2024-01-01
+                null,
+                1704157200L, // 2024-01-02
+                1704070800L  // 2024-01-01
+        ));
+        assertThat(buckets.size()).isEqualTo(2);
+        assertThat(buckets.date(0)).isEqualTo(LocalDate.of(2024, 1, 1));
+        assertThat(hourIndices(buckets, 0)).containsExactly(1, 4);
+        assertThat(buckets.date(1)).isEqualTo(LocalDate.of(2024, 1, 2));
+        assertThat(hourIndices(buckets, 1)).containsExactly(0, 3);
+    }
+
+    @Test
+    @DisplayName("Should handle timestamps before the epoch")
+    void shouldHandleTimestampsBeforeEpoch() {
+        DayBuckets buckets = DayBuckets.of(Arrays.asList(-3600L, 0L));
+        assertThat(buckets.size()).isEqualTo(2);
+        assertThat(buckets.date(0)).isEqualTo(LocalDate.of(1969, 12, 31));
+        assertThat(buckets.date(1)).isEqualTo(LocalDate.of(1970, 1, 1));
+    }
+
+    @Test
+    @DisplayName("Should return empty buckets for null or empty series")
+    void shouldReturnEmptyBucketsForNullOrEmptySeries() {
+        assertThat(DayBuckets.of((List<Long>) null).isEmpty()).isTrue();
+        assertThat(DayBuckets.of((long[]) null).isEmpty()).isTrue();
+        assertThat(DayBuckets.of(Collections.emptyList()).isEmpty()).isTrue();
+        assertThat(DayBuckets.of(Arrays.asList(null, null)).isEmpty()).isTrue();
+    }
+
+    private List<Integer> hourIndices(DayBuckets buckets, int bucket) {
+        List<Integer> indices = new ArrayList<>();
+        for (int position = buckets.start(bucket); position < buckets.end(bucket); position++) {
+            indices.add(buckets.hourIndex(position));
+        }
+        return indices;
+    }
+}
@@ -0,0 +1,61 @@
+package com.weatheretl.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("File Globs Tests")
+class FileGlobsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should detect glob wildcards")
+    void shouldDetectGlobWildcards() {
+        assertThat(FileGlobs.isGlob("/data/*.json")).isTrue();
+        assertThat(FileGlobs.isGlob("/data/2024-0?.json")).isTrue();
+        assertThat(FileGlobs.isGlob("/data/{a,b}.json")).isTrue();
+        assertThat(FileGlobs.isGlob("/data/weather.json")).isFalse();
+        assertThat(FileGlobs.isGlob(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should expand single-level glob in sorted order")
+    void shouldExpandSingleLevelGlobInSortedOrder() throws Exception {
+        Path march = Files.writeString(tempDir.resolve("2024-03.json"), "{}");
+        Path january = Files.writeString(tempDir.resolve("2024-01.json"), "{}");
+        Files.writeString(tempDir.resolve("readme.txt"), "");
+        Files.createDirectories(tempDir.resolve("nested"));
+        Files.writeString(tempDir.resolve("nested/2024-02.json"), "{}");
+
+        List<Path> files = FileGlobs.expand(tempDir + "/*.json");
+
+        assertThat(files).containsExactly(january, march);
+    }
+
+    @Test
+    @DisplayName("Should expand recursive glob")
+    void shouldExpandRecursiveGlob() throws Exception {
+        Files.createDirectories(tempDir.resolve("2024/01"));
+        Path nested = Files.writeString(tempDir.resolve("2024/01/weather.json"), "{}");
+        Files.writeString(tempDir.resolve("2024/01/weather.csv"), "");
+
+        assertThat(FileGlobs.expand(tempDir + "/**/*.json")).containsExactly(nested);
+    }
+
+    @Test
+    @DisplayName("Should return plain existing file and nothing for missing base directory")
+    void shouldReturnPlainFileAndNothingForMissingBase() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("weather.json"), "{}");
+
+        assertThat(FileGlobs.expand(file.toString())).containsExactly(file);
+        assertThat(FileGlobs.expand(tempDir + "/missing/*.json")).isEmpty();
+    }
+}
@@ -144,23 +144,6 @@ class WeatherConverterTest {
         assertThat(sum).isEqualTo(60.0);
     }
 
-    @Test
-    @DisplayName("Should get daylight indices correctly")
-    void shouldGetDaylightIndicesCorrectly() {
-        List<Long> timestamps = Arrays.asList(
-                1716768000L,
-                1716789600L,
-                1716811200L,
-                1716832800L,
-                1716854400L
-        );
-        Long sunriseTimestamp = 1716786000L;
-        Long sunsetTimestamp = 1716829200L;
-        List<Integer> daylightIndices = WeatherConverter.getDaylightIndices(
-                timestamps, sunriseTimestamp, sunsetTimestamp);
-        assertThat(daylightIndices).containsExactly(1, 2);
-    }
-
     @Test
     @DisplayName("Should calculate daylight average correctly")
     void shouldCalculateDaylightAverageCorrectly() {
@@ -179,6 +162,18 @@ class WeatherConverterTest {
         assertThat(average).isEqualTo(25.0);
     }
 
+    @Test
+    @DisplayName("Should find daylight window by binary search")
+    void shouldFindDaylightWindowByBinarySearch() {
+        long[] timestamps = {1716768000L, 1716789600L, 1716811200L, 1716829200L, 1716854400L};
+        WeatherConverter.DaylightWindow window = WeatherConverter.findDaylightWindow(
+                timestamps, 1716786000L, 1716829200L);
+        assertThat(window.from()).isEqualTo(1);
+        assertThat(window.to()).isEqualTo(4);
+        assertThat(WeatherConverter.findDaylightWindow(timestamps, 1716860000L, 1716870000L).isEmpty()).isTrue();
+        assertThat(WeatherConverter.findDaylightWindow(timestamps, 1716829200L, 1716786000L).isEmpty()).isTrue();
+    }
+
     @Test
     @DisplayName("Should round values correctly")
     void shouldRoundValuesCorrectly() {